@@ -0,0 +1,111 @@
+import groovy.json.JsonSlurper
+
+plugins {
+  id("io.freefair.lombok") version "9.2.0"
+  id("java-quality")
+  alias(libs.plugins.jmh)
+}
+
+dependencies {
+  jmhImplementation(platform(libs.spring.boot.bom))
+
+  jmhImplementation(project(":backend:onboard-core"))
+  jmhImplementation(project(":backend:onboard-registration"))
+
+  jmhImplementation(libs.spring.boot.starter.web)
+  jmhImplementation(libs.spring.boot.starter.data.jpa)
+  jmhImplementation(libs.jackson.dataformat.smile)
+  jmhImplementation("org.aspectj:aspectjweaver")
+  jmhRuntimeOnly(libs.h2)
+}
+
+// Run with ./gradlew :backend:onboard-benchmarks:jmh, then jmhCompareBaseline.
+// -PjmhIncludes=<regex> narrows the run to matching benchmarks.
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/jmh-baseline.json")
+
+jmh {
+  warmupIterations = 3
+  iterations = 5
+  fork = 1
+  resultFormat = "JSON"
+  resultsFile = jmhResults
+  project.findProperty("jmhIncludes")?.toString()?.let { includes = listOf(it) }
+}
+
+/**
+ * Fails when a benchmark got slower than the stored baseline by more than the threshold.
+ *
+ * Entries are matched on benchmark name and parameters; benchmarks missing on either side are only
+ * reported, so adding or removing one does not break the comparison.
+ */
+abstract class JmhBaselineComparison : DefaultTask() {
+  @get:InputFile abstract val results: RegularFileProperty
+
+  @get:InputFile abstract val baseline: RegularFileProperty
+
+  @get:Input abstract val threshold: Property<Double>
+
+  @TaskAction
+  fun compare() {
+    val current = scores(results.get().asFile)
+    val stored = scores(baseline.get().asFile)
+    val regressions = mutableListOf<String>()
+    for ((key, score) in current.toSortedMap()) {
+      val base = stored[key]
+      if (base == null) {
+        logger.lifecycle("NEW        $key: %.3f %s".format(score.value, score.unit))
+        continue
+      }
+      // Throughput modes are better when higher, time modes when lower.
+      val change =
+          if (score.mode == "thrpt") (base.value - score.value) / base.value
+          else (score.value - base.value) / base.value
+      val verdict = if (change > threshold.get()) "REGRESSED" else "ok"
+      logger.lifecycle(
+          "%-10s %s: %.3f -> %.3f %s (%+.1f%%)"
+              .format(verdict, key, base.value, score.value, score.unit, change * 100))
+      if (change > threshold.get()) {
+        regressions += key
+      }
+    }
+    (stored.keys - current.keys).sorted().forEach { logger.lifecycle("MISSING    $it") }
+    if (regressions.isNotEmpty()) {
+      throw GradleException(
+          "${regressions.size} benchmark(s) regressed beyond ${threshold.get() * 100}%: " +
+              regressions.joinToString())
+    }
+  }
+
+  private data class Score(val mode: String, val value: Double, val unit: String)
+
+  @Suppress("UNCHECKED_CAST")
+  private fun scores(file: java.io.File): Map<String, Score> {
+    val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+    return runs.associate { run ->
+      val params = (run["params"] as Map<String, Any?>?)?.toSortedMap()?.toString() ?: ""
+      val metric = run["primaryMetric"] as Map<String, Any?>
+      "${run["benchmark"]}$params" to
+          Score(
+              run["mode"].toString(),
+              (metric["score"] as Number).toDouble(),
+              metric["scoreUnit"].toString())
+    }
+  }
+}
+
+tasks.register<JmhBaselineComparison>("jmhCompareBaseline") {
+  group = "benchmark"
+  description = "Compares the last JMH results with baseline/jmh-baseline.json."
+  results = jmhResults
+  baseline = jmhBaseline
+  threshold = project.findProperty("jmhRegressionThreshold")?.toString()?.toDouble() ?: 0.10
+}
+
+tasks.register<Copy>("jmhSaveBaseline") {
+  group = "benchmark"
+  description = "Stores the last JMH results as the new baseline."
+  from(jmhResults)
+  into(jmhBaseline.asFile.parentFile)
+  rename { jmhBaseline.asFile.name }
+}
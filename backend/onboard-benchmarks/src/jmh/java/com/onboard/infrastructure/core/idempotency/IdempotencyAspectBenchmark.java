@@ -0,0 +1,139 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.type.TypeFactory;
+
+/**
+ * Compares the idempotency aspect's per-call work before and after per-method metadata caching,
+ * and measures a replayed call through the woven aspect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdempotencyAspectBenchmark {
+
+  private final TypeFactory typeFactory = JsonMapper.builder().build().getTypeFactory();
+  private final ExpressionParser spelParser = new SpelExpressionParser();
+  private final ParameterNameDiscoverer parameterNameDiscoverer =
+      new DefaultParameterNameDiscoverer();
+  private final Map<Method, IdempotentMethodMetadata> methodMetadata = new ConcurrentHashMap<>();
+
+  private Method method;
+  private Idempotent idempotent;
+  private Object[] args;
+  private InMemoryIdempotencyService idempotencyService;
+  private SampleService proxiedService;
+
+  /**
+   * Resolves the sample method.
+   *
+   * @throws NoSuchMethodException never, the method is declared below
+   */
+  @Setup
+  public void setUp() throws NoSuchMethodException {
+    method = SampleService.class.getMethod("submit", String.class, String.class);
+    idempotent = method.getAnnotation(Idempotent.class);
+    args = new Object[] {"0190f0c4-1f7e-7c3a-9b8e-3f1d2c4b5a69", "ready for review"};
+
+    JsonMapper objectMapper = JsonMapper.builder().build();
+    idempotencyService = new InMemoryIdempotencyService(objectMapper);
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+    proxyFactory.addAspect(
+        new IdempotencyAspect(idempotencyService, new PlatformProperties(), objectMapper));
+    proxiedService = proxyFactory.getProxy();
+    // The first call stores the response; every measured call replays it.
+    proxiedService.submit((String) args[0], (String) args[1]);
+  }
+
+  /** Stops the in-memory store's sweeper. */
+  @TearDown
+  public void tearDown() {
+    idempotencyService.close();
+  }
+
+  /**
+   * Parses the expression, rediscovers parameter names and rebuilds the return type on each call,
+   * as the aspect did before caching.
+   *
+   * @param blackhole sink for computed values
+   */
+  @Benchmark
+  public void perCallResolution(Blackhole blackhole) {
+    StandardEvaluationContext context = new StandardEvaluationContext();
+    context.setVariable("args", args);
+    String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
+    if (parameterNames != null) {
+      for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+        context.setVariable(parameterNames[i], args[i]);
+      }
+    }
+    blackhole.consume(spelParser.parseExpression(idempotent.key()).getValue(context));
+    blackhole.consume(idempotent.namespace());
+    blackhole.consume(Duration.ofMillis(idempotent.timeUnit().toMillis(idempotent.expire())));
+    blackhole.consume(typeFactory.constructType(method.getGenericReturnType()));
+  }
+
+  /**
+   * Looks up cached metadata and evaluates the compiled expression.
+   *
+   * @param blackhole sink for computed values
+   */
+  @Benchmark
+  public void cachedMetadata(Blackhole blackhole) {
+    IdempotentMethodMetadata metadata =
+        methodMetadata.computeIfAbsent(
+            method, key -> IdempotentMethodMetadata.of(key, idempotent, typeFactory));
+    blackhole.consume(metadata.resolveKey(args));
+    blackhole.consume(metadata.namespace());
+    blackhole.consume(metadata.ttl());
+    blackhole.consume(metadata.returnType());
+  }
+
+  /**
+   * Calls the proxied service with a key that is already stored, so the aspect resolves the key and
+   * decodes the stored response without running the method.
+   *
+   * @return replayed response
+   */
+  @Benchmark
+  public Map<String, Object> aspectReplay() {
+    return proxiedService.submit((String) args[0], (String) args[1]);
+  }
+
+  /** Stand-in for an annotated application service. */
+  public static class SampleService {
+
+    /**
+     * Sample idempotent operation.
+     *
+     * @param formId form id
+     * @param note submission note
+     * @return result
+     */
+    @Idempotent(key = "'submit:' + #args[0]", namespace = "benchmark.submit")
+    public Map<String, Object> submit(String formId, String note) {
+      return Map.of("formId", formId, "note", note);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.IdempotencyProperties;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the encode and decode work of {@link AbstractIdempotencyService} per codec: a first call
+ * serializes and stores the response, a replay reads and deserializes it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IdempotencyServiceBenchmark {
+
+  private static final Duration TTL = Duration.ofMinutes(10);
+  private static final String REPLAY_KEY = "replay";
+
+  @Param({"json", "smile"})
+  public String codec;
+
+  private final AtomicLong keySequence = new AtomicLong();
+
+  private InMemoryIdempotencyService service;
+  private JavaType responseType;
+  private Map<String, Object> response;
+
+  /** Creates the service and stores the response used by the replay benchmark. */
+  @Setup
+  public void setUp() {
+    JsonMapper objectMapper = JsonMapper.builder().build();
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setCodec(codec);
+    properties.setWriteEnvelope(true);
+    properties.setReserveKeys(true);
+    service = new InMemoryIdempotencyService(objectMapper, properties);
+    responseType =
+        objectMapper.getTypeFactory().constructMapType(Map.class, String.class, Object.class);
+    response = sampleResponse();
+    service.execute("benchmark", REPLAY_KEY, TTL, responseType, () -> response);
+  }
+
+  /** Stops the in-memory store's sweeper. */
+  @TearDown
+  public void tearDown() {
+    service.close();
+  }
+
+  /**
+   * Runs a call with a fresh key: reserve, serialize and store.
+   *
+   * @return stored response
+   */
+  @Benchmark
+  public Map<String, Object> firstCall() {
+    String key = Long.toString(keySequence.incrementAndGet());
+    return service.execute("benchmark", key, TTL, responseType, () -> response);
+  }
+
+  /**
+   * Replays the stored response: read and deserialize.
+   *
+   * @return replayed response
+   */
+  @Benchmark
+  public Map<String, Object> replay() {
+    return service.execute("benchmark", REPLAY_KEY, TTL, responseType, () -> response);
+  }
+
+  /** Builds a response shaped like a registration form DTO. */
+  private static Map<String, Object> sampleResponse() {
+    Map<String, Object> address = new LinkedHashMap<>();
+    address.put("line1", "221B Baker Street");
+    address.put("city", "London");
+    address.put("postalCode", "NW1 6XE");
+    Map<String, Object> formContent = new LinkedHashMap<>();
+    formContent.put("firstName", "Taylor");
+    formContent.put("lastName", "Morgan");
+    formContent.put("email", "taylor.morgan@example.com");
+    formContent.put("monthlyIncome", 5_400);
+    formContent.put("address", address);
+    formContent.put("products", List.of("SAVINGS", "CARD", "LOAN"));
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("id", "0190f0c4-1f7e-7c3a-9b8e-3f1d2c4b5a69");
+    response.put("referenceNo", "REG-2026-000123");
+    response.put("productCode", "SAVINGS");
+    response.put("status", "DRAFT");
+    response.put("formContent", formContent);
+    response.put("createdAt", "2026-03-01T10:15:30Z");
+    response.put("updatedAt", "2026-03-01T10:15:30Z");
+    return response;
+  }
+}
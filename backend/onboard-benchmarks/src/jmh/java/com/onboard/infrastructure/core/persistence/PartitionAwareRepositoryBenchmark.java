@@ -0,0 +1,135 @@
+package com.onboard.infrastructure.core.persistence;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.PersistenceConfiguration;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+
+/**
+ * Measures {@link PartitionAwareRepositoryImpl} lookups against an in-memory H2 database: the
+ * criteria query built from partition hints compared with the plain ID lookup it falls back to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartitionAwareRepositoryBenchmark {
+
+  private static final int ROWS = 1_000;
+  private static final long LOOKUP_ID = 500;
+  private static final LocalDate LOOKUP_DATE = LocalDate.of(2026, 1, 1).plusDays(LOOKUP_ID % 365);
+
+  private EntityManagerFactory entityManagerFactory;
+  private EntityManager entityManager;
+  private PartitionAwareRepositoryImpl<PartitionedRecord, Long> repository;
+  private PartitionHint exactHint;
+  private PartitionHint rangeHint;
+
+  /** Creates the schema and loads the sample rows. */
+  @Setup
+  public void setUp() {
+    entityManagerFactory =
+        new PersistenceConfiguration("partition-benchmark")
+            .managedClass(PartitionedRecord.class)
+            .property(
+                PersistenceConfiguration.JDBC_URL,
+                "jdbc:h2:mem:partition-benchmark;DB_CLOSE_DELAY=-1")
+            .property(PersistenceConfiguration.JDBC_USER, "sa")
+            .property(PersistenceConfiguration.JDBC_PASSWORD, "")
+            .property(PersistenceConfiguration.SCHEMAGEN_DATABASE_ACTION, "drop-and-create")
+            .createEntityManagerFactory();
+    entityManager = entityManagerFactory.createEntityManager();
+    entityManager.getTransaction().begin();
+    for (long id = 1; id <= ROWS; id++) {
+      entityManager.persist(
+          new PartitionedRecord(
+              id, id % 2 == 0 ? "EU" : "US", LocalDate.of(2026, 1, 1).plusDays(id % 365)));
+    }
+    entityManager.getTransaction().commit();
+    entityManager.clear();
+
+    repository =
+        new PartitionAwareRepositoryImpl<>(
+            JpaEntityInformationSupport.getEntityInformation(
+                PartitionedRecord.class, entityManager),
+            entityManager);
+    exactHint = PartitionHint.builder().exact("region", "EU").in("region", List.of("EU", "US"));
+    rangeHint =
+        PartitionHint.builder()
+            .between("createdOn", LOOKUP_DATE.minusDays(7), LOOKUP_DATE.plusDays(7));
+  }
+
+  /** Closes the persistence unit. */
+  @TearDown
+  public void tearDown() {
+    entityManager.close();
+    entityManagerFactory.close();
+  }
+
+  /**
+   * Looks up by ID with list-partition predicates.
+   *
+   * @return found record
+   */
+  @Benchmark
+  public Optional<PartitionedRecord> findByIdWithExactHint() {
+    return repository.findById(LOOKUP_ID, exactHint);
+  }
+
+  /**
+   * Looks up by ID with a range-partition predicate.
+   *
+   * @return found record
+   */
+  @Benchmark
+  public Optional<PartitionedRecord> findByIdWithRangeHint() {
+    return repository.findById(LOOKUP_ID, rangeHint);
+  }
+
+  /**
+   * Looks up by ID without hints, which skips criteria building entirely.
+   *
+   * @return found record
+   */
+  @Benchmark
+  public Optional<PartitionedRecord> findByIdWithoutHint() {
+    // Evict first so the lookup reaches the database like the criteria queries do.
+    entityManager.clear();
+    return repository.findById(LOOKUP_ID, PartitionHint.none());
+  }
+
+  /** Row of a table partitioned by region and creation date. */
+  @Getter
+  @Entity
+  @Table(name = "partitioned_record")
+  public static class PartitionedRecord {
+
+    @Id private Long id;
+    private String region;
+    private LocalDate createdOn;
+
+    /** Creates an empty record for JPA. */
+    protected PartitionedRecord() {}
+
+    PartitionedRecord(Long id, String region, LocalDate createdOn) {
+      this.id = id;
+      this.region = region;
+      this.createdOn = createdOn;
+    }
+  }
+}
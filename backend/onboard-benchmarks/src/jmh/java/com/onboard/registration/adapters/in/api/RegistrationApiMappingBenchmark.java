@@ -0,0 +1,166 @@
+package com.onboard.registration.adapters.in.api;
+
+import com.onboard.registration.application.port.in.OnboardRegistrationReadService;
+import com.onboard.registration.application.port.in.OnboardRegistrationWriteService;
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormPage;
+import com.onboard.registration.domain.model.RegistrationFormSamples;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.model.RegistrationFormTransition;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
+import com.onboard.registration.domain.vo.FormData;
+import com.onboard.registration.generated.model.RegistrationFormDto;
+import com.onboard.registration.generated.model.RegistrationFormExportFormatDto;
+import com.onboard.registration.generated.model.RegistrationFormPageDto;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the domain-to-DTO mapping of {@link OnboardRegistrationApiResource}, for one form and
+ * for a page, and the export encoding of a page of forms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegistrationApiMappingBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  private OnboardRegistrationApiResource resource;
+
+  /** Wires the resource to services returning fixed forms. */
+  @Setup
+  public void setUp() {
+    RegistrationForm form = RegistrationFormSamples.form(1);
+    List<RegistrationForm> items =
+        IntStream.range(0, PAGE_SIZE).mapToObj(RegistrationFormSamples::form).toList();
+    RegistrationFormPage page = new RegistrationFormPage(items, 0, PAGE_SIZE, null, null, null);
+    resource =
+        new OnboardRegistrationApiResource(
+            new FixedReadService(form, page),
+            new UnsupportedWriteService(),
+            (lines, sink) -> {
+              throw new UnsupportedOperationException();
+            },
+            JsonMapper.builder().build());
+  }
+
+  /**
+   * Maps one form.
+   *
+   * @return response with the mapped form
+   */
+  @Benchmark
+  public ResponseEntity<RegistrationFormDto> detail() {
+    return resource.getRegistrationFormDetail("form");
+  }
+
+  /**
+   * Maps a page of forms.
+   *
+   * @return response with the mapped page
+   */
+  @Benchmark
+  public ResponseEntity<RegistrationFormPageDto> page() {
+    return resource.listRegistrationForms(null, null, 0, PAGE_SIZE, null, false);
+  }
+
+  /**
+   * Encodes a page of forms as NDJSON, discarding the bytes.
+   *
+   * @throws IOException never, the output is discarded
+   */
+  @Benchmark
+  public void exportNdjson() throws IOException {
+    export(RegistrationFormExportFormatDto.NDJSON);
+  }
+
+  /**
+   * Encodes a page of forms as CSV, discarding the bytes.
+   *
+   * @throws IOException never, the output is discarded
+   */
+  @Benchmark
+  public void exportCsv() throws IOException {
+    export(RegistrationFormExportFormatDto.CSV);
+  }
+
+  private void export(RegistrationFormExportFormatDto format) throws IOException {
+    resource
+        .exportRegistrationForms(format, null, null, null)
+        .getBody()
+        .writeTo(OutputStream.nullOutputStream());
+  }
+
+  private record FixedReadService(RegistrationForm form, RegistrationFormPage page)
+      implements OnboardRegistrationReadService {
+
+    @Override
+    public RegistrationForm getRegistrationFormDetail(String formId) {
+      return form;
+    }
+
+    @Override
+    public RegistrationFormPage listRegistrationForms(
+        RegistrationFormStatus status,
+        String keyword,
+        Integer page,
+        Integer size,
+        boolean includeTotal) {
+      return this.page;
+    }
+
+    @Override
+    public RegistrationFormPage listRegistrationFormsAfter(
+        RegistrationFormStatus status, String keyword, String cursor, Integer size) {
+      return page;
+    }
+
+    @Override
+    public void exportRegistrationForms(
+        RegistrationFormStatus status,
+        Instant updatedFrom,
+        Instant updatedTo,
+        Consumer<RegistrationForm> sink) {
+      page.items().forEach(sink);
+    }
+  }
+
+  private static final class UnsupportedWriteService implements OnboardRegistrationWriteService {
+
+    @Override
+    public RegistrationForm createRegistrationForm(String productCode, FormData formContent) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public RegistrationForm updateRegistrationForm(String formId, FormData formContent) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public RegistrationForm submitRegistrationForm(String formId, String submissionNote) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<RegistrationFormTransitionResult> transitionRegistrationForms(
+        List<String> formIds, RegistrationFormTransition transition, String submissionNote) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.onboard.registration.domain.model;
+
+import com.onboard.registration.domain.vo.FormData;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Measures the {@link RegistrationForm} operations on the read and write paths: construction, which
+ * shares the immutable content, keyword matching used by list filtering, and taking a modifiable
+ * copy of the content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RegistrationFormBenchmark {
+
+  private static final Instant NOW = Instant.parse("2026-03-01T10:15:30Z");
+
+  private FormData formContent;
+  private RegistrationForm form;
+
+  /** Builds the sample form. */
+  @Setup
+  public void setUp() {
+    formContent = RegistrationFormSamples.formContent(1);
+    form = RegistrationFormSamples.form(1);
+  }
+
+  /**
+   * Constructs a form from content.
+   *
+   * @return new form
+   */
+  @Benchmark
+  public RegistrationForm construct() {
+    return new RegistrationForm(
+        "0190f0c4-1f7e-7c3a-9b8e-3f1d2c4b5a69",
+        "REG-2026-000001",
+        "SAVINGS",
+        formContent,
+        RegistrationFormStatus.DRAFT,
+        null,
+        NOW,
+        NOW,
+        null);
+  }
+
+  /**
+   * Matches a keyword found in the reference number.
+   *
+   * @return match result
+   */
+  @Benchmark
+  public boolean containsKeywordInReferenceNo() {
+    return form.containsKeyword("reg-2026");
+  }
+
+  /**
+   * Matches a keyword found deep in the JSON content.
+   *
+   * @return match result
+   */
+  @Benchmark
+  public boolean containsKeywordInContent() {
+    return form.containsKeyword("northwind");
+  }
+
+  /**
+   * Scans the whole form for a keyword that does not occur.
+   *
+   * @return match result
+   */
+  @Benchmark
+  public boolean containsKeywordMiss() {
+    return form.containsKeyword("no-such-keyword");
+  }
+
+  /**
+   * Copies the JSON content into a modifiable object.
+   *
+   * @return copy
+   */
+  @Benchmark
+  public ObjectNode deepCopy() {
+    return form.formContent().toObjectNode();
+  }
+}
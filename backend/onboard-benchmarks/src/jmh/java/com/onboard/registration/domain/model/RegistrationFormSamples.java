@@ -0,0 +1,57 @@
+package com.onboard.registration.domain.model;
+
+import com.onboard.registration.domain.vo.FormData;
+import java.time.Instant;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/** Registration forms shaped like production data, shared by the registration benchmarks. */
+public final class RegistrationFormSamples {
+
+  private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+  private RegistrationFormSamples() {}
+
+  /**
+   * Builds form content with nested objects and arrays.
+   *
+   * @param index distinguishes the content of several forms
+   * @return form content
+   */
+  public static FormData formContent(int index) {
+    ObjectNode content = JsonNodeFactory.instance.objectNode();
+    content.put("firstName", "Taylor" + index);
+    content.put("lastName", "Morgan");
+    content.put("email", "taylor.morgan" + index + "@example.com");
+    content.put("monthlyIncome", 5_400 + index);
+    ObjectNode address = content.putObject("address");
+    address.put("line1", "221B Baker Street");
+    address.put("city", "London");
+    address.put("postalCode", "NW1 6XE");
+    content.putArray("products").add("SAVINGS").add("CARD").add("LOAN");
+    ObjectNode employment = content.putObject("employment");
+    employment.put("employer", "Northwind Traders");
+    employment.put("position", "Analyst");
+    employment.put("since", "2019-04-01");
+    return FormData.wrap(content);
+  }
+
+  /**
+   * Builds a draft registration form.
+   *
+   * @param index distinguishes several forms
+   * @return registration form
+   */
+  public static RegistrationForm form(int index) {
+    return new RegistrationForm(
+        "0190f0c4-1f7e-7c3a-9b8e-" + String.format("%012d", index),
+        "REG-2026-" + String.format("%06d", index),
+        "SAVINGS",
+        formContent(index),
+        RegistrationFormStatus.DRAFT,
+        null,
+        CREATED_AT,
+        CREATED_AT,
+        null);
+  }
+}
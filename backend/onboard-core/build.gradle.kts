@@ -4,8 +4,16 @@ plugins {
 }
 
 dependencies {
+  implementation(platform(libs.spring.boot.bom))
+
   implementation(libs.spring.boot.starter.web)
   implementation(libs.spring.boot.starter.data.jpa)
   implementation(libs.spring.boot.starter.data.redis)
   implementation(libs.spring.boot.starter.validation)
+  implementation(libs.jackson.dataformat.smile)
+
+  testImplementation(libs.spring.boot.starter.test)
+  testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
+
+tasks.test { useJUnitPlatform() }
@@ -8,6 +8,7 @@ import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /** Root configuration properties for the onboard platform. */
 @Getter
@@ -26,6 +27,8 @@ public class PlatformProperties {
   private SecurityProperties security;
   private CacheProperties cache;
   private MessagingProperties messaging;
+  private DatabaseProperties database = new DatabaseProperties();
+  private IdempotencyProperties idempotency = new IdempotencyProperties();
 
   /** CORS configuration applied to inbound HTTP endpoints. */
   @Getter
@@ -115,6 +118,7 @@ public class PlatformProperties {
   @Setter
   public static class CacheProperties {
     private List<CacheEntry> entries = new ArrayList<>();
+    private String invalidationChannel = "platform:cache:invalidation";
 
     /** Individual cache definition. */
     @Getter
@@ -122,6 +126,94 @@ public class PlatformProperties {
     public static class CacheEntry {
       private String name;
       private Duration ttl = Duration.ofMinutes(10);
+      private NearCache near = new NearCache();
+      private Stampede stampede = new Stampede();
+    }
+
+    /** Per-node in-process tier kept in front of the shared Redis tier. */
+    @Getter
+    @Setter
+    public static class NearCache {
+      private boolean enabled;
+      private Duration ttl = Duration.ofSeconds(30);
+      private long maxSize = 10_000;
+    }
+
+    /**
+     * Protection against many concurrent recomputations of one expiring entry: single-flight
+     * loading per key and node, XFetch early refresh ({@code earlyRefreshBeta} 0 disables it) and
+     * serving an expired entry for {@code staleWhileRevalidate} while it reloads.
+     */
+    @Getter
+    @Setter
+    public static class Stampede {
+      private boolean singleFlight = true;
+      private double earlyRefreshBeta = 1.0;
+      private Duration staleWhileRevalidate = Duration.ZERO;
+    }
+  }
+
+  /** Database-related properties. */
+  @Getter
+  @Setter
+  public static class DatabaseProperties {
+    private String type;
+    private PartitionMaintenance partitionMaintenance = new PartitionMaintenance();
+    private ReplicaRouting replicaRouting = new ReplicaRouting();
+
+    /** Ahead-of-time creation of range partitions. */
+    @Getter
+    @Setter
+    public static class PartitionMaintenance {
+      private boolean enabled = true;
+      private int monthsAhead = 3;
+      private String cron = "0 15 2 * * *";
+    }
+
+    /**
+     * Routing of read-only transactions across the replicas. Replicas failing a health check or
+     * lagging more than {@code maxLag} are skipped. With {@code readYourWrites}, clients echo the
+     * WAL position returned in {@code consistencyHeader} after a write, and their reads only go to
+     * replicas that have replayed it.
+     */
+    @Getter
+    @Setter
+    public static class ReplicaRouting {
+      private Balancing balancing = Balancing.ROUND_ROBIN;
+      private boolean readYourWrites = true;
+      private String consistencyHeader = "X-Consistency-Token";
+      private Duration maxLag = Duration.ofSeconds(5);
+      private Duration healthCheckInterval = Duration.ofSeconds(1);
+
+      /** How a read-only transaction picks among the eligible replicas. */
+      public enum Balancing {
+        ROUND_ROBIN,
+        LEAST_ACTIVE,
+        WEIGHTED
+      }
+    }
+  }
+
+  /** Idempotency reservation timings, payload encoding and in-memory store limits. */
+  @Getter
+  @Setter
+  public static class IdempotencyProperties {
+    private Duration lease = Duration.ofSeconds(30);
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    private Duration pollInterval = Duration.ofMillis(25);
+    private String codec = "json";
+    private boolean writeEnvelope;
+    private boolean reserveKeys;
+    private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+    private InMemory inMemory = new InMemory();
+
+    /** Bounds of the in-memory store used when Redis is unavailable. */
+    @Getter
+    @Setter
+    public static class InMemory {
+      private long maxEntries = 100_000;
+      private DataSize maxSize = DataSize.ofMegabytes(64);
+      private Duration sweepInterval = Duration.ofSeconds(1);
     }
   }
 
@@ -130,6 +222,17 @@ public class PlatformProperties {
   @Setter
   public static class MessagingProperties {
     private RabbitProperties rabbit;
+    private Outbox outbox = new Outbox();
+
+    /** Relay publishing outbox rows to RabbitMQ with asynchronous publisher confirms. */
+    @Getter
+    @Setter
+    public static class Outbox {
+      private boolean enabled = true;
+      private int batchSize = 500;
+      private Duration pollInterval = Duration.ofMillis(200);
+      private Duration confirmTimeout = Duration.ofSeconds(5);
+    }
 
     /** RabbitMQ topology configuration. */
     @Getter
@@ -149,15 +252,35 @@ public class PlatformProperties {
         private boolean autoDelete = false;
       }
 
-      /** Queue definition. */
+      /**
+       * Queue definition and the sizing of its listener containers. {@code deliveryLimit} only
+       * applies to quorum queues; {@code consumerPriority} is sent as {@code x-priority} when
+       * consuming.
+       */
       @Getter
       @Setter
       public static class Queue {
         private String name;
         private boolean durable = true;
         private boolean quorum = false;
+        private Mode mode = Mode.DEFAULT;
         private String deadLetterExchange;
         private String deadLetterRoutingKey;
+        private Integer deliveryLimit;
+        private Long maxLength;
+        private int concurrency = 1;
+        private int maxConcurrency = 1;
+        private int prefetch = 250;
+        private int batchSize = 100;
+        private Duration receiveTimeout = Duration.ofSeconds(1);
+        private Integer consumerPriority;
+
+        /** Storage mode of a non-quorum queue. */
+        public enum Mode {
+          DEFAULT,
+          LAZY,
+          STREAM
+        }
       }
 
       /** Binding definition between exchange and queue. */
@@ -1,25 +1,99 @@
 package com.onboard.infrastructure.core.idempotency;
 
+import com.onboard.infrastructure.core.config.PlatformProperties.IdempotencyProperties;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Supplier;
 import org.springframework.util.StringUtils;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
 
-/** Shared idempotency logic for cache-backed implementations. */
+/**
+ * Shared idempotency logic for cache-backed implementations.
+ *
+ * <p>With {@code reserve-keys} on, the first caller for a key atomically reserves it with a pending
+ * marker before running the supplier. Concurrent duplicates poll until the stored response appears
+ * and return it, or give up with {@link IdempotencyKeyInProgressException} once the wait timeout
+ * passes. The reservation is a lease: if its owner dies, the marker expires and a later retry takes
+ * over. Releases without reservations read every stored value as a JSON response and fail on a
+ * marker, so the flag stays off until no such node shares the store; meanwhile a duplicate that
+ * arrives before the first response is stored runs the supplier again, as it did before.
+ *
+ * <p>Responses are stored as bytes: the configured {@link IdempotencyPayloadCodec} encodes them and
+ * a small header records the codec and whether the body was deflated, so any registered codec can
+ * read them back. Until every node reads that header, {@code write-envelope} stays off and
+ * responses are written in the earlier header-less JSON form; both forms are always read.
+ */
 public abstract class AbstractIdempotencyService implements IdempotencyService {
 
   private static final Duration DEFAULT_TTL = Duration.ofSeconds(60);
 
-  private final ObjectMapper objectMapper;
+  private final IdempotencyPayloadCodec writeCodec;
+  private final boolean writeEnvelope;
+  private final boolean reserveKeys;
+  private final Map<Byte, IdempotencyPayloadCodec> codecsByFormatId;
+  private final long compressionThreshold;
+  private final Duration lease;
+  private final Duration waitTimeout;
+  private final Duration pollInterval;
 
   /**
-   * Creates a new cache-backed idempotency service.
+   * Creates a new cache-backed idempotency service with the built-in codecs and default settings.
    *
-   * @param objectMapper serializer used for cached responses
+   * @param objectMapper serializer used for JSON responses
    */
   protected AbstractIdempotencyService(ObjectMapper objectMapper) {
-    this.objectMapper = objectMapper;
+    this(defaultCodecs(objectMapper), new IdempotencyProperties());
+  }
+
+  /**
+   * Creates a new cache-backed idempotency service.
+   *
+   * @param codecs codecs able to read stored responses; {@code properties.codec} selects the writer
+   * @param properties codec choice, compression threshold and reservation timings
+   */
+  protected AbstractIdempotencyService(
+      List<IdempotencyPayloadCodec> codecs, IdempotencyProperties properties) {
+    Map<Byte, IdempotencyPayloadCodec> byFormatId = new HashMap<>();
+    IdempotencyPayloadCodec selectedCodec = null;
+    for (IdempotencyPayloadCodec codec : codecs) {
+      if (byFormatId.putIfAbsent(codec.formatId(), codec) != null) {
+        throw new IllegalStateException("Duplicate idempotency codec format " + codec.formatId());
+      }
+      if (codec.name().equals(properties.getCodec())) {
+        selectedCodec = codec;
+      }
+    }
+    if (selectedCodec == null) {
+      throw new IllegalStateException("Unknown idempotency codec " + properties.getCodec());
+    }
+    if (!properties.isWriteEnvelope()
+        && selectedCodec.formatId() != JsonIdempotencyPayloadCodec.FORMAT_ID) {
+      throw new IllegalStateException(
+          "Idempotency codec " + properties.getCodec() + " requires write-envelope to be enabled");
+    }
+    this.writeCodec = selectedCodec;
+    this.writeEnvelope = properties.isWriteEnvelope();
+    this.reserveKeys = properties.isReserveKeys();
+    this.codecsByFormatId = Map.copyOf(byFormatId);
+    this.compressionThreshold = properties.getCompressionThreshold().toBytes();
+    this.lease = properties.getLease();
+    this.waitTimeout = properties.getWaitTimeout();
+    this.pollInterval = properties.getPollInterval();
+  }
+
+  /**
+   * Returns the codecs shipped with the platform.
+   *
+   * @param objectMapper application JSON mapper
+   * @return JSON and Smile codecs
+   */
+  public static List<IdempotencyPayloadCodec> defaultCodecs(ObjectMapper objectMapper) {
+    return List.of(
+        new JsonIdempotencyPayloadCodec(objectMapper), new SmileIdempotencyPayloadCodec());
   }
 
   @Override
@@ -30,11 +104,51 @@ public abstract class AbstractIdempotencyService implements IdempotencyService {
     }
 
     String cacheKey = buildCacheKey(namespace, key);
-    String cachedValue = getCached(cacheKey);
+    if (!reserveKeys) {
+      return executeUnreserved(cacheKey, key, ttl, returnType, supplier);
+    }
+    byte[] pendingMarker = IdempotencyPayloadEnvelope.pendingMarker(UUID.randomUUID());
+    long deadlineNanos = System.nanoTime() + waitTimeout.toNanos();
+    while (true) {
+      byte[] cachedValue = getCached(cacheKey);
+      if (cachedValue != null && !isPendingMarker(cachedValue)) {
+        return deserialize(cachedValue, returnType);
+      }
+      if (cachedValue == null && tryReserve(cacheKey, pendingMarker, lease)) {
+        break;
+      }
+      if (System.nanoTime() - deadlineNanos >= 0) {
+        throw new IdempotencyKeyInProgressException(key);
+      }
+      awaitNextPoll(key);
+    }
+
+    T result;
+    try {
+      result = supplier.get();
+    } catch (RuntimeException | Error ex) {
+      // Let a retry run the operation again instead of waiting out the lease.
+      releaseReservation(cacheKey, pendingMarker);
+      throw ex;
+    }
+    if (result != null) {
+      putCached(cacheKey, serialize(result), normalizeTtl(ttl));
+    } else {
+      releaseReservation(cacheKey, pendingMarker);
+    }
+    return result;
+  }
+
+  private <T> T executeUnreserved(
+      String cacheKey, String key, Duration ttl, JavaType returnType, Supplier<T> supplier) {
+    byte[] cachedValue = getCached(cacheKey);
+    if (cachedValue != null && isPendingMarker(cachedValue)) {
+      // Written by a node with reservations on; do not run the operation alongside its owner.
+      throw new IdempotencyKeyInProgressException(key);
+    }
     if (cachedValue != null) {
       return deserialize(cachedValue, returnType);
     }
-
     T result = supplier.get();
     if (result != null) {
       putCached(cacheKey, serialize(result), normalizeTtl(ttl));
@@ -43,27 +157,64 @@ public abstract class AbstractIdempotencyService implements IdempotencyService {
   }
 
   /**
-   * Reads a cached payload for the given key.
+   * Reads a stored value for the given key.
    *
    * @param cacheKey storage key
-   * @return cached payload, or {@code null} when absent
+   * @return stored response or pending marker, or {@code null} when absent
    */
-  protected abstract String getCached(String cacheKey);
+  protected abstract byte[] getCached(String cacheKey);
 
   /**
-   * Stores a serialized payload for the given key.
+   * Stores an encoded response for the given key, replacing any pending marker.
    *
    * @param cacheKey storage key
-   * @param payload serialized response payload
+   * @param payload encoded response with header
    * @param ttl entry time to live
    */
-  protected abstract void putCached(String cacheKey, String payload, Duration ttl);
+  protected abstract void putCached(String cacheKey, byte[] payload, Duration ttl);
+
+  /**
+   * Atomically stores the pending marker if the key holds no value.
+   *
+   * @param cacheKey storage key
+   * @param pendingMarker marker unique to the reserving caller
+   * @param lease marker time to live
+   * @return {@code true} when this caller now owns the key
+   */
+  protected abstract boolean tryReserve(String cacheKey, byte[] pendingMarker, Duration lease);
+
+  /**
+   * Removes the key only if it still holds the given pending marker.
+   *
+   * @param cacheKey storage key
+   * @param pendingMarker marker stored by {@link #tryReserve}
+   */
+  protected abstract void releaseReservation(String cacheKey, byte[] pendingMarker);
+
+  /**
+   * Tells whether a stored value is a reservation rather than a completed response.
+   *
+   * @param value stored value
+   * @return {@code true} for pending markers
+   */
+  protected static boolean isPendingMarker(byte[] value) {
+    return IdempotencyPayloadEnvelope.isPending(value);
+  }
 
   private static String buildCacheKey(String namespace, String key) {
     String resolvedNamespace = StringUtils.hasText(namespace) ? namespace : "default";
     return "idempotency:" + resolvedNamespace + ":" + key;
   }
 
+  private void awaitNextPoll(String key) {
+    try {
+      Thread.sleep(pollInterval);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IdempotencyKeyInProgressException(key);
+    }
+  }
+
   private Duration normalizeTtl(Duration ttl) {
     if (ttl == null || ttl.isNegative() || ttl.isZero()) {
       return DEFAULT_TTL;
@@ -71,17 +222,28 @@ public abstract class AbstractIdempotencyService implements IdempotencyService {
     return ttl;
   }
 
-  private String serialize(Object value) {
+  private byte[] serialize(Object value) {
+    byte[] body;
     try {
-      return objectMapper.writeValueAsString(value);
+      body = writeCodec.encode(value);
     } catch (Exception ex) {
       throw new IllegalStateException("Failed to serialize idempotent response", ex);
     }
+    if (!writeEnvelope) {
+      return body;
+    }
+    return IdempotencyPayloadEnvelope.wrap(writeCodec.formatId(), body, compressionThreshold);
   }
 
-  private <T> T deserialize(String payload, JavaType returnType) {
+  private <T> T deserialize(byte[] storedValue, JavaType returnType) {
+    IdempotencyPayloadEnvelope.Payload payload = IdempotencyPayloadEnvelope.unwrap(storedValue);
+    IdempotencyPayloadCodec codec = codecsByFormatId.get(payload.formatId());
+    if (codec == null) {
+      throw new IllegalStateException(
+          "No idempotency codec registered for format " + payload.formatId());
+    }
     try {
-      return objectMapper.readValue(payload, returnType);
+      return codec.decode(payload.body(), returnType);
     } catch (Exception ex) {
       throw new IllegalStateException("Failed to deserialize idempotent response", ex);
     }
@@ -2,25 +2,25 @@ package com.onboard.infrastructure.core.idempotency;
 
 import com.onboard.infrastructure.core.config.PlatformProperties;
 import java.lang.reflect.Method;
-import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.core.DefaultParameterNameDiscoverer;
-import org.springframework.core.ParameterNameDiscoverer;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
 
-/** Aspect-based idempotency mode for methods annotated with {@link Idempotent}. */
+/**
+ * Aspect-based idempotency mode for methods annotated with {@link Idempotent}.
+ *
+ * <p>Parsed key expressions, parameter names, namespaces and return types are cached per method,
+ * so an intercepted call costs a map lookup plus the key evaluation itself.
+ */
 @Aspect
 @Component
 @RequiredArgsConstructor
@@ -30,9 +30,7 @@ public class IdempotencyAspect {
   private final PlatformProperties platformProperties;
   private final ObjectMapper objectMapper;
 
-  private final ExpressionParser spelParser = new SpelExpressionParser();
-  private final ParameterNameDiscoverer parameterNameDiscoverer =
-      new DefaultParameterNameDiscoverer();
+  private final Map<Method, IdempotentMethodMetadata> methodMetadata = new ConcurrentHashMap<>();
 
   /**
    * Wraps the intercepted method call with idempotency key resolution and cached response reuse.
@@ -46,25 +44,24 @@ public class IdempotencyAspect {
   public Object enforceIdempotency(ProceedingJoinPoint joinPoint, Idempotent idempotent)
       throws Throwable {
     Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-    String key = resolveKey(joinPoint, method, idempotent);
+    IdempotentMethodMetadata metadata =
+        methodMetadata.computeIfAbsent(
+            method,
+            key -> IdempotentMethodMetadata.of(key, idempotent, objectMapper.getTypeFactory()));
+    String key = resolveKey(joinPoint, metadata);
     if (!StringUtils.hasText(key)) {
-      if (idempotent.required()) {
+      if (metadata.required()) {
         throw new IllegalArgumentException("Missing idempotency key");
       }
       return joinPoint.proceed();
     }
 
-    String namespace = resolveNamespace(method, idempotent);
-    Duration ttl = Duration.ofMillis(idempotent.timeUnit().toMillis(idempotent.expire()));
-    JavaType returnType =
-        objectMapper.getTypeFactory().constructType(method.getGenericReturnType());
-
     try {
       return idempotencyService.execute(
-          namespace,
+          metadata.namespace(),
           key,
-          ttl,
-          returnType,
+          metadata.ttl(),
+          metadata.returnType(),
           () -> {
             try {
               return joinPoint.proceed();
@@ -77,9 +74,9 @@ public class IdempotencyAspect {
     }
   }
 
-  private String resolveKey(ProceedingJoinPoint joinPoint, Method method, Idempotent idempotent) {
-    if (StringUtils.hasText(idempotent.key())) {
-      return resolveFromSpel(joinPoint, method, idempotent.key());
+  private String resolveKey(ProceedingJoinPoint joinPoint, IdempotentMethodMetadata metadata) {
+    if (metadata.hasKeyExpression()) {
+      return metadata.resolveKey(joinPoint.getArgs());
     }
 
     String headerName = platformProperties.getIdempotencyKeyHeaderName();
@@ -97,34 +94,6 @@ public class IdempotencyAspect {
     return StringUtils.hasText(headerValue) ? headerValue : null;
   }
 
-  private String resolveFromSpel(ProceedingJoinPoint joinPoint, Method method, String expression) {
-    StandardEvaluationContext context = new StandardEvaluationContext();
-    Object[] args = joinPoint.getArgs();
-    context.setVariable("args", args);
-
-    String[] parameterNames = parameterNameDiscoverer.getParameterNames(method);
-    if (parameterNames != null) {
-      for (int i = 0; i < parameterNames.length && i < args.length; i++) {
-        context.setVariable(parameterNames[i], args[i]);
-      }
-    }
-
-    Object value = spelParser.parseExpression(expression).getValue(context);
-    if (value == null) {
-      return null;
-    }
-
-    String key = value.toString();
-    return StringUtils.hasText(key) ? key : null;
-  }
-
-  private static String resolveNamespace(Method method, Idempotent idempotent) {
-    if (StringUtils.hasText(idempotent.namespace())) {
-      return idempotent.namespace();
-    }
-    return method.getDeclaringClass().getSimpleName() + "." + method.getName();
-  }
-
   private static final class InvocationFailureException extends RuntimeException {
     private InvocationFailureException(Throwable cause) {
       super(cause);
@@ -1,9 +1,12 @@
 package com.onboard.infrastructure.core.idempotency;
 
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import java.util.List;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import tools.jackson.databind.ObjectMapper;
 
@@ -11,29 +14,58 @@ import tools.jackson.databind.ObjectMapper;
 @Configuration
 public class IdempotencyConfiguration {
 
+  /**
+   * Registers the JSON payload codec, which also reads entries written before payload headers.
+   *
+   * @param objectMapper application JSON mapper
+   * @return JSON codec
+   */
+  @Bean
+  public JsonIdempotencyPayloadCodec jsonIdempotencyPayloadCodec(ObjectMapper objectMapper) {
+    return new JsonIdempotencyPayloadCodec(objectMapper);
+  }
+
+  /**
+   * Registers the binary Smile payload codec.
+   *
+   * @return Smile codec
+   */
+  @Bean
+  public SmileIdempotencyPayloadCodec smileIdempotencyPayloadCodec() {
+    return new SmileIdempotencyPayloadCodec();
+  }
+
   /**
    * Registers the Redis-backed idempotency service when Redis is available.
    *
-   * @param objectMapper serializer used for cached responses
-   * @param stringRedisTemplate Redis template for value operations
+   * @param codecs registered payload codecs
+   * @param redisConnectionFactory Redis connection factory
+   * @param platformProperties platform properties carrying idempotency settings
    * @return Redis-backed idempotency service
    */
   @Bean
   @ConditionalOnBean(StringRedisTemplate.class)
   public IdempotencyService idempotencyService(
-      ObjectMapper objectMapper, StringRedisTemplate stringRedisTemplate) {
-    return new RedisIdempotencyService(stringRedisTemplate, objectMapper);
+      List<IdempotencyPayloadCodec> codecs,
+      RedisConnectionFactory redisConnectionFactory,
+      PlatformProperties platformProperties) {
+    return new RedisIdempotencyService(
+        RedisIdempotencyService.createRedisTemplate(redisConnectionFactory),
+        codecs,
+        platformProperties.getIdempotency());
   }
 
   /**
    * Registers an in-memory fallback idempotency service.
    *
-   * @param objectMapper serializer used for cached responses
-   * @return in-memory idempotency service
+   * @param codecs registered payload codecs
+   * @param platformProperties platform properties carrying idempotency settings and store limits
+   * @return bounded in-memory idempotency service, closed with the context
    */
   @Bean
   @ConditionalOnMissingBean(IdempotencyService.class)
-  public IdempotencyService inMemoryIdempotencyService(ObjectMapper objectMapper) {
-    return new InMemoryIdempotencyService(objectMapper);
+  public InMemoryIdempotencyService inMemoryIdempotencyService(
+      List<IdempotencyPayloadCodec> codecs, PlatformProperties platformProperties) {
+    return new InMemoryIdempotencyService(codecs, platformProperties.getIdempotency());
   }
 }
@@ -0,0 +1,14 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import com.onboard.infrastructure.core.exception.AbstractPlatformDomainRuleException;
+
+/** Raised when a request reuses an idempotency key whose first execution has not finished yet. */
+public class IdempotencyKeyInProgressException extends AbstractPlatformDomainRuleException {
+
+  private static final String MESSAGE_CODE = "idempotency.key.in-progress";
+
+  /** Creates an exception for the given idempotency key. */
+  public IdempotencyKeyInProgressException(String key) {
+    super(MESSAGE_CODE, "A request with idempotency key " + key + " is still being processed");
+  }
+}
@@ -0,0 +1,44 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import tools.jackson.databind.JavaType;
+
+/**
+ * Serialization strategy for cached idempotent responses.
+ *
+ * <p>The codec's {@link #formatId()} is written into every stored payload header, so entries stay
+ * readable after the writing codec is switched as long as the old codec is still registered.
+ */
+public interface IdempotencyPayloadCodec {
+
+  /**
+   * Returns the name used to select this codec in {@code platform.idempotency.codec}.
+   *
+   * @return codec name
+   */
+  String name();
+
+  /**
+   * Returns the format identifier stored in payload headers; unique among registered codecs.
+   *
+   * @return format identifier
+   */
+  byte formatId();
+
+  /**
+   * Serializes a response.
+   *
+   * @param value response to store
+   * @return encoded bytes
+   */
+  byte[] encode(Object value);
+
+  /**
+   * Deserializes a stored response.
+   *
+   * @param payload bytes produced by {@link #encode(Object)}
+   * @param type target type
+   * @param <T> target type
+   * @return decoded response
+   */
+  <T> T decode(byte[] payload, JavaType type);
+}
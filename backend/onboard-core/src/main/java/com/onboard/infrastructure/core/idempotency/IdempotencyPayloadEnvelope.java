@@ -0,0 +1,167 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary header wrapped around stored idempotency values.
+ *
+ * <pre>
+ * magic (2) | version (1) | format id (1) | flags (1) | [original length (4)] | body
+ * </pre>
+ *
+ * <p>The magic starts with {@code 0xFE}, which never begins UTF-8 text, so header-less values
+ * written by earlier releases are recognised and read as JSON. The original length is present only
+ * for deflated bodies and bounds the buffer allocated to inflate them.
+ */
+final class IdempotencyPayloadEnvelope {
+
+  private static final byte MAGIC_HIGH = (byte) 0xFE;
+  private static final byte MAGIC_LOW = (byte) 0x1D;
+  private static final byte VERSION = 1;
+  private static final int HEADER_LENGTH = 5;
+
+  private static final byte FLAG_DEFLATED = 0x01;
+  private static final byte FLAG_PENDING = 0x02;
+
+  private static final byte NO_FORMAT = 0;
+
+  /** Prefix of header-less pending markers, still recognised as reservations. */
+  private static final byte[] LEGACY_PENDING_PREFIX =
+      "\u0000pending:".getBytes(StandardCharsets.UTF_8);
+
+  private IdempotencyPayloadEnvelope() {}
+
+  /**
+   * Wraps an encoded response, deflating it when that pays off.
+   *
+   * @param formatId codec format identifier
+   * @param body encoded response
+   * @param compressionThreshold minimum body size worth compressing
+   * @return stored value
+   */
+  static byte[] wrap(byte formatId, byte[] body, long compressionThreshold) {
+    if (body.length >= compressionThreshold) {
+      byte[] deflated = deflate(body);
+      if (deflated.length + Integer.BYTES < body.length) {
+        return ByteBuffer.allocate(HEADER_LENGTH + Integer.BYTES + deflated.length)
+            .put(header(formatId, FLAG_DEFLATED))
+            .putInt(body.length)
+            .put(deflated)
+            .array();
+      }
+    }
+    return ByteBuffer.allocate(HEADER_LENGTH + body.length)
+        .put(header(formatId, (byte) 0))
+        .put(body)
+        .array();
+  }
+
+  /**
+   * Creates a pending marker unique to one reservation owner.
+   *
+   * @param owner owner token
+   * @return stored marker
+   */
+  static byte[] pendingMarker(UUID owner) {
+    return ByteBuffer.allocate(HEADER_LENGTH + 16)
+        .put(header(NO_FORMAT, FLAG_PENDING))
+        .putLong(owner.getMostSignificantBits())
+        .putLong(owner.getLeastSignificantBits())
+        .array();
+  }
+
+  /**
+   * Tells whether a stored value is a reservation rather than a response.
+   *
+   * @param stored stored value
+   * @return {@code true} for pending markers, including legacy ones
+   */
+  static boolean isPending(byte[] stored) {
+    if (hasHeader(stored)) {
+      return (stored[4] & FLAG_PENDING) != 0;
+    }
+    int prefixLength = LEGACY_PENDING_PREFIX.length;
+    return stored.length >= prefixLength
+        && Arrays.equals(stored, 0, prefixLength, LEGACY_PENDING_PREFIX, 0, prefixLength);
+  }
+
+  /**
+   * Strips the header and inflates the body if needed.
+   *
+   * @param stored stored response value
+   * @return codec format identifier and encoded body
+   */
+  static Payload unwrap(byte[] stored) {
+    if (!hasHeader(stored)) {
+      return new Payload(JsonIdempotencyPayloadCodec.FORMAT_ID, stored);
+    }
+    if (stored[2] != VERSION) {
+      throw new IllegalStateException("Unsupported idempotency payload version " + stored[2]);
+    }
+    byte formatId = stored[3];
+    if ((stored[4] & FLAG_DEFLATED) == 0) {
+      return new Payload(formatId, Arrays.copyOfRange(stored, HEADER_LENGTH, stored.length));
+    }
+    int originalLength = ByteBuffer.wrap(stored, HEADER_LENGTH, Integer.BYTES).getInt();
+    int bodyOffset = HEADER_LENGTH + Integer.BYTES;
+    return new Payload(formatId, inflate(stored, bodyOffset, originalLength));
+  }
+
+  private static boolean hasHeader(byte[] stored) {
+    return stored.length >= HEADER_LENGTH && stored[0] == MAGIC_HIGH && stored[1] == MAGIC_LOW;
+  }
+
+  private static byte[] header(byte formatId, byte flags) {
+    return new byte[] {MAGIC_HIGH, MAGIC_LOW, VERSION, formatId, flags};
+  }
+
+  private static byte[] deflate(byte[] body) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+    try {
+      deflater.setInput(body);
+      deflater.finish();
+      ByteArrayOutputStream output = new ByteArrayOutputStream(body.length / 2);
+      byte[] buffer = new byte[8192];
+      while (!deflater.finished()) {
+        output.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return output.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(byte[] stored, int offset, int originalLength) {
+    Inflater inflater = new Inflater(true);
+    try {
+      inflater.setInput(stored, offset, stored.length - offset);
+      byte[] body = new byte[originalLength];
+      int length = 0;
+      while (length < originalLength && !inflater.finished()) {
+        int inflated = inflater.inflate(body, length, originalLength - length);
+        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+        length += inflated;
+      }
+      if (length != originalLength) {
+        throw new IllegalStateException("Truncated idempotency payload");
+      }
+      return body;
+    } catch (DataFormatException ex) {
+      throw new IllegalStateException("Corrupt idempotency payload", ex);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  /** Encoded response body together with the codec that wrote it. */
+  record Payload(byte formatId, byte[] body) {}
+}
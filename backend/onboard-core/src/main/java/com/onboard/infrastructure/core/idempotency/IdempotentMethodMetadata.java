@@ -0,0 +1,135 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.util.StringUtils;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.type.TypeFactory;
+
+/**
+ * Everything the idempotency aspect derives from an annotated method, computed once per method.
+ *
+ * <p>The key expression is compiled to bytecode right after its first successful evaluation, when
+ * argument types are known. Expressions that cannot be compiled stay interpreted, and a compiled
+ * expression that later fails (for example on a differently typed argument) reverts to
+ * interpretation instead of throwing.
+ */
+final class IdempotentMethodMetadata {
+
+  private static final SpelExpressionParser SPEL_PARSER =
+      new SpelExpressionParser(
+          new SpelParserConfiguration(
+              SpelCompilerMode.MIXED, IdempotentMethodMetadata.class.getClassLoader()));
+  private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER =
+      new DefaultParameterNameDiscoverer();
+  private static final String[] NO_PARAMETER_NAMES = new String[0];
+
+  private final String namespace;
+  private final Duration ttl;
+  private final boolean required;
+  private final JavaType returnType;
+  private final SpelExpression keyExpression;
+  private final String[] parameterNames;
+  private volatile boolean compileAttempted;
+
+  private IdempotentMethodMetadata(
+      String namespace,
+      Duration ttl,
+      boolean required,
+      JavaType returnType,
+      SpelExpression keyExpression,
+      String[] parameterNames) {
+    this.namespace = namespace;
+    this.ttl = ttl;
+    this.required = required;
+    this.returnType = returnType;
+    this.keyExpression = keyExpression;
+    this.parameterNames = parameterNames;
+  }
+
+  /**
+   * Derives metadata for an annotated method.
+   *
+   * @param method intercepted method
+   * @param idempotent annotation on the method
+   * @param typeFactory Jackson type factory used to resolve the generic return type
+   * @return method metadata
+   */
+  static IdempotentMethodMetadata of(
+      Method method, Idempotent idempotent, TypeFactory typeFactory) {
+    SpelExpression keyExpression = null;
+    String[] parameterNames = NO_PARAMETER_NAMES;
+    if (StringUtils.hasText(idempotent.key())) {
+      keyExpression = (SpelExpression) SPEL_PARSER.parseExpression(idempotent.key());
+      String[] discoveredNames = PARAMETER_NAME_DISCOVERER.getParameterNames(method);
+      parameterNames = discoveredNames != null ? discoveredNames : NO_PARAMETER_NAMES;
+    }
+    return new IdempotentMethodMetadata(
+        resolveNamespace(method, idempotent),
+        Duration.ofMillis(idempotent.timeUnit().toMillis(idempotent.expire())),
+        idempotent.required(),
+        typeFactory.constructType(method.getGenericReturnType()),
+        keyExpression,
+        parameterNames);
+  }
+
+  String namespace() {
+    return namespace;
+  }
+
+  Duration ttl() {
+    return ttl;
+  }
+
+  boolean required() {
+    return required;
+  }
+
+  JavaType returnType() {
+    return returnType;
+  }
+
+  boolean hasKeyExpression() {
+    return keyExpression != null;
+  }
+
+  /**
+   * Evaluates the key expression against the invocation arguments.
+   *
+   * @param args invocation arguments, exposed as {@code #args} and by parameter name
+   * @return resolved key, or {@code null} when it evaluates to nothing
+   */
+  String resolveKey(Object[] args) {
+    StandardEvaluationContext context = new StandardEvaluationContext();
+    context.setVariable("args", args);
+    for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+      context.setVariable(parameterNames[i], args[i]);
+    }
+
+    Object value = keyExpression.getValue(context);
+    if (!compileAttempted) {
+      compileAttempted = true;
+      keyExpression.compileExpression();
+    }
+    if (value == null) {
+      return null;
+    }
+
+    String key = value.toString();
+    return StringUtils.hasText(key) ? key : null;
+  }
+
+  private static String resolveNamespace(Method method, Idempotent idempotent) {
+    if (StringUtils.hasText(idempotent.namespace())) {
+      return idempotent.namespace();
+    }
+    return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+  }
+}
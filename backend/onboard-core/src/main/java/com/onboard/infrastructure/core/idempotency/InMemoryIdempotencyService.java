@@ -1,42 +1,268 @@
 package com.onboard.infrastructure.core.idempotency;
 
+import com.onboard.infrastructure.core.config.PlatformProperties.IdempotencyProperties;
 import java.time.Duration;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import tools.jackson.databind.ObjectMapper;
 
-/** Fallback in-memory implementation when Redis is not available. */
-public class InMemoryIdempotencyService extends AbstractIdempotencyService {
+/**
+ * Fallback in-memory implementation when Redis is not available.
+ *
+ * <p>Entries live in a {@link ConcurrentHashMap}, so lookups stay constant-time however many keys
+ * are stored. A second, expiry-ordered index lets a background sweeper drop expired entries without
+ * scanning the map, and lets writes evict the soonest-expiring completed responses once the entry
+ * or byte limit is exceeded. Pending reservations are never evicted for capacity, so a full store
+ * cannot let a duplicate slip past an in-flight request.
+ */
+public class InMemoryIdempotencyService extends AbstractIdempotencyService
+    implements AutoCloseable {
 
-  private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+  /** Rough per-entry overhead of the map node, index node and entry object. */
+  private static final long ENTRY_OVERHEAD_BYTES = 128;
+
+  private final ConcurrentHashMap<String, CacheEntry> cache = new ConcurrentHashMap<>();
+  private final NavigableSet<CacheEntry> expiryIndex =
+      new ConcurrentSkipListSet<>(
+          Comparator.comparingLong(CacheEntry::expiresAtMillis)
+              .thenComparingLong(CacheEntry::sequence));
+  private final AtomicLong entrySequence = new AtomicLong();
+  private final AtomicLong storedBytes = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+
+  private final long maxEntries;
+  private final long maxBytes;
+  private final ScheduledExecutorService sweeper;
 
   /**
-   * Creates an in-memory idempotency service.
+   * Creates an in-memory idempotency service with default limits.
    *
-   * @param objectMapper serializer used for cached responses
+   * @param objectMapper serializer used for JSON responses
    */
   public InMemoryIdempotencyService(ObjectMapper objectMapper) {
-    super(objectMapper);
+    this(objectMapper, new IdempotencyProperties());
+  }
+
+  /**
+   * Creates an in-memory idempotency service.
+   *
+   * @param objectMapper serializer used for JSON responses
+   * @param properties codec choice, reservation timings and in-memory store limits
+   */
+  public InMemoryIdempotencyService(ObjectMapper objectMapper, IdempotencyProperties properties) {
+    this(defaultCodecs(objectMapper), properties);
+  }
+
+  /**
+   * Creates an in-memory idempotency service.
+   *
+   * @param codecs codecs able to read stored responses
+   * @param properties codec choice, reservation timings and in-memory store limits
+   */
+  public InMemoryIdempotencyService(
+      List<IdempotencyPayloadCodec> codecs, IdempotencyProperties properties) {
+    super(codecs, properties);
+    IdempotencyProperties.InMemory limits = properties.getInMemory();
+    this.maxEntries = limits.getMaxEntries();
+    this.maxBytes = limits.getMaxSize().toBytes();
+    this.sweeper =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("idempotency-sweeper").factory());
+    long sweepMillis = Math.max(1, limits.getSweepInterval().toMillis());
+    sweeper.scheduleWithFixedDelay(
+        this::removeExpiredEntries, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
   }
 
   @Override
-  protected String getCached(String cacheKey) {
+  protected byte[] getCached(String cacheKey) {
     CacheEntry cacheEntry = cache.get(cacheKey);
     if (cacheEntry == null) {
+      misses.increment();
       return null;
     }
-    if (System.currentTimeMillis() > cacheEntry.expiresAtMillis()) {
-      cache.remove(cacheKey);
+    if (cacheEntry.isExpired(System.currentTimeMillis())) {
+      if (remove(cacheEntry)) {
+        expirations.increment();
+      }
+      misses.increment();
       return null;
     }
+    if (!isPendingMarker(cacheEntry.payload())) {
+      hits.increment();
+    }
     return cacheEntry.payload();
   }
 
   @Override
-  protected void putCached(String cacheKey, String payload, Duration ttl) {
-    long expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
-    cache.put(cacheKey, new CacheEntry(payload, expiresAtMillis));
+  protected void putCached(String cacheKey, byte[] payload, Duration ttl) {
+    CacheEntry cacheEntry = newEntry(cacheKey, payload, System.currentTimeMillis(), ttl);
+    cache.compute(cacheKey, (key, existing) -> replace(existing, cacheEntry));
+    enforceLimits();
+  }
+
+  @Override
+  protected boolean tryReserve(String cacheKey, byte[] pendingMarker, Duration lease) {
+    long nowMillis = System.currentTimeMillis();
+    CacheEntry reservation = newEntry(cacheKey, pendingMarker, nowMillis, lease);
+    CacheEntry winner =
+        cache.compute(
+            cacheKey,
+            (key, existing) ->
+                existing == null || existing.isExpired(nowMillis)
+                    ? replace(existing, reservation)
+                    : existing);
+    if (winner != reservation) {
+      return false;
+    }
+    enforceLimits();
+    return true;
   }
 
-  private record CacheEntry(String payload, long expiresAtMillis) {}
+  @Override
+  protected void releaseReservation(String cacheKey, byte[] pendingMarker) {
+    cache.computeIfPresent(
+        cacheKey,
+        (key, existing) -> {
+          if (!Arrays.equals(existing.payload(), pendingMarker)) {
+            return existing;
+          }
+          unindex(existing);
+          return null;
+        });
+  }
+
+  /**
+   * Returns a point-in-time snapshot of store counters.
+   *
+   * @return current statistics
+   */
+  public Statistics statistics() {
+    return new Statistics(
+        hits.sum(),
+        misses.sum(),
+        evictions.sum(),
+        expirations.sum(),
+        cache.mappingCount(),
+        storedBytes.get());
+  }
+
+  /** Stops the background sweeper. */
+  @Override
+  public void close() {
+    sweeper.shutdownNow();
+  }
+
+  /** Drops every entry whose expiry has passed, in expiry order. */
+  void removeExpiredEntries() {
+    long nowMillis = System.currentTimeMillis();
+    Iterator<CacheEntry> iterator = expiryIndex.iterator();
+    while (iterator.hasNext()) {
+      CacheEntry oldest = iterator.next();
+      if (!oldest.isExpired(nowMillis)) {
+        return;
+      }
+      if (remove(oldest)) {
+        expirations.increment();
+      } else {
+        // Replaced concurrently; the replacement removes this node itself.
+        unindex(oldest);
+      }
+    }
+  }
+
+  private void enforceLimits() {
+    while (cache.mappingCount() > maxEntries || storedBytes.get() > maxBytes) {
+      CacheEntry victim = soonestExpiringResponse();
+      if (victim == null) {
+        return;
+      }
+      if (remove(victim)) {
+        evictions.increment();
+      }
+    }
+  }
+
+  private CacheEntry soonestExpiringResponse() {
+    Iterator<CacheEntry> iterator = expiryIndex.iterator();
+    while (iterator.hasNext()) {
+      CacheEntry candidate = iterator.next();
+      if (!isPendingMarker(candidate.payload())) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private CacheEntry newEntry(String cacheKey, byte[] payload, long nowMillis, Duration ttl) {
+    return new CacheEntry(
+        cacheKey, payload, nowMillis + ttl.toMillis(), entrySequence.incrementAndGet());
+  }
+
+  /** Runs inside the map's per-key lock, keeping the index and byte count in step with it. */
+  private CacheEntry replace(CacheEntry existing, CacheEntry replacement) {
+    if (existing != null) {
+      unindex(existing);
+    }
+    expiryIndex.add(replacement);
+    storedBytes.addAndGet(replacement.weightBytes());
+    return replacement;
+  }
+
+  private boolean remove(CacheEntry cacheEntry) {
+    boolean[] removed = new boolean[1];
+    cache.computeIfPresent(
+        cacheEntry.cacheKey(),
+        (key, existing) -> {
+          if (existing != cacheEntry) {
+            return existing;
+          }
+          unindex(existing);
+          removed[0] = true;
+          return null;
+        });
+    return removed[0];
+  }
+
+  private void unindex(CacheEntry cacheEntry) {
+    if (expiryIndex.remove(cacheEntry)) {
+      storedBytes.addAndGet(-cacheEntry.weightBytes());
+    }
+  }
+
+  /**
+   * Snapshot of in-memory store counters.
+   *
+   * @param hits lookups that found a completed response
+   * @param misses lookups that found nothing or an expired entry
+   * @param evictions completed responses dropped to stay within the size limits
+   * @param expirations entries dropped after their time to live
+   * @param size current number of entries
+   * @param bytes estimated heap footprint of current entries
+   */
+  public record Statistics(
+      long hits, long misses, long evictions, long expirations, long size, long bytes) {}
+
+  private record CacheEntry(String cacheKey, byte[] payload, long expiresAtMillis, long sequence) {
+    private boolean isExpired(long nowMillis) {
+      return nowMillis > expiresAtMillis;
+    }
+
+    private long weightBytes() {
+      return ENTRY_OVERHEAD_BYTES + 2L * cacheKey.length() + payload.length;
+    }
+  }
 }
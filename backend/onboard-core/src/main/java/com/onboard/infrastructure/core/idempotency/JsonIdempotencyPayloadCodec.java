@@ -0,0 +1,42 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+/** Stores responses as UTF-8 JSON, the format used before payload headers were introduced. */
+public class JsonIdempotencyPayloadCodec implements IdempotencyPayloadCodec {
+
+  /** Format identifier of JSON payloads; also assumed for header-less legacy entries. */
+  public static final byte FORMAT_ID = 1;
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Creates a JSON codec.
+   *
+   * @param objectMapper application JSON mapper
+   */
+  public JsonIdempotencyPayloadCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public String name() {
+    return "json";
+  }
+
+  @Override
+  public byte formatId() {
+    return FORMAT_ID;
+  }
+
+  @Override
+  public byte[] encode(Object value) {
+    return objectMapper.writeValueAsBytes(value);
+  }
+
+  @Override
+  public <T> T decode(byte[] payload, JavaType type) {
+    return objectMapper.readValue(payload, type);
+  }
+}
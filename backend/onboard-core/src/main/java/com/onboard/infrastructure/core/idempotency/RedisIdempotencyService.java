@@ -1,33 +1,75 @@
 package com.onboard.infrastructure.core.idempotency;
 
+import com.onboard.infrastructure.core.config.PlatformProperties.IdempotencyProperties;
 import java.time.Duration;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import tools.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /** Redis-backed implementation for idempotency response storage. */
 public class RedisIdempotencyService extends AbstractIdempotencyService {
 
-  private final StringRedisTemplate stringRedisTemplate;
+  /** Deletes the key only while it still holds the caller's own pending marker. */
+  private static final RedisScript<Long> RELEASE_IF_OWNER =
+      RedisScript.of(
+          "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end"
+              + " return 0",
+          Long.class);
+
+  private final RedisTemplate<String, byte[]> redisTemplate;
 
   /**
    * Creates a Redis-backed idempotency service.
    *
-   * @param stringRedisTemplate Redis template for value operations
-   * @param objectMapper serializer used for cached responses
+   * @param redisTemplate Redis template with string keys and raw byte values
+   * @param codecs codecs able to read stored responses
+   * @param properties codec choice, compression threshold and reservation timings
    */
   public RedisIdempotencyService(
-      StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
-    super(objectMapper);
-    this.stringRedisTemplate = stringRedisTemplate;
+      RedisTemplate<String, byte[]> redisTemplate,
+      List<IdempotencyPayloadCodec> codecs,
+      IdempotencyProperties properties) {
+    super(codecs, properties);
+    this.redisTemplate = redisTemplate;
+  }
+
+  /**
+   * Creates the byte-valued template this service expects.
+   *
+   * @param connectionFactory Redis connection factory
+   * @return initialized template
+   */
+  public static RedisTemplate<String, byte[]> createRedisTemplate(
+      RedisConnectionFactory connectionFactory) {
+    RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+    template.setConnectionFactory(connectionFactory);
+    template.setKeySerializer(RedisSerializer.string());
+    template.setValueSerializer(RedisSerializer.byteArray());
+    template.afterPropertiesSet();
+    return template;
+  }
+
+  @Override
+  protected byte[] getCached(String cacheKey) {
+    return redisTemplate.opsForValue().get(cacheKey);
+  }
+
+  @Override
+  protected void putCached(String cacheKey, byte[] payload, Duration ttl) {
+    redisTemplate.opsForValue().set(cacheKey, payload, ttl);
   }
 
   @Override
-  protected String getCached(String cacheKey) {
-    return stringRedisTemplate.opsForValue().get(cacheKey);
+  protected boolean tryReserve(String cacheKey, byte[] pendingMarker, Duration lease) {
+    // SET key marker NX PX lease
+    return Boolean.TRUE.equals(
+        redisTemplate.opsForValue().setIfAbsent(cacheKey, pendingMarker, lease));
   }
 
   @Override
-  protected void putCached(String cacheKey, String payload, Duration ttl) {
-    stringRedisTemplate.opsForValue().set(cacheKey, payload, ttl);
+  protected void releaseReservation(String cacheKey, byte[] pendingMarker) {
+    redisTemplate.execute(RELEASE_IF_OWNER, List.of(cacheKey), (Object) pendingMarker);
   }
 }
@@ -0,0 +1,50 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import tools.jackson.databind.JavaType;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Stores responses as Jackson Smile, a binary JSON encoding that skips text parsing on replay and
+ * back-references repeated field names.
+ */
+public class SmileIdempotencyPayloadCodec implements IdempotencyPayloadCodec {
+
+  /** Format identifier of Smile payloads. */
+  public static final byte FORMAT_ID = 2;
+
+  private final SmileMapper smileMapper;
+
+  /** Creates a Smile codec with modules discovered on the classpath. */
+  public SmileIdempotencyPayloadCodec() {
+    this(SmileMapper.builder().findAndAddModules().build());
+  }
+
+  /**
+   * Creates a Smile codec.
+   *
+   * @param smileMapper configured Smile mapper
+   */
+  public SmileIdempotencyPayloadCodec(SmileMapper smileMapper) {
+    this.smileMapper = smileMapper;
+  }
+
+  @Override
+  public String name() {
+    return "smile";
+  }
+
+  @Override
+  public byte formatId() {
+    return FORMAT_ID;
+  }
+
+  @Override
+  public byte[] encode(Object value) {
+    return smileMapper.writeValueAsBytes(value);
+  }
+
+  @Override
+  public <T> T decode(byte[] payload, JavaType type) {
+    return smileMapper.readValue(payload, type);
+  }
+}
@@ -0,0 +1,15 @@
+package com.onboard.infrastructure.core.messaging;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Event received from the message broker.
+ *
+ * @param messageId broker message id, the outbox event id for platform events; events without one
+ *     are not deduplicated
+ * @param type event type, e.g. {@code registration.created}
+ * @param queue queue the event was consumed from
+ * @param payload message body
+ */
+public record InboundEvent(
+    @Nullable String messageId, @Nullable String type, String queue, byte[] payload) {}
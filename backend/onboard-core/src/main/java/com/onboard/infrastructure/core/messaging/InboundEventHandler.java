@@ -0,0 +1,27 @@
+package com.onboard.infrastructure.core.messaging;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Module hook invoked for consumed events.
+ *
+ * <p>Handlers run at most once per message id while the deduplication entry lives; an exception
+ * dead-letters the message, and a later replay runs the handler again.
+ */
+public interface InboundEventHandler {
+
+  /**
+   * Tells whether this handler wants events of the given type.
+   *
+   * @param eventType event type, {@code null} when the message carries none
+   * @return {@code true} to receive the event
+   */
+  boolean supports(@Nullable String eventType);
+
+  /**
+   * Handles one event.
+   *
+   * @param event consumed event
+   */
+  void handle(InboundEvent event);
+}
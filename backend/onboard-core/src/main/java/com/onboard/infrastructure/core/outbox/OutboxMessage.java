@@ -0,0 +1,17 @@
+package com.onboard.infrastructure.core.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Event recorded in a module's outbox table, waiting to be published to RabbitMQ.
+ *
+ * @param id message id, also sent as the AMQP message id so consumers can drop duplicates
+ * @param exchange target exchange
+ * @param routingKey routing key
+ * @param type event type, sent as the AMQP type property
+ * @param payload JSON body
+ * @param createdAt time the event was recorded
+ */
+public record OutboxMessage(
+    UUID id, String exchange, String routingKey, String type, String payload, Instant createdAt) {}
@@ -0,0 +1,37 @@
+package com.onboard.infrastructure.core.outbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox table of one module, drained by the platform relay.
+ *
+ * <p>Modules append rows in the transaction that changes their state; the relay calls both methods
+ * inside one transaction of its own, publishes the locked rows and deletes the confirmed ones.
+ * Delivery is therefore at least once.
+ */
+public interface OutboxStore {
+
+  /**
+   * Returns a name for logs and metrics.
+   *
+   * @return outbox name
+   */
+  String name();
+
+  /**
+   * Locks the oldest unpublished messages, skipping rows another relay has already locked.
+   *
+   * @param limit maximum number of messages
+   * @return locked messages, oldest first
+   */
+  List<OutboxMessage> lockNextBatch(int limit);
+
+  /**
+   * Removes published messages.
+   *
+   * @param ids ids of messages confirmed by the broker
+   */
+  void delete(Collection<UUID> ids);
+}
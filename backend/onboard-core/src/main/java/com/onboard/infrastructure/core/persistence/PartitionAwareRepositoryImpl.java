@@ -34,6 +34,11 @@ public class PartitionAwareRepositoryImpl<T, IdT extends Serializable>
 
   @Override
   public Optional<T> findById(IdT id, PartitionHint hint) {
+    if (hint.getCriteria().isEmpty()) {
+      // Nothing to prune by: a plain ID lookup is the same query without the criteria overhead.
+      return super.findById(id);
+    }
+
     CriteriaBuilder cb = entityManager.getCriteriaBuilder();
     CriteriaQuery<T> query = cb.createQuery(getDomainClass());
     Root<T> root = query.from(getDomainClass());
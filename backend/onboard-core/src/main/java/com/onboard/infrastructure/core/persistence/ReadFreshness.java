@@ -0,0 +1,91 @@
+package com.onboard.infrastructure.core.persistence;
+
+import java.util.function.Supplier;
+
+/**
+ * What the datasource routing tells application caches about the freshness of their reads.
+ *
+ * <p>Two per-thread signals, both set by the routing layer and off when it does not track replica
+ * positions:
+ *
+ * <ul>
+ *   <li>a read position is required: the current request carries or has produced a read-your-writes
+ *       token, so a cached result, which may predate the token, must not answer it;
+ *   <li>a read was possibly stale: a read inside {@link #observe} went to a replica that had not
+ *       yet replayed the last write this node committed, so its result must not be cached for
+ *       others.
+ * </ul>
+ */
+public final class ReadFreshness {
+
+  private static final ThreadLocal<Boolean> POSITION_REQUIRED = new ThreadLocal<>();
+  private static final ThreadLocal<boolean[]> OBSERVED_STALE = new ThreadLocal<>();
+
+  private ReadFreshness() {}
+
+  /**
+   * Marks whether reads on the current thread must observe a read-your-writes position.
+   *
+   * @param required {@code true} to require one, {@code false} to clear the mark
+   */
+  public static void requirePosition(boolean required) {
+    if (required) {
+      POSITION_REQUIRED.set(Boolean.TRUE);
+    } else {
+      POSITION_REQUIRED.remove();
+    }
+  }
+
+  /**
+   * Tells whether reads on the current thread must observe a read-your-writes position.
+   *
+   * @return {@code true} when cached results must not answer the current request
+   */
+  public static boolean isPositionRequired() {
+    return POSITION_REQUIRED.get() != null;
+  }
+
+  /**
+   * Records that a read on the current thread went to a replica possibly behind this node's writes.
+   */
+  public static void markPossiblyStale() {
+    boolean[] stale = OBSERVED_STALE.get();
+    if (stale != null) {
+      stale[0] = true;
+    }
+  }
+
+  /**
+   * Runs a read on the current thread and reports whether all of it was fully consistent.
+   *
+   * @param read read to run
+   * @param <T> result type
+   * @return result of the read and whether it may be shared
+   */
+  public static <T> Observed<T> observe(Supplier<T> read) {
+    boolean[] outer = OBSERVED_STALE.get();
+    boolean[] stale = new boolean[1];
+    OBSERVED_STALE.set(stale);
+    try {
+      T value = read.get();
+      return new Observed<>(value, !stale[0]);
+    } finally {
+      if (outer == null) {
+        OBSERVED_STALE.remove();
+      } else {
+        outer[0] |= stale[0];
+        OBSERVED_STALE.set(outer);
+      }
+    }
+  }
+
+  /**
+   * Result of {@link #observe}.
+   *
+   * @param value result of the read
+   * @param consistent {@code false} when any part of it came from a replica possibly behind a
+   *     write this node committed
+   * @param <T> result type
+   */
+  public record Observed<T>(T value, boolean consistent) {}
+}
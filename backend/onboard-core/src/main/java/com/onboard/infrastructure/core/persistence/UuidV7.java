@@ -0,0 +1,66 @@
+package com.onboard.infrastructure.core.persistence;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Generates and inspects RFC 9562 version 7 UUIDs.
+ *
+ * <p>The 48 most significant bits carry the Unix epoch milliseconds of the creation time, so the
+ * ID alone is enough to derive a partition hint for time-partitioned tables.
+ */
+public final class UuidV7 {
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+  private static final int VERSION = 7;
+  private static final int IETF_VARIANT = 2;
+
+  private UuidV7() {}
+
+  /**
+   * Generates a version 7 UUID for the current time.
+   *
+   * @return new time-ordered UUID
+   */
+  public static UUID generate() {
+    return generate(Instant.now());
+  }
+
+  /**
+   * Generates a version 7 UUID carrying the given timestamp.
+   *
+   * @param timestamp creation time encoded into the UUID
+   * @return new time-ordered UUID
+   */
+  public static UUID generate(Instant timestamp) {
+    long randA = RANDOM.nextInt() & 0xFFFL;
+    long mostSignificantBits = (timestamp.toEpochMilli() << 16) | ((long) VERSION << 12) | randA;
+    long leastSignificantBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | Long.MIN_VALUE;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  /**
+   * Returns whether the UUID is a version 7 UUID.
+   *
+   * @param uuid UUID to inspect
+   * @return true for version 7 UUIDs
+   */
+  public static boolean isVersion7(UUID uuid) {
+    return uuid.version() == VERSION && uuid.variant() == IETF_VARIANT;
+  }
+
+  /**
+   * Extracts the creation time encoded in a version 7 UUID.
+   *
+   * @param uuid version 7 UUID
+   * @return encoded creation time with millisecond precision
+   * @throws IllegalArgumentException when the UUID is not version 7
+   */
+  public static Instant timestamp(UUID uuid) {
+    if (!isVersion7(uuid)) {
+      throw new IllegalArgumentException("UUID " + uuid + " is not a version 7 UUID");
+    }
+    return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+  }
+}
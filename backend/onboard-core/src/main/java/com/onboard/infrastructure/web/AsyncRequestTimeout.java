@@ -0,0 +1,42 @@
+package com.onboard.infrastructure.web;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+/**
+ * Per-request timeout for asynchronous responses such as {@code StreamingResponseBody}.
+ *
+ * <p>A handler whose response is expected to run long calls {@link #extend(Duration)}. Registered
+ * as a callable interceptor, this class applies that timeout just before asynchronous processing
+ * starts; every other request keeps the application default.
+ */
+public final class AsyncRequestTimeout implements CallableProcessingInterceptor {
+
+  private static final String ATTRIBUTE = AsyncRequestTimeout.class.getName();
+
+  /**
+   * Gives the asynchronous response of the current request the given timeout.
+   *
+   * @param timeout time the response may take once the handler returns
+   */
+  public static void extend(Duration timeout) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.setAttribute(ATTRIBUTE, timeout, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  @Override
+  public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+    if (request instanceof AsyncWebRequest asyncRequest
+        && request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof Duration timeout) {
+      asyncRequest.setTimeout(timeout.toMillis());
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.IdempotencyProperties;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class IdempotencyPayloadEncodingTest {
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private final JavaType responseType = objectMapper.getTypeFactory().constructType(Response.class);
+  private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+
+  @Test
+  void compressesLargeBodiesAndRestoresThem() {
+    byte[] body = "{\"field\":\"value\"}".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    byte[] stored =
+        IdempotencyPayloadEnvelope.wrap(JsonIdempotencyPayloadCodec.FORMAT_ID, body, 1_024);
+    IdempotencyPayloadEnvelope.Payload payload = IdempotencyPayloadEnvelope.unwrap(stored);
+
+    assertThat(stored.length).isLessThan(body.length / 4);
+    assertThat(payload.formatId()).isEqualTo(JsonIdempotencyPayloadCodec.FORMAT_ID);
+    assertThat(payload.body()).isEqualTo(body);
+  }
+
+  @Test
+  void smileEntriesStayReadableAfterSwitchingWriterToJson() {
+    Response response = new Response("form-1", "x".repeat(5_000));
+    service("smile").execute("test", "key", TTL, responseType, () -> response);
+
+    Response replayed =
+        service("json")
+            .execute("test", "key", TTL, responseType, () -> new Response("recomputed", ""));
+
+    assertThat(replayed).isEqualTo(response);
+  }
+
+  @Test
+  void readsHeaderlessJsonWrittenByEarlierReleases() {
+    store.put(
+        "idempotency:test:key",
+        "{\"id\":\"form-1\",\"content\":\"legacy\"}".getBytes(StandardCharsets.UTF_8));
+
+    Response replayed =
+        service("smile")
+            .execute("test", "key", TTL, responseType, () -> new Response("recomputed", ""));
+
+    assertThat(replayed).isEqualTo(new Response("form-1", "legacy"));
+  }
+
+  @Test
+  void treatsLegacyPendingMarkerAsReservation() {
+    byte[] legacyMarker = "\u0000pending:owner".getBytes(StandardCharsets.UTF_8);
+
+    assertThat(IdempotencyPayloadEnvelope.isPending(legacyMarker)).isTrue();
+  }
+
+  @Test
+  void writesOnlyHeaderlessJsonByDefault() {
+    IdempotencyService service =
+        new MapBackedIdempotencyService(
+            AbstractIdempotencyService.defaultCodecs(objectMapper),
+            new IdempotencyProperties(),
+            store);
+    List<byte[]> duringSupplier = new ArrayList<>();
+    Response response = new Response("form-1", "x".repeat(5_000));
+
+    service.execute(
+        "test",
+        "key",
+        TTL,
+        responseType,
+        () -> {
+          duringSupplier.add(store.getOrDefault("idempotency:test:key", new byte[0]));
+          return response;
+        });
+
+    // No pending marker: releases without reservations would fail to deserialize it.
+    assertThat(duringSupplier.getFirst()).isEmpty();
+    assertThat(new String(store.get("idempotency:test:key"), StandardCharsets.UTF_8))
+        .isEqualTo(objectMapper.writeValueAsString(response));
+  }
+
+  @Test
+  void reservesWithHeadedMarkerWhenEnabled() {
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setReserveKeys(true);
+    IdempotencyService service =
+        new MapBackedIdempotencyService(
+            AbstractIdempotencyService.defaultCodecs(objectMapper), properties, store);
+    List<byte[]> duringSupplier = new ArrayList<>();
+
+    service.execute(
+        "test",
+        "key",
+        TTL,
+        responseType,
+        () -> {
+          duringSupplier.add(store.get("idempotency:test:key"));
+          return new Response("form-1", "");
+        });
+
+    assertThat(IdempotencyPayloadEnvelope.isPending(duringSupplier.getFirst())).isTrue();
+  }
+
+  @Test
+  void refusesToRunAlongsideAReservationWhileReservationsAreOff() {
+    store.put("idempotency:test:key", IdempotencyPayloadEnvelope.pendingMarker(UUID.randomUUID()));
+    IdempotencyService service =
+        new MapBackedIdempotencyService(
+            AbstractIdempotencyService.defaultCodecs(objectMapper),
+            new IdempotencyProperties(),
+            store);
+
+    assertThatThrownBy(
+            () -> service.execute("test", "key", TTL, responseType, () -> new Response("", "")))
+        .isInstanceOf(IdempotencyKeyInProgressException.class);
+  }
+
+  @Test
+  void rejectsSmileWithoutEnvelope() {
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setCodec("smile");
+
+    assertThatIllegalStateException()
+        .isThrownBy(
+            () ->
+                new MapBackedIdempotencyService(
+                    AbstractIdempotencyService.defaultCodecs(objectMapper), properties, store));
+  }
+
+  private IdempotencyService service(String codec) {
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setCodec(codec);
+    properties.setWriteEnvelope(true);
+    return new MapBackedIdempotencyService(
+        AbstractIdempotencyService.defaultCodecs(objectMapper), properties, store);
+  }
+
+  record Response(String id, String content) {}
+
+  /** Minimal store sharing one map between service instances, like nodes sharing Redis. */
+  private static final class MapBackedIdempotencyService extends AbstractIdempotencyService {
+    private final Map<String, byte[]> store;
+
+    private MapBackedIdempotencyService(
+        List<IdempotencyPayloadCodec> codecs,
+        IdempotencyProperties properties,
+        Map<String, byte[]> store) {
+      super(codecs, properties);
+      this.store = store;
+    }
+
+    @Override
+    protected byte[] getCached(String cacheKey) {
+      return store.get(cacheKey);
+    }
+
+    @Override
+    protected void putCached(String cacheKey, byte[] payload, Duration ttl) {
+      store.put(cacheKey, payload);
+    }
+
+    @Override
+    protected boolean tryReserve(String cacheKey, byte[] pendingMarker, Duration lease) {
+      return store.putIfAbsent(cacheKey, pendingMarker) == null;
+    }
+
+    @Override
+    protected void releaseReservation(String cacheKey, byte[] pendingMarker) {
+      store.remove(cacheKey, pendingMarker);
+    }
+  }
+}
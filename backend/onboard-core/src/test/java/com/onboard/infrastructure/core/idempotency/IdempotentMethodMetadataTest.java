@@ -0,0 +1,55 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.type.TypeFactory;
+
+class IdempotentMethodMetadataTest {
+
+  private final TypeFactory typeFactory = JsonMapper.builder().build().getTypeFactory();
+
+  @Test
+  void resolvesKeyConsistentlyOnceCompiled() throws Exception {
+    IdempotentMethodMetadata metadata = metadataFor("submit", Object.class);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(metadata.resolveKey(new Object[] {"form-" + i})).isEqualTo("submit:form-" + i);
+    }
+    // A differently typed argument falls back to interpretation instead of failing.
+    assertThat(metadata.resolveKey(new Object[] {42})).isEqualTo("submit:42");
+  }
+
+  @Test
+  void capturesNamespaceTtlAndGenericReturnType() throws Exception {
+    IdempotentMethodMetadata metadata = metadataFor("list");
+
+    assertThat(metadata.hasKeyExpression()).isFalse();
+    assertThat(metadata.namespace()).isEqualTo("Sample.list");
+    assertThat(metadata.ttl()).isEqualTo(Duration.ofMinutes(5));
+    assertThat(metadata.returnType().getContentType().getRawClass()).isEqualTo(String.class);
+  }
+
+  private IdempotentMethodMetadata metadataFor(String name, Class<?>... parameterTypes)
+      throws NoSuchMethodException {
+    Method method = Sample.class.getMethod(name, parameterTypes);
+    return IdempotentMethodMetadata.of(
+        method, method.getAnnotation(Idempotent.class), typeFactory);
+  }
+
+  static class Sample {
+    @Idempotent(key = "'submit:' + #args[0]", namespace = "sample.submit")
+    public String submit(Object formId) {
+      return String.valueOf(formId);
+    }
+
+    @Idempotent(expire = 5, timeUnit = java.util.concurrent.TimeUnit.MINUTES)
+    public List<String> list() {
+      return List.of();
+    }
+  }
+}
@@ -0,0 +1,216 @@
+package com.onboard.infrastructure.core.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.IdempotencyProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class InMemoryIdempotencyServiceTest {
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private final JavaType stringType = objectMapper.getTypeFactory().constructType(String.class);
+
+  @Test
+  void parallelDuplicatesRunSupplierOnceAndShareResult() throws Exception {
+    IdempotencyService service =
+        new InMemoryIdempotencyService(objectMapper, properties(Duration.ofSeconds(10)));
+    AtomicInteger invocations = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    int requests = 500;
+
+    List<Future<String>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < requests; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return service.execute(
+                      "test",
+                      "same-key",
+                      TTL,
+                      stringType,
+                      () -> {
+                        invocations.incrementAndGet();
+                        sleep(Duration.ofMillis(100));
+                        return "created";
+                      });
+                }));
+      }
+      start.countDown();
+    }
+
+    for (Future<String> future : futures) {
+      assertThat(future.get()).isEqualTo("created");
+    }
+    assertThat(invocations).hasValue(1);
+  }
+
+  @Test
+  void duplicateGivesUpWhenFirstExecutionOutlastsWaitTimeout() throws Exception {
+    IdempotencyService service =
+        new InMemoryIdempotencyService(objectMapper, properties(Duration.ofMillis(50)));
+    CountDownLatch firstRunning = new CountDownLatch(1);
+    CountDownLatch releaseFirst = new CountDownLatch(1);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<String> first =
+          executor.submit(
+              () ->
+                  service.execute(
+                      "test",
+                      "slow-key",
+                      TTL,
+                      stringType,
+                      () -> {
+                        firstRunning.countDown();
+                        await(releaseFirst);
+                        return "first";
+                      }));
+      firstRunning.await();
+
+      assertThatThrownBy(() -> service.execute("test", "slow-key", TTL, stringType, () -> "second"))
+          .isInstanceOf(IdempotencyKeyInProgressException.class);
+
+      releaseFirst.countDown();
+      assertThat(first.get()).isEqualTo("first");
+    }
+    assertThat(service.execute("test", "slow-key", TTL, stringType, () -> "third"))
+        .isEqualTo("first");
+  }
+
+  @Test
+  void failedExecutionReleasesKeyForRetry() {
+    IdempotencyService service = new InMemoryIdempotencyService(objectMapper);
+
+    assertThatThrownBy(
+            () ->
+                service.execute(
+                    "test",
+                    "failing-key",
+                    TTL,
+                    stringType,
+                    () -> {
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(service.execute("test", "failing-key", TTL, stringType, () -> "retried"))
+        .isEqualTo("retried");
+  }
+
+  @Test
+  void evictsSoonestExpiringResponsesBeyondEntryLimit() {
+    IdempotencyProperties properties = properties(Duration.ofSeconds(1));
+    properties.getInMemory().setMaxEntries(100);
+    try (InMemoryIdempotencyService service =
+        new InMemoryIdempotencyService(objectMapper, properties)) {
+      for (int i = 0; i < 1_000; i++) {
+        String value = "value-" + i;
+        service.execute("test", "key-" + i, TTL.plusMillis(i), stringType, () -> value);
+      }
+
+      assertThat(service.statistics().size()).isEqualTo(100);
+      assertThat(service.statistics().evictions()).isEqualTo(900);
+      // The longest-lived responses survive.
+      assertThat(service.execute("test", "key-999", TTL, stringType, () -> "recomputed"))
+          .isEqualTo("value-999");
+      assertThat(service.execute("test", "key-0", TTL, stringType, () -> "recomputed"))
+          .isEqualTo("recomputed");
+    }
+  }
+
+  @Test
+  void evictsResponsesBeyondByteLimit() {
+    IdempotencyProperties properties = properties(Duration.ofSeconds(1));
+    properties.getInMemory().setMaxSize(DataSize.ofKilobytes(64));
+    byte[] randomBytes = new byte[4_096];
+    new Random(42).nextBytes(randomBytes);
+    // Incompressible, so payload compression does not keep it under the limit.
+    String largeValue = Base64.getEncoder().encodeToString(randomBytes);
+    try (InMemoryIdempotencyService service =
+        new InMemoryIdempotencyService(objectMapper, properties)) {
+      for (int i = 0; i < 100; i++) {
+        service.execute("test", "key-" + i, TTL, stringType, () -> largeValue);
+      }
+
+      assertThat(service.statistics().bytes()).isLessThanOrEqualTo(64 * 1024);
+      assertThat(service.statistics().evictions()).isPositive();
+    }
+  }
+
+  @Test
+  void sweeperRemovesExpiredEntriesWithoutReads() throws Exception {
+    IdempotencyProperties properties = properties(Duration.ofSeconds(1));
+    properties.getInMemory().setSweepInterval(Duration.ofMillis(10));
+    try (InMemoryIdempotencyService service =
+        new InMemoryIdempotencyService(objectMapper, properties)) {
+      for (int i = 0; i < 50; i++) {
+        service.execute("test", "key-" + i, Duration.ofMillis(20), stringType, () -> "value");
+      }
+
+      long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+      while (service.statistics().size() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertThat(service.statistics().size()).isZero();
+      assertThat(service.statistics().bytes()).isZero();
+      assertThat(service.statistics().expirations()).isEqualTo(50);
+    }
+  }
+
+  @Test
+  void countsHitsAndMisses() {
+    try (InMemoryIdempotencyService service = new InMemoryIdempotencyService(objectMapper)) {
+      service.execute("test", "key", TTL, stringType, () -> "value");
+      service.execute("test", "key", TTL, stringType, () -> "value");
+
+      assertThat(service.statistics().misses()).isEqualTo(1);
+      assertThat(service.statistics().hits()).isEqualTo(1);
+    }
+  }
+
+  private static IdempotencyProperties properties(Duration waitTimeout) {
+    IdempotencyProperties properties = new IdempotencyProperties();
+    properties.setReserveKeys(true);
+    properties.setWaitTimeout(waitTimeout);
+    properties.setPollInterval(Duration.ofMillis(5));
+    return properties;
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
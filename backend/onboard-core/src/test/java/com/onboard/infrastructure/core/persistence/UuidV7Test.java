@@ -0,0 +1,51 @@
+package com.onboard.infrastructure.core.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+  private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30.123Z");
+
+  @Test
+  void generatesVersion7UuidsWithTheIetfVariant() {
+    UUID uuid = UuidV7.generate(CREATED_AT);
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(UuidV7.isVersion7(uuid)).isTrue();
+  }
+
+  @Test
+  void encodesTheTimestampWithMillisecondPrecision() {
+    assertThat(UuidV7.timestamp(UuidV7.generate(CREATED_AT))).isEqualTo(CREATED_AT);
+    assertThat(UuidV7.timestamp(UuidV7.generate(Instant.parse("2026-03-01T10:15:30.123456Z"))))
+        .isEqualTo(CREATED_AT);
+  }
+
+  @Test
+  void ordersByCreationTime() {
+    UUID earlier = UuidV7.generate(CREATED_AT);
+    UUID later = UuidV7.generate(CREATED_AT.plusMillis(1));
+
+    assertThat(earlier.toString()).isLessThan(later.toString());
+  }
+
+  @Test
+  void generatesDistinctUuidsForTheSameMillisecond() {
+    assertThat(UuidV7.generate(CREATED_AT)).isNotEqualTo(UuidV7.generate(CREATED_AT));
+  }
+
+  @Test
+  void rejectsOtherVersions() {
+    UUID random = UUID.fromString("fd4dcdb6-b2f6-4726-a17f-8ea363d2cd3e");
+
+    assertThat(UuidV7.isVersion7(random)).isFalse();
+    assertThatThrownBy(() -> UuidV7.timestamp(random))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,48 @@
+package com.onboard.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+class AsyncRequestTimeoutTest {
+
+  private final MockHttpServletRequest request = new MockHttpServletRequest();
+  private final AsyncRequestTimeout interceptor = new AsyncRequestTimeout();
+
+  @AfterEach
+  void resetRequestContext() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void appliesTimeoutSetByTheHandler() throws Exception {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    AsyncRequestTimeout.extend(Duration.ofMinutes(30));
+
+    assertThat(startAsync()).isEqualTo(Duration.ofMinutes(30).toMillis());
+  }
+
+  @Test
+  void leavesOtherRequestsAtTheDefault() throws Exception {
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+    assertThat(startAsync()).isEqualTo(10_000);
+  }
+
+  private long startAsync() throws Exception {
+    request.setAsyncSupported(true);
+    StandardServletAsyncWebRequest asyncRequest =
+        new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+    asyncRequest.setTimeout(10_000L);
+    interceptor.beforeConcurrentHandling(asyncRequest, () -> null);
+    asyncRequest.startAsync();
+    return request.getAsyncContext().getTimeout();
+  }
+}
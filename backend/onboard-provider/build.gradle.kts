@@ -1,3 +1,4 @@
+import org.springframework.boot.gradle.tasks.aot.ProcessAot
 import org.springframework.boot.gradle.tasks.run.BootRun
 
 plugins {
@@ -9,6 +10,8 @@ plugins {
 }
 
 dependencies {
+  implementation(platform(libs.spring.boot.bom))
+
   implementation(project(":backend:onboard-core"))
   implementation(project(":backend:onboard-registration"))
   implementation(project(":backend:onboard-loan-origination"))
@@ -21,11 +24,17 @@ dependencies {
   implementation(libs.spring.boot.starter.json)
   implementation(libs.spring.boot.starter.data.redis)
   implementation(libs.liquibase.core)
+  implementation(libs.caffeine)
 
   runtimeOnly(libs.postgresql)
   runtimeOnly(libs.h2)
+
+  testImplementation(libs.spring.boot.starter.test)
+  testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
+tasks.test { useJUnitPlatform() }
+
 // skip the plain jar
 tasks.named<Jar>("jar") { enabled = false }
 
@@ -50,3 +59,52 @@ tasks.register<BootRun>("runLiquibaseMigration") {
     args("--spring.profiles.active=$migrateProfiles")
   }
 }
+
+// Startup-optimized build, opt-in with -Paot:
+//   ./gradlew :backend:onboard-provider:cdsArchive -Paot -PaotProfiles=postgres
+// AOT processing evaluates bean conditions at build time, so the profiles the application will run
+// with must be passed as aotProfiles, and the jar must then run with -Dspring.aot.enabled=true.
+val aotEnabled = project.hasProperty("aot")
+val aotProfiles = project.findProperty("aotProfiles")?.toString().orEmpty()
+
+if (aotEnabled) {
+  if (aotProfiles.isBlank()) {
+    throw GradleException("-Paot requires -PaotProfiles=<profiles the application runs with>")
+  }
+  apply(plugin = "org.springframework.boot.aot")
+
+  tasks.named<ProcessAot>("processAot") { systemProperty("spring.profiles.active", aotProfiles) }
+}
+
+val cdsDir = layout.buildDirectory.dir("cds")
+
+tasks.register<JavaExec>("extractBootJar") {
+  group = "distribution"
+  description = "Extracts the boot jar into app.jar plus lib/, the layout a CDS archive needs."
+
+  dependsOn(tasks.bootJar)
+  classpath(tasks.bootJar.flatMap { it.archiveFile })
+  mainClass.set("org.springframework.boot.loader.launch.JarLauncher")
+  jvmArgs("-Djarmode=tools")
+  args("extract", "--force", "--destination", cdsDir.get().asFile.absolutePath)
+  outputs.dir(cdsDir)
+}
+
+tasks.register<JavaExec>("cdsArchive") {
+  group = "distribution"
+  description = "Records an AppCDS archive from a training run that stops once the context is up."
+
+  dependsOn("extractBootJar")
+  val archive = cdsDir.map { it.file("application.jsa") }
+  classpath(cdsDir.map { it.file("app.jar") })
+  mainClass.set(tasks.bootJar.flatMap { it.mainClass })
+  // The h2 profile keeps the training run self-contained. An AOT build is bound to its build-time
+  // profiles, so it trains with aotProfiles, whose external services must then be reachable.
+  jvmArgs(
+      "-XX:ArchiveClassesAtExit=${archive.get().asFile.absolutePath}",
+      "-Dspring.context.exit=onRefresh",
+      "-Dspring.aot.enabled=$aotEnabled",
+  )
+  args("--spring.profiles.active=${if (aotEnabled) aotProfiles else "h2"}")
+  outputs.file(archive)
+}
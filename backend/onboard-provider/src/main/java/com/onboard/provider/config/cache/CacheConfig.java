@@ -1,47 +1,123 @@
 package com.onboard.provider.config.cache;
 
 import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.CacheEntry;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import tools.jackson.databind.ObjectMapper;
 
-/** Configures Redis cache manager using cache entries from platform properties. */
+/**
+ * Configures the cache manager using cache entries from platform properties.
+ *
+ * <p>Redis is the shared tier for every entry; entries with {@code near.enabled} also get a
+ * per-node in-process tier kept consistent through Redis pub/sub. Redis keeps each entry for its
+ * TTL plus {@code stampede.staleWhileRevalidate} so an expired value can still be served while it
+ * reloads.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
   /**
-   * Builds Redis cache manager with per-cache TTL overrides.
+   * Creates the bus broadcasting near-cache invalidations between nodes.
+   *
+   * @param stringRedisTemplate Redis template used to publish
+   * @param objectMapper message serializer
+   * @param platformProperties platform configuration properties
+   * @return invalidation bus
+   */
+  @Bean
+  public CacheInvalidationBus cacheInvalidationBus(
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper,
+      PlatformProperties platformProperties) {
+    String nodeId = platformProperties.getNodeId();
+    if (nodeId == null || nodeId.isBlank()) {
+      nodeId = UUID.randomUUID().toString();
+    }
+    String channel = resolveCacheProperties(platformProperties).getInvalidationChannel();
+    return new CacheInvalidationBus(stringRedisTemplate, objectMapper, channel, nodeId);
+  }
+
+  /**
+   * Builds the two-tier cache manager with per-cache Redis TTL and near-cache overrides.
    *
    * @param redisConnectionFactory Redis connection factory
    * @param platformProperties platform configuration properties
-   * @return Redis cache manager
+   * @param cacheInvalidationBus near-cache invalidation bus
+   * @return cache manager
    */
   @Bean
-  public RedisCacheManager cacheManager(
-      RedisConnectionFactory redisConnectionFactory, PlatformProperties platformProperties) {
+  public TwoTierCacheManager cacheManager(
+      RedisConnectionFactory redisConnectionFactory,
+      PlatformProperties platformProperties,
+      CacheInvalidationBus cacheInvalidationBus) {
     RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig();
     Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+    Map<String, CacheEntry> entries = new HashMap<>();
 
-    PlatformProperties.CacheProperties cacheProperties = platformProperties.getCache();
-    if (cacheProperties != null && cacheProperties.getEntries() != null) {
-      for (PlatformProperties.CacheProperties.CacheEntry entry : cacheProperties.getEntries()) {
-        if (entry.getName() == null || entry.getName().isBlank()) {
-          continue;
-        }
-        RedisCacheConfiguration cacheConfiguration = defaults.entryTtl(entry.getTtl());
-        cacheConfigurations.put(entry.getName(), cacheConfiguration);
+    for (CacheEntry entry : resolveCacheProperties(platformProperties).getEntries()) {
+      if (entry.getName() == null || entry.getName().isBlank()) {
+        continue;
       }
+      RedisCacheConfiguration cacheConfiguration = defaults.entryTtl(redisTtl(entry));
+      cacheConfigurations.put(entry.getName(), cacheConfiguration);
+      entries.put(entry.getName(), entry);
+    }
+
+    RedisCacheManager redisCacheManager =
+        RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(defaults)
+            .withInitialCacheConfigurations(cacheConfigurations)
+            .build();
+    redisCacheManager.afterPropertiesSet();
+    return new TwoTierCacheManager(
+        redisCacheManager, entries, cacheInvalidationBus, Clock.systemUTC());
+  }
+
+  /**
+   * Subscribes this node to near-cache invalidations published by other nodes.
+   *
+   * @param redisConnectionFactory Redis connection factory
+   * @param cacheInvalidationBus near-cache invalidation bus
+   * @param cacheManager cache manager owning the near caches
+   * @return listener container
+   */
+  @Bean
+  public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      CacheInvalidationBus cacheInvalidationBus,
+      TwoTierCacheManager cacheManager) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.addMessageListener(
+        cacheInvalidationBus.listenerFor(cacheManager),
+        new ChannelTopic(cacheInvalidationBus.channel()));
+    return container;
+  }
+
+  private static Duration redisTtl(CacheEntry entry) {
+    if (entry.getStampede() == null) {
+      return entry.getTtl();
     }
+    return entry.getTtl().plus(entry.getStampede().getStaleWhileRevalidate());
+  }
 
-    return RedisCacheManager.builder(redisConnectionFactory)
-        .cacheDefaults(defaults)
-        .withInitialCacheConfigurations(cacheConfigurations)
-        .build();
+  private static PlatformProperties.CacheProperties resolveCacheProperties(
+      PlatformProperties platformProperties) {
+    PlatformProperties.CacheProperties cacheProperties = platformProperties.getCache();
+    return cacheProperties != null ? cacheProperties : new PlatformProperties.CacheProperties();
   }
 }
@@ -0,0 +1,21 @@
+package com.onboard.provider.config.cache;
+
+import java.io.Serializable;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Cached value plus the metadata stampede protection needs, stored in place of the bare value.
+ *
+ * @param value cached value, possibly {@code null}
+ * @param softExpiresAtMillis epoch millis after which the value is stale
+ * @param computeMillis how long the value took to load, used to scale early refresh
+ * @param writeStamp random identifier of this write, compared before a refresh replaces it
+ */
+record CacheEnvelope(
+    @Nullable Object value, long softExpiresAtMillis, long computeMillis, long writeStamp)
+    implements Serializable {
+
+  boolean isStale(long nowMillis) {
+    return nowMillis >= softExpiresAtMillis;
+  }
+}
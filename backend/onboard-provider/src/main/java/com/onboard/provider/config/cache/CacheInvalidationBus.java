@@ -0,0 +1,91 @@
+package com.onboard.provider.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Broadcasts near-cache invalidations to other nodes over Redis pub/sub.
+ *
+ * <p>Pub/sub is fire-and-forget: a node that misses a message keeps a stale entry until its near
+ * TTL expires, which is why near TTLs are kept short.
+ */
+@Slf4j
+public class CacheInvalidationBus {
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final String channel;
+  private final String nodeId;
+
+  /**
+   * Creates an invalidation bus.
+   *
+   * @param stringRedisTemplate Redis template used to publish
+   * @param objectMapper message serializer
+   * @param channel pub/sub channel shared by all nodes
+   * @param nodeId identifier of this node, used to ignore its own messages
+   */
+  public CacheInvalidationBus(
+      StringRedisTemplate stringRedisTemplate,
+      ObjectMapper objectMapper,
+      String channel,
+      String nodeId) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.channel = channel;
+    this.nodeId = nodeId;
+  }
+
+  /**
+   * Returns the pub/sub channel name.
+   *
+   * @return channel name
+   */
+  public String channel() {
+    return channel;
+  }
+
+  /**
+   * Tells other nodes to drop a near-cache entry.
+   *
+   * @param cacheName cache name
+   * @param key near-cache key, or {@code null} to clear the whole cache
+   */
+  public void publish(String cacheName, @Nullable String key) {
+    try {
+      String message =
+          objectMapper.writeValueAsString(new InvalidationMessage(nodeId, cacheName, key));
+      stringRedisTemplate.convertAndSend(channel, message);
+    } catch (RuntimeException ex) {
+      // The write already reached Redis; peers converge once their near TTL expires.
+      log.warn("Failed to publish cache invalidation for {}:{}", cacheName, key, ex);
+    }
+  }
+
+  /**
+   * Creates a listener applying invalidations from other nodes to the given manager.
+   *
+   * @param cacheManager manager owning the near caches
+   * @return pub/sub message listener
+   */
+  public MessageListener listenerFor(TwoTierCacheManager cacheManager) {
+    return (message, pattern) -> {
+      InvalidationMessage invalidation;
+      try {
+        invalidation = objectMapper.readValue(message.getBody(), InvalidationMessage.class);
+      } catch (RuntimeException ex) {
+        log.warn("Ignoring malformed cache invalidation message", ex);
+        return;
+      }
+      if (!nodeId.equals(invalidation.nodeId())) {
+        cacheManager.evictLocally(invalidation.cacheName(), invalidation.key());
+      }
+    };
+  }
+
+  /** Wire format of an invalidation; a {@code null} key clears the cache. */
+  record InvalidationMessage(String nodeId, String cacheName, @Nullable String key) {}
+}
@@ -0,0 +1,313 @@
+package com.onboard.provider.config.cache;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.Stampede;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Cache decorator that keeps one expiring hot key from sending every concurrent caller to the
+ * database.
+ *
+ * <p>Values are wrapped in a {@link CacheEnvelope} carrying a soft expiry, while the delegate keeps
+ * them for the TTL plus the stale-while-revalidate window. Loads through {@link #get(Object,
+ * Callable)} then behave as follows:
+ *
+ * <ul>
+ *   <li>fresh entry: returned; with probability rising towards expiry (XFetch) one caller also
+ *       starts a background refresh, so hot keys are usually reloaded before they expire
+ *   <li>stale entry inside the revalidate window: returned immediately while one background refresh
+ *       runs on a virtual thread
+ *   <li>missing entry: with single-flight enabled, one caller per key and node loads it and
+ *       concurrent callers wait for that result
+ * </ul>
+ *
+ * <p>A loaded value is only stored if the entry it replaces is still the one the load started
+ * from: a value written or evicted in the meantime wins over the loader's result, which may have
+ * been read before that change. Stored refreshes are reported to the {@link RefreshListener} so a
+ * near tier can drop copies of the old value.
+ *
+ * <p>Background refreshes run the caller's loader on another thread, so loaders must not depend on
+ * thread-bound state such as an open transaction.
+ */
+@Slf4j
+public class StampedeProtectedCache implements Cache {
+
+  private final Cache delegate;
+  private final Duration ttl;
+  private final Stampede settings;
+  private final Clock clock;
+  private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private volatile RefreshListener refreshListener = (key, value) -> {};
+
+  /**
+   * Creates a stampede-protected cache.
+   *
+   * @param delegate cache storing envelopes; its TTL must cover {@code ttl} plus the revalidate
+   *     window
+   * @param ttl time after which an entry is stale
+   * @param settings stampede protection settings
+   * @param clock time source
+   */
+  public StampedeProtectedCache(Cache delegate, Duration ttl, Stampede settings, Clock clock) {
+    this.delegate = delegate;
+    this.ttl = ttl;
+    this.settings = settings;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the decorated cache.
+   *
+   * @return delegate cache
+   */
+  public Cache getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Sets the listener told about values stored by background refreshes.
+   *
+   * @param refreshListener listener to notify
+   */
+  public void setRefreshListener(RefreshListener refreshListener) {
+    this.refreshListener = refreshListener;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public @Nullable ValueWrapper get(Object key) {
+    ValueWrapper stored = delegate.get(key);
+    if (stored == null) {
+      return null;
+    }
+    if (!(stored.get() instanceof CacheEnvelope envelope)) {
+      return stored;
+    }
+    // Without a loader nobody would revalidate, so a stale value counts as a miss.
+    return envelope.isStale(clock.millis()) ? null : new SimpleValueWrapper(envelope.value());
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper == null ? null : wrapper.get();
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+    ValueWrapper stored = delegate.get(key);
+    if (stored != null) {
+      if (!(stored.get() instanceof CacheEnvelope envelope)) {
+        return (T) stored.get();
+      }
+      long nowMillis = clock.millis();
+      if (!envelope.isStale(nowMillis)) {
+        if (shouldRefreshEarly(envelope, nowMillis)) {
+          refreshInBackground(key, valueLoader, envelope);
+        }
+        return (T) envelope.value();
+      }
+      if (settings.getStaleWhileRevalidate().isPositive()) {
+        refreshInBackground(key, valueLoader, envelope);
+        return (T) envelope.value();
+      }
+      return (T) load(key, valueLoader, envelope);
+    }
+    return (T) load(key, valueLoader, null);
+  }
+
+  @Override
+  public void put(Object key, @Nullable Object value) {
+    delegate.put(key, envelope(value, 0));
+  }
+
+  @Override
+  public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+    ValueWrapper existing = delegate.putIfAbsent(key, envelope(value, 0));
+    if (existing != null && existing.get() instanceof CacheEnvelope envelope) {
+      return new SimpleValueWrapper(envelope.value());
+    }
+    return existing;
+  }
+
+  @Override
+  public void evict(Object key) {
+    delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return delegate.invalidate();
+  }
+
+  private Object load(Object key, Callable<?> valueLoader, @Nullable CacheEnvelope replaced) {
+    if (!settings.isSingleFlight()) {
+      return loadAndStore(key, valueLoader, replaced).value();
+    }
+    CompletableFuture<Object> ownLoad = new CompletableFuture<>();
+    CompletableFuture<Object> runningLoad = inFlight.putIfAbsent(key, ownLoad);
+    if (runningLoad != null) {
+      return await(key, runningLoad);
+    }
+    try {
+      Object value = loadAndStore(key, valueLoader, replaced).value();
+      ownLoad.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      ownLoad.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, ownLoad);
+    }
+  }
+
+  private void refreshInBackground(Object key, Callable<?> valueLoader, CacheEnvelope replaced) {
+    CompletableFuture<Object> refresh = new CompletableFuture<>();
+    if (inFlight.putIfAbsent(key, refresh) != null) {
+      return;
+    }
+    Thread.ofVirtual()
+        .name("cache-refresh-" + getName())
+        .start(
+            () -> {
+              try {
+                Loaded loaded = loadAndStore(key, valueLoader, replaced);
+                if (loaded.stored()) {
+                  refreshListener.refreshed(key, loaded.value());
+                }
+                refresh.complete(loaded.value());
+              } catch (RuntimeException | Error ex) {
+                // The stale value keeps being served until the next attempt or hard expiry.
+                log.warn("Background refresh of {}:{} failed", getName(), key, ex);
+                refresh.completeExceptionally(ex);
+              } finally {
+                inFlight.remove(key, refresh);
+              }
+            });
+  }
+
+  /**
+   * Runs the loader and stores its result unless the entry changed since {@code replaced} was read;
+   * without a previous entry the store only happens if the key is still absent.
+   */
+  private Loaded loadAndStore(
+      Object key, Callable<?> valueLoader, @Nullable CacheEnvelope replaced) {
+    long startMillis = clock.millis();
+    Object value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception ex) {
+      // Per the Cache contract, so callers can tell a failed loader from a failing store.
+      throw new ValueRetrievalException(key, valueLoader, ex);
+    }
+    CacheEnvelope loaded = envelope(value, clock.millis() - startMillis);
+    boolean stored;
+    if (replaced == null) {
+      stored = delegate.putIfAbsent(key, loaded) == null;
+    } else {
+      ValueWrapper current = delegate.get(key);
+      stored =
+          current != null
+              && current.get() instanceof CacheEnvelope currentEnvelope
+              && currentEnvelope.writeStamp() == replaced.writeStamp();
+      if (stored) {
+        delegate.put(key, loaded);
+      }
+    }
+    if (!stored) {
+      log.debug("Not storing loaded {}:{}, the entry changed while loading", getName(), key);
+    }
+    return new Loaded(value, stored);
+  }
+
+  private CacheEnvelope envelope(@Nullable Object value, long computeMillis) {
+    return new CacheEnvelope(
+        value,
+        clock.millis() + ttl.toMillis(),
+        computeMillis,
+        ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * XFetch: refresh when {@code now - computeTime * beta * ln(rand)} reaches the expiry, which gets
+   * likelier as expiry nears and for values that are expensive to recompute.
+   */
+  private boolean shouldRefreshEarly(CacheEnvelope envelope, long nowMillis) {
+    double beta = settings.getEarlyRefreshBeta();
+    if (beta <= 0 || envelope.computeMillis() <= 0) {
+      return false;
+    }
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    double headStartMillis = -envelope.computeMillis() * beta * Math.log(random);
+    return nowMillis + headStartMillis >= envelope.softExpiresAtMillis();
+  }
+
+  /**
+   * Waits for another caller's load. Its loader failure arrives already wrapped in a {@link
+   * ValueRetrievalException}; other runtime exceptions come from the store and pass through.
+   */
+  private static Object await(Object key, CompletableFuture<Object> runningLoad) {
+    try {
+      return runningLoad.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new ValueRetrievalException(key, null, ex.getCause());
+    }
+  }
+
+  /** Receives values stored by background refreshes. */
+  @FunctionalInterface
+  public interface RefreshListener {
+
+    /**
+     * Called after a background refresh replaced an entry.
+     *
+     * @param key cache key
+     * @param value newly stored value
+     */
+    void refreshed(Object key, @Nullable Object value);
+  }
+
+  private record Loaded(Object value, boolean stored) {}
+}
@@ -0,0 +1,216 @@
+package com.onboard.provider.config.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * Cache reading through a per-node Caffeine tier before the shared Redis tier.
+ *
+ * <p>Near-cache hits return the stored object itself, without a network round trip or
+ * deserialization, so cached values must be treated as immutable. Every write or eviction goes to
+ * Redis first, then updates the local tier and tells other nodes to drop theirs.
+ *
+ * <p>Values read from Redis only enter the local tier if no invalidation of their key arrived while
+ * they were read; otherwise a stale value could outlive the invalidation for the whole near TTL.
+ * Invalidations are counted per key stripe, plus once per clear.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+  private static final int INVALIDATION_STRIPES = 64;
+
+  private final String name;
+  private final Cache remote;
+  private final com.github.benmanes.caffeine.cache.Cache<String, Object> near;
+  private final CacheInvalidationBus invalidationBus;
+  private final AtomicLongArray keyInvalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+  private final AtomicLong clears = new AtomicLong();
+
+  /**
+   * Creates a two-tier cache.
+   *
+   * @param name cache name
+   * @param remote shared Redis cache
+   * @param near per-node cache holding store values keyed by {@link #nearKey(Object)}
+   * @param invalidationBus bus notifying other nodes of changes
+   */
+  public TwoTierCache(
+      String name,
+      Cache remote,
+      com.github.benmanes.caffeine.cache.Cache<String, Object> near,
+      CacheInvalidationBus invalidationBus) {
+    super(true);
+    this.name = name;
+    this.remote = remote;
+    this.near = near;
+    this.invalidationBus = invalidationBus;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return remote.getNativeCache();
+  }
+
+  @Override
+  protected @Nullable Object lookup(Object key) {
+    String nearKey = nearKey(key);
+    Object storeValue = near.getIfPresent(nearKey);
+    if (storeValue != null) {
+      return storeValue;
+    }
+    long stamp = invalidationStamp(nearKey);
+    ValueWrapper remoteValue = remote.get(key);
+    if (remoteValue == null) {
+      return null;
+    }
+    storeValue = toStoreValue(remoteValue.get());
+    putNearUnlessInvalidated(nearKey, storeValue, stamp);
+    return storeValue;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+    String nearKey = nearKey(key);
+    Object storeValue = near.getIfPresent(nearKey);
+    if (storeValue != null) {
+      return (T) fromStoreValue(storeValue);
+    }
+    long stamp = invalidationStamp(nearKey);
+    T value = remote.get(key, valueLoader);
+    putNearUnlessInvalidated(nearKey, toStoreValue(value), stamp);
+    return value;
+  }
+
+  @Override
+  public void put(Object key, @Nullable Object value) {
+    remote.put(key, value);
+    String nearKey = nearKey(key);
+    markInvalidated(nearKey);
+    near.put(nearKey, toStoreValue(value));
+    invalidationBus.publish(name, nearKey);
+  }
+
+  @Override
+  public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+    String nearKey = nearKey(key);
+    long stamp = invalidationStamp(nearKey);
+    ValueWrapper existing = remote.putIfAbsent(key, value);
+    if (existing != null) {
+      putNearUnlessInvalidated(nearKey, toStoreValue(existing.get()), stamp);
+      return existing;
+    }
+    markInvalidated(nearKey);
+    near.put(nearKey, toStoreValue(value));
+    invalidationBus.publish(name, nearKey);
+    return null;
+  }
+
+  @Override
+  public void evict(Object key) {
+    remote.evict(key);
+    String nearKey = nearKey(key);
+    markInvalidated(nearKey);
+    near.invalidate(nearKey);
+    invalidationBus.publish(name, nearKey);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    boolean evicted = remote.evictIfPresent(key);
+    String nearKey = nearKey(key);
+    markInvalidated(nearKey);
+    near.invalidate(nearKey);
+    invalidationBus.publish(name, nearKey);
+    return evicted;
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    clears.incrementAndGet();
+    near.invalidateAll();
+    invalidationBus.publish(name, null);
+  }
+
+  @Override
+  public boolean invalidate() {
+    boolean invalidated = remote.invalidate();
+    clears.incrementAndGet();
+    near.invalidateAll();
+    invalidationBus.publish(name, null);
+    return invalidated;
+  }
+
+  /**
+   * Updates the local tier and tells other nodes to drop theirs after a background refresh stored a
+   * new value in the remote tier.
+   *
+   * @param key cache key
+   * @param value refreshed value
+   */
+  void refreshed(Object key, @Nullable Object value) {
+    String nearKey = nearKey(key);
+    markInvalidated(nearKey);
+    near.put(nearKey, toStoreValue(value));
+    invalidationBus.publish(name, nearKey);
+  }
+
+  /**
+   * Drops a near entry after another node changed it.
+   *
+   * @param nearKey key as produced by {@link #nearKey(Object)}
+   */
+  void evictLocally(String nearKey) {
+    markInvalidated(nearKey);
+    near.invalidate(nearKey);
+  }
+
+  /** Drops all near entries after another node cleared the cache. */
+  void clearLocally() {
+    clears.incrementAndGet();
+    near.invalidateAll();
+  }
+
+  /**
+   * Stores a value read from Redis unless its key was invalidated since {@code stamp} was taken.
+   * Invalidations are counted before the near entry is touched, and the check runs atomically with
+   * the put for that key, so either the check fails or the invalidation removes the entry after.
+   */
+  private void putNearUnlessInvalidated(String nearKey, Object storeValue, long stamp) {
+    near.asMap()
+        .compute(
+            nearKey,
+            (ignored, current) -> invalidationStamp(nearKey) == stamp ? storeValue : current);
+  }
+
+  private long invalidationStamp(String nearKey) {
+    return keyInvalidations.get(stripe(nearKey)) + clears.get();
+  }
+
+  private void markInvalidated(String nearKey) {
+    keyInvalidations.incrementAndGet(stripe(nearKey));
+  }
+
+  private static int stripe(String nearKey) {
+    return Math.floorMod(nearKey.hashCode(), INVALIDATION_STRIPES);
+  }
+
+  /**
+   * Returns the near-cache key, which is also the key carried in invalidation messages.
+   *
+   * @param key cache key
+   * @return string form of the key
+   */
+  static String nearKey(Object key) {
+    return String.valueOf(key);
+  }
+}
@@ -0,0 +1,112 @@
+package com.onboard.provider.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.CacheEntry;
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.NearCache;
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.Stampede;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Cache manager adding stampede protection and a per-node near cache to configured Redis caches.
+ *
+ * <p>Configured caches are first wrapped in a {@link StampedeProtectedCache}, then, when their
+ * entry enables {@code near}, in a {@link TwoTierCache}. Caches without an entry are served by the
+ * Redis cache manager unchanged.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+  private final CacheManager remoteCacheManager;
+  private final Map<String, CacheEntry> entries;
+  private final CacheInvalidationBus invalidationBus;
+  private final Clock clock;
+  private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a two-tier cache manager.
+   *
+   * @param remoteCacheManager Redis cache manager providing the shared tier
+   * @param entries cache settings by cache name
+   * @param invalidationBus bus used to keep near caches consistent across nodes
+   * @param clock time source for stale-entry checks
+   */
+  public TwoTierCacheManager(
+      CacheManager remoteCacheManager,
+      Map<String, CacheEntry> entries,
+      CacheInvalidationBus invalidationBus,
+      Clock clock) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.entries = Map.copyOf(entries);
+    this.invalidationBus = invalidationBus;
+    this.clock = clock;
+  }
+
+  @Override
+  public @Nullable Cache getCache(String name) {
+    Cache cache = caches.get(name);
+    if (cache != null) {
+      return cache;
+    }
+    Cache remote = remoteCacheManager.getCache(name);
+    if (remote == null) {
+      return null;
+    }
+    return caches.computeIfAbsent(name, cacheName -> decorate(cacheName, remote));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return remoteCacheManager.getCacheNames();
+  }
+
+  /**
+   * Applies an invalidation received from another node.
+   *
+   * @param cacheName cache name
+   * @param nearKey near-cache key, or {@code null} to clear the whole cache
+   */
+  void evictLocally(String cacheName, @Nullable String nearKey) {
+    if (caches.get(cacheName) instanceof TwoTierCache twoTierCache) {
+      if (nearKey == null) {
+        twoTierCache.clearLocally();
+      } else {
+        twoTierCache.evictLocally(nearKey);
+      }
+    }
+  }
+
+  private Cache decorate(String cacheName, Cache remote) {
+    CacheEntry entry = entries.get(cacheName);
+    if (entry == null) {
+      return remote;
+    }
+    Cache shared = remote;
+    Stampede stampede = entry.getStampede();
+    if (stampede != null) {
+      shared = new StampedeProtectedCache(remote, entry.getTtl(), stampede, clock);
+    }
+    NearCache near = entry.getNear();
+    if (near == null || !near.isEnabled()) {
+      return shared;
+    }
+    TwoTierCache twoTierCache =
+        new TwoTierCache(
+            cacheName,
+            shared,
+            Caffeine.newBuilder()
+                .expireAfterWrite(near.getTtl())
+                .maximumSize(near.getMaxSize())
+                .build(),
+            invalidationBus);
+    if (shared instanceof StampedeProtectedCache stampedeProtectedCache) {
+      // Background refreshes write Redis directly, so route them through the near tier.
+      stampedeProtectedCache.setRefreshListener(twoTierCache::refreshed);
+    }
+    return twoTierCache;
+  }
+}
@@ -1,5 +1,6 @@
 package com.onboard.provider.config.database;
 
+import com.onboard.infrastructure.core.config.PlatformProperties;
 import java.util.HashMap;
 import java.util.Map;
 import javax.sql.DataSource;
@@ -7,6 +8,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 /** Creates routing-aware datasource beans for write and replica traffic split. */
@@ -14,21 +16,45 @@ import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 public class DataSourceConfig {
 
   /**
-   * Builds the routing datasource that delegates by transaction read-only flag.
+   * Creates the background checker that ejects failing or lagging replicas.
    *
    * @param writerDataSource primary datasource
-   * @param readerDataSource replica datasource
+   * @param replicaBalancer configured replicas
+   * @param platformProperties platform configuration properties
+   * @return replica health checker
+   */
+  @Bean
+  public ReplicaHealthChecker replicaHealthChecker(
+      @Qualifier("writerDataSource") DataSource writerDataSource,
+      ReplicaBalancer replicaBalancer,
+      PlatformProperties platformProperties) {
+    PlatformProperties.DatabaseProperties database = platformProperties.getDatabase();
+    return new ReplicaHealthChecker(
+        writerDataSource,
+        replicaBalancer.nodes(),
+        "postgres".equals(database.getType()),
+        database.getReplicaRouting().getMaxLag());
+  }
+
+  /**
+   * Builds the routing datasource that sends read-only transactions to a healthy replica and, on
+   * PostgreSQL, honours the client's read-your-writes token.
+   *
+   * @param writerDataSource primary datasource
+   * @param replicaBalancer replica selection
    * @return routing datasource
    */
   @Bean
   public DataSource routingDataSource(
       @Qualifier("writerDataSource") DataSource writerDataSource,
-      @Qualifier("readerDataSource") DataSource readerDataSource) {
-    ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource();
+      ReplicaBalancer replicaBalancer) {
+    ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaBalancer);
 
     Map<Object, Object> targetDataSources = new HashMap<>();
     targetDataSources.put(ReplicaRoutingDataSource.DataSourceType.WRITE, writerDataSource);
-    targetDataSources.put(ReplicaRoutingDataSource.DataSourceType.READ, readerDataSource);
+    for (ReplicaNode node : replicaBalancer.nodes()) {
+      targetDataSources.put(node, node.dataSource());
+    }
 
     routingDataSource.setTargetDataSources(targetDataSources);
     routingDataSource.setDefaultTargetDataSource(writerDataSource);
@@ -39,12 +65,29 @@ public class DataSourceConfig {
   /**
    * Wraps routing datasource with lazy connection proxy for transaction-aware lookup.
    *
+   * <p>With read-your-writes enabled, the committed primary position is read through this proxy:
+   * the transaction's connection is still bound to it during {@code afterCommit}, so recording a
+   * write token never borrows a second writer connection.
+   *
    * @param routingDataSource routing datasource bean
+   * @param replicaHealthChecker replica health checker
+   * @param platformProperties platform configuration properties
    * @return primary datasource proxy
    */
   @Primary
   @Bean
-  public DataSource dataSource(@Qualifier("routingDataSource") DataSource routingDataSource) {
-    return new LazyConnectionDataSourceProxy(routingDataSource);
+  public DataSource dataSource(
+      @Qualifier("routingDataSource") DataSource routingDataSource,
+      ReplicaHealthChecker replicaHealthChecker,
+      PlatformProperties platformProperties) {
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    if (routingDataSource instanceof ReplicaRoutingDataSource routing
+        && replicaHealthChecker.tracksWalPositions()
+        && platformProperties.getDatabase().getReplicaRouting().isReadYourWrites()) {
+      JdbcTemplate transactionJdbcTemplate = new JdbcTemplate(dataSource);
+      routing.setWritePositionSource(
+          () -> ReplicaHealthChecker.primaryLsn(transactionJdbcTemplate));
+    }
+    return dataSource;
   }
 }
@@ -10,7 +10,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableJpaAuditing
 @EnableJpaRepositories(
     basePackages = "com.onboard",
-    basePackageClasses = PartitionAwareRepositoryImpl.class)
+    basePackageClasses = PartitionAwareRepositoryImpl.class,
+    repositoryBaseClass = PartitionAwareRepositoryImpl.class)
 public class JpaConfig {
   // Annotation-only configuration.
 }
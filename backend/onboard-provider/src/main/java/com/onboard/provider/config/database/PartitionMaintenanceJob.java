@@ -0,0 +1,71 @@
+package com.onboard.provider.config.database;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates upcoming monthly {@code registration_forms} partitions ahead of time.
+ *
+ * <p>Runs on startup and on the configured cron against the primary database. The Liquibase
+ * function it calls is idempotent and serialized with an advisory lock, so every node may run it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "platform.database", name = "type", havingValue = "postgres")
+public class PartitionMaintenanceJob {
+
+  private static final String ENSURE_PARTITIONS_SQL =
+      "SELECT registration_forms_ensure_partitions(CAST(? AS date), ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformProperties.DatabaseProperties.PartitionMaintenance properties;
+
+  /**
+   * Creates the partition maintenance job.
+   *
+   * @param writerDataSource primary datasource that owns the partitioned tables
+   * @param platformProperties platform configuration properties
+   */
+  public PartitionMaintenanceJob(
+      @Qualifier("writerDataSource") DataSource writerDataSource,
+      PlatformProperties platformProperties) {
+    this.jdbcTemplate = new JdbcTemplate(writerDataSource);
+    this.properties = platformProperties.getDatabase().getPartitionMaintenance();
+  }
+
+  /** Ensures partitions exist as soon as the application is ready to serve traffic. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    ensurePartitions();
+  }
+
+  /** Ensures the current and upcoming monthly partitions exist. */
+  @Scheduled(cron = "${platform.database.partition-maintenance.cron:0 15 2 * * *}")
+  public void ensurePartitions() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      Integer created =
+          jdbcTemplate.queryForObject(
+              ENSURE_PARTITIONS_SQL,
+              Integer.class,
+              LocalDate.now(ZoneOffset.UTC),
+              properties.getMonthsAhead());
+      log.info("Partition maintenance created {} registration_forms partition(s)", created);
+    } catch (DataAccessException ex) {
+      log.warn("Partition maintenance for registration_forms failed", ex);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.onboard.provider.config.database;
+
+import com.onboard.infrastructure.core.persistence.ReadFreshness;
+import java.util.function.Consumer;
+
+/**
+ * Per-request read-your-writes state: the WAL position a replica must have replayed before it may
+ * serve this request's reads, and where to report the position of this request's own writes.
+ * Whether a position is required is mirrored to {@link ReadFreshness} for application caches.
+ */
+final class ReadConsistencyContext {
+
+  private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+  private ReadConsistencyContext() {}
+
+  /**
+   * Binds consistency state to the current thread.
+   *
+   * @param requiredLsn position the client has already observed, or {@code 0} when unknown
+   * @param tokenSink receives the consistency token after each committed write
+   */
+  static void open(long requiredLsn, Consumer<String> tokenSink) {
+    CURRENT.set(new State(requiredLsn, tokenSink));
+    ReadFreshness.requirePosition(requiredLsn != 0);
+  }
+
+  /** Removes the state bound by {@link #open}. */
+  static void close() {
+    CURRENT.remove();
+    ReadFreshness.requirePosition(false);
+  }
+
+  /**
+   * Returns the WAL position reads must observe.
+   *
+   * @return required LSN, or {@code 0} when any replica position is acceptable
+   */
+  static long requiredLsn() {
+    State state = CURRENT.get();
+    return state == null ? 0 : state.requiredLsn;
+  }
+
+  /**
+   * Records a committed write so later reads in this request, and the client's next requests,
+   * observe it.
+   *
+   * @param lsn primary WAL position after the commit
+   */
+  static void recordWrite(long lsn) {
+    State state = CURRENT.get();
+    if (state == null || lsn <= state.requiredLsn) {
+      return;
+    }
+    state.requiredLsn = lsn;
+    ReadFreshness.requirePosition(true);
+    state.tokenSink.accept(WalLsn.format(lsn));
+  }
+
+  private static final class State {
+    private long requiredLsn;
+    private final Consumer<String> tokenSink;
+
+    private State(long requiredLsn, Consumer<String> tokenSink) {
+      this.requiredLsn = requiredLsn;
+      this.tokenSink = tokenSink;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.onboard.provider.config.database;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.DatabaseProperties.ReplicaRouting;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Carries the read-your-writes token between client and routing datasource.
+ *
+ * <p>The incoming consistency header names the WAL position the client last wrote; reads in this
+ * request only go to the replica once it has replayed that far. Requests that commit a write get
+ * the new position back in the same header. Malformed tokens are ignored.
+ */
+@Component
+@ConditionalOnProperty(prefix = "platform.database", name = "type", havingValue = "postgres")
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+  private final ReplicaRouting properties;
+
+  /**
+   * Creates the filter.
+   *
+   * @param platformProperties platform configuration properties
+   */
+  public ReadConsistencyFilter(PlatformProperties platformProperties) {
+    this.properties = platformProperties.getDatabase().getReplicaRouting();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isReadYourWrites();
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String headerName = properties.getConsistencyHeader();
+    ReadConsistencyContext.open(
+        parseToken(request.getHeader(headerName)),
+        token -> {
+          if (!response.isCommitted()) {
+            response.setHeader(headerName, token);
+          }
+        });
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ReadConsistencyContext.close();
+    }
+  }
+
+  private static long parseToken(String token) {
+    if (!StringUtils.hasText(token)) {
+      return 0;
+    }
+    try {
+      return WalLsn.parse(token.trim());
+    } catch (IllegalArgumentException ex) {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.onboard.provider.config.database;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.DatabaseProperties.ReplicaRouting.Balancing;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Picks the replica for a read-only transaction.
+ *
+ * <p>Selection never locks: the node array is fixed, node status is a volatile snapshot and
+ * round-robin position is a single atomic counter. Replicas that are ejected or have not replayed
+ * the required WAL position are skipped; when none is left the caller falls back to the primary.
+ */
+public final class ReplicaBalancer implements AutoCloseable {
+
+  private final ReplicaNode[] nodes;
+  private final Balancing balancing;
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  /**
+   * Creates a balancer.
+   *
+   * @param nodes configured replicas, possibly none
+   * @param balancing selection strategy
+   */
+  public ReplicaBalancer(List<ReplicaNode> nodes, Balancing balancing) {
+    this.nodes = nodes.toArray(ReplicaNode[]::new);
+    this.balancing = balancing;
+  }
+
+  /**
+   * Returns the configured replicas.
+   *
+   * @return replicas in configuration order
+   */
+  public List<ReplicaNode> nodes() {
+    return List.of(nodes);
+  }
+
+  /**
+   * Picks a replica able to serve a read.
+   *
+   * @param requiredLsn WAL position the read must observe, {@code 0} for none
+   * @return chosen replica, or {@code null} when no replica qualifies
+   */
+  public @Nullable ReplicaNode select(long requiredLsn) {
+    if (nodes.length == 0) {
+      return null;
+    }
+    return switch (balancing) {
+      case ROUND_ROBIN -> roundRobin(requiredLsn);
+      case LEAST_ACTIVE -> leastActive(requiredLsn);
+      case WEIGHTED -> weighted(requiredLsn);
+    };
+  }
+
+  private @Nullable ReplicaNode roundRobin(long requiredLsn) {
+    int start = nextStart();
+    for (int i = 0; i < nodes.length; i++) {
+      ReplicaNode node = nodes[(start + i) % nodes.length];
+      if (node.canServe(requiredLsn)) {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  private @Nullable ReplicaNode leastActive(long requiredLsn) {
+    // Starting at a rotating offset spreads ties, e.g. several idle pools.
+    int start = nextStart();
+    ReplicaNode best = null;
+    int bestActive = Integer.MAX_VALUE;
+    for (int i = 0; i < nodes.length; i++) {
+      ReplicaNode node = nodes[(start + i) % nodes.length];
+      if (node.canServe(requiredLsn)) {
+        int active = node.activeConnections();
+        if (active < bestActive) {
+          best = node;
+          bestActive = active;
+        }
+      }
+    }
+    return best;
+  }
+
+  private @Nullable ReplicaNode weighted(long requiredLsn) {
+    int totalWeight = 0;
+    for (ReplicaNode node : nodes) {
+      if (node.canServe(requiredLsn)) {
+        totalWeight += node.weight();
+      }
+    }
+    if (totalWeight == 0) {
+      return null;
+    }
+    int remaining = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (ReplicaNode node : nodes) {
+      if (node.canServe(requiredLsn)) {
+        remaining -= node.weight();
+        if (remaining < 0) {
+          return node;
+        }
+      }
+    }
+    // A replica was ejected between the two passes.
+    return roundRobin(requiredLsn);
+  }
+
+  private int nextStart() {
+    return Math.floorMod(cursor.getAndIncrement(), nodes.length);
+  }
+
+  @Override
+  public void close() {
+    for (ReplicaNode node : nodes) {
+      node.close();
+    }
+  }
+}
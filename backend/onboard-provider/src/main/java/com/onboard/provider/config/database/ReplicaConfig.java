@@ -1,26 +1,70 @@
 package com.onboard.provider.config.database;
 
+import com.onboard.infrastructure.core.config.PlatformProperties;
 import com.zaxxer.hikari.HikariDataSource;
-import javax.sql.DataSource;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.boot.jdbc.DataSourceBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-/** Registers the replica datasource when replica JDBC properties are configured. */
+/**
+ * Registers the read replicas configured under {@code spring.datasource.replicas[*]}.
+ *
+ * <p>Every entry starts from the pool settings under {@code spring.datasource.replica} and may
+ * override any of them, plus an optional {@code weight} for weighted balancing. A {@code jdbc-url}
+ * directly under {@code spring.datasource.replica} still defines a single replica. Without any
+ * replica, reads go to the primary.
+ */
 @Configuration
-@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "jdbc-url")
 public class ReplicaConfig {
 
+  private static final String REPLICAS_PREFIX = "spring.datasource.replicas";
+  private static final String SINGLE_REPLICA_PREFIX = "spring.datasource.replica";
+
   /**
-   * Creates the replica datasource from externalized configuration.
+   * Creates the replica pools and the balancer choosing among them.
    *
-   * @return replica datasource
+   * @param environment environment holding the datasource properties
+   * @param platformProperties platform configuration properties
+   * @return replica balancer owning the replica pools
    */
   @Bean
-  @ConfigurationProperties("spring.datasource.replica")
-  public DataSource readerDataSource() {
-    return DataSourceBuilder.create().type(HikariDataSource.class).build();
+  public ReplicaBalancer replicaBalancer(
+      Environment environment, PlatformProperties platformProperties) {
+    Binder binder = Binder.get(environment);
+    List<ReplicaNode> nodes = new ArrayList<>();
+    bindReplica(binder, SINGLE_REPLICA_PREFIX, "replica").ifPresent(nodes::add);
+    for (int index = 0; ; index++) {
+      Optional<ReplicaNode> node =
+          bindReplica(binder, REPLICAS_PREFIX + "[" + index + "]", "replica-" + (index + 1));
+      if (node.isEmpty()) {
+        break;
+      }
+      nodes.add(node.get());
+    }
+    return new ReplicaBalancer(
+        nodes, platformProperties.getDatabase().getReplicaRouting().getBalancing());
+  }
+
+  private static Optional<ReplicaNode> bindReplica(
+      Binder binder, String prefix, String defaultName) {
+    if (!binder.bind(prefix + ".jdbc-url", String.class).isBound()) {
+      return Optional.empty();
+    }
+    HikariDataSource dataSource = new HikariDataSource();
+    if (!prefix.equals(SINGLE_REPLICA_PREFIX)) {
+      binder.bind(SINGLE_REPLICA_PREFIX, Bindable.ofInstance(dataSource));
+    }
+    binder.bind(prefix, Bindable.ofInstance(dataSource));
+    if (!binder.bind(prefix + ".pool-name", String.class).isBound()) {
+      // Shared defaults would give every replica the same pool name.
+      dataSource.setPoolName("onboard-" + defaultName + "-pool");
+    }
+    int weight = binder.bind(prefix + ".weight", Integer.class).orElse(1);
+    return Optional.of(new ReplicaNode(dataSource.getPoolName(), dataSource, weight));
   }
 }
@@ -0,0 +1,172 @@
+package com.onboard.provider.config.database;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Checks every replica in the background and ejects the ones that fail or fall behind.
+ *
+ * <p>On PostgreSQL each check compares the replica's replayed WAL position with the primary's, so
+ * routing can also honour read-your-writes tokens; on other databases it is a plain {@code SELECT
+ * 1}. Routing reads the last result instead of querying per transaction, so a replica is ejected or
+ * readmitted at most one check interval late. Replicas are checked in parallel on virtual threads
+ * so a hanging one does not delay the others.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+  private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+  private static final String REPLICA_STATUS_SQL =
+      "SELECT pg_last_wal_replay_lsn()::text AS replay_lsn,"
+          + " EXTRACT(EPOCH FROM clock_timestamp() - pg_last_xact_replay_timestamp())"
+          + " AS replay_age";
+  private static final String PING_SQL = "SELECT 1";
+
+  private final JdbcTemplate writerJdbcTemplate;
+  private final List<ReplicaNode> nodes;
+  private final boolean walTracking;
+  private final Duration maxLag;
+
+  /**
+   * Creates the health checker.
+   *
+   * @param writerDataSource primary datasource
+   * @param nodes replicas to check
+   * @param walTracking whether the database is PostgreSQL and WAL positions can be compared
+   * @param maxLag lag beyond which a replica is ejected
+   */
+  public ReplicaHealthChecker(
+      DataSource writerDataSource, List<ReplicaNode> nodes, boolean walTracking, Duration maxLag) {
+    this.writerJdbcTemplate = new JdbcTemplate(writerDataSource);
+    this.nodes = List.copyOf(nodes);
+    this.walTracking = walTracking;
+    this.maxLag = maxLag;
+  }
+
+  /**
+   * Tells whether checks compare WAL positions, which read-your-writes routing requires.
+   *
+   * @return {@code true} on PostgreSQL
+   */
+  public boolean tracksWalPositions() {
+    return walTracking;
+  }
+
+  /** Checks all replicas once. */
+  @Scheduled(fixedDelayString = "${platform.database.replica-routing.health-check-interval:1s}")
+  public void refresh() {
+    if (nodes.isEmpty()) {
+      return;
+    }
+    long primaryLsn = 0;
+    if (walTracking) {
+      try {
+        primaryLsn = currentPrimaryLsn();
+      } catch (DataAccessException | IllegalStateException ex) {
+        // Lag cannot be judged without the primary; keep the previous verdicts.
+        log.warn("Could not read primary WAL position, skipping replica checks", ex);
+        return;
+      }
+    }
+    long observedPrimaryLsn = primaryLsn;
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (ReplicaNode node : nodes) {
+        executor.execute(() -> check(node, observedPrimaryLsn));
+      }
+    }
+  }
+
+  /**
+   * Returns the primary's current WAL insert position.
+   *
+   * @return primary LSN
+   */
+  long currentPrimaryLsn() {
+    return primaryLsn(writerJdbcTemplate);
+  }
+
+  /**
+   * Returns the primary's current WAL insert position, read through the given template.
+   *
+   * @param primary template whose connections reach the primary
+   * @return primary LSN
+   */
+  static long primaryLsn(JdbcTemplate primary) {
+    String lsn = primary.queryForObject(PRIMARY_LSN_SQL, String.class);
+    if (lsn == null) {
+      throw new IllegalStateException("Primary returned no WAL position");
+    }
+    return WalLsn.parse(lsn);
+  }
+
+  private void check(ReplicaNode node, long primaryLsn) {
+    JdbcTemplate replica = new JdbcTemplate(node.dataSource());
+    try {
+      if (!walTracking) {
+        replica.queryForObject(PING_SQL, Integer.class);
+        apply(node, new ReplicaNode.Status(true, 0, null));
+        return;
+      }
+      Map<String, Object> row = replica.queryForMap(REPLICA_STATUS_SQL);
+      Object replayLsn = row.get("replay_lsn");
+      Object replayAge = row.get("replay_age");
+      update(
+          node,
+          primaryLsn,
+          replayLsn == null ? null : WalLsn.parse(replayLsn.toString()),
+          replayAge instanceof Number seconds
+              ? Duration.ofMillis(Math.round(seconds.doubleValue() * 1000))
+              : null);
+    } catch (DataAccessException | IllegalArgumentException ex) {
+      if (node.status().usable()) {
+        log.warn("Replica {} failed its health check, ejecting it", node, ex);
+      }
+      node.updateStatus(ReplicaNode.Status.UNAVAILABLE);
+    }
+  }
+
+  /**
+   * Applies a WAL sample to a replica.
+   *
+   * @param node replica sampled
+   * @param primaryLsn primary position read before the replica
+   * @param replayedLsn replica replay position, {@code null} when the replica is not a standby
+   * @param replayAge time since the replica replayed its last transaction
+   */
+  void update(
+      ReplicaNode node, long primaryLsn, @Nullable Long replayedLsn, @Nullable Duration replayAge) {
+    ReplicaNode.Status next;
+    if (replayedLsn == null) {
+      // Not in recovery: the "replica" is the primary itself, e.g. in local setups.
+      next = new ReplicaNode.Status(true, primaryLsn, Duration.ZERO);
+    } else if (Long.compareUnsigned(replayedLsn, primaryLsn) >= 0) {
+      next = new ReplicaNode.Status(true, replayedLsn, Duration.ZERO);
+    } else if (replayAge == null) {
+      next = ReplicaNode.Status.UNAVAILABLE;
+    } else {
+      next = new ReplicaNode.Status(replayAge.compareTo(maxLag) <= 0, replayedLsn, replayAge);
+    }
+    apply(node, next);
+  }
+
+  private void apply(ReplicaNode node, ReplicaNode.Status next) {
+    boolean wasUsable = node.status().usable();
+    if (wasUsable != next.usable()) {
+      if (next.usable()) {
+        log.info("Replica {} is healthy, routing read-only transactions to it", node);
+      } else {
+        log.warn("Replica {} lags {} (limit {}), ejecting it", node, next.lag(), maxLag);
+      }
+    }
+    node.updateStatus(next);
+  }
+}
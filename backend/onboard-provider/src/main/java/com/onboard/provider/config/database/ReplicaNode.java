@@ -0,0 +1,126 @@
+package com.onboard.provider.config.database;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One read replica with the status of its last health check.
+ *
+ * <p>The status is replaced as a whole by {@link ReplicaHealthChecker}, so routing reads it with a
+ * single volatile load.
+ */
+public final class ReplicaNode implements AutoCloseable {
+
+  private final String name;
+  private final DataSource dataSource;
+  private final int weight;
+  private volatile Status status = Status.UNAVAILABLE;
+
+  /**
+   * Creates a replica node, unusable until its first successful health check.
+   *
+   * @param name name used in logs
+   * @param dataSource replica connection pool
+   * @param weight share of reads under weighted balancing
+   */
+  public ReplicaNode(String name, DataSource dataSource, int weight) {
+    if (weight < 1) {
+      throw new IllegalArgumentException("Replica weight must be positive: " + name);
+    }
+    this.name = name;
+    this.dataSource = dataSource;
+    this.weight = weight;
+  }
+
+  /**
+   * Returns the replica name.
+   *
+   * @return name used in logs
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Returns the replica connection pool.
+   *
+   * @return replica datasource
+   */
+  public DataSource dataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Returns the replica weight.
+   *
+   * @return share of reads under weighted balancing
+   */
+  public int weight() {
+    return weight;
+  }
+
+  /**
+   * Returns the result of the last health check.
+   *
+   * @return replica status
+   */
+  public Status status() {
+    return status;
+  }
+
+  void updateStatus(Status status) {
+    this.status = status;
+  }
+
+  /**
+   * Tells whether this replica may serve a read that must observe the given position.
+   *
+   * @param requiredLsn WAL position the read must observe, {@code 0} for none
+   * @return {@code true} when healthy and caught up
+   */
+  boolean canServe(long requiredLsn) {
+    Status current = status;
+    return current.usable() && Long.compareUnsigned(current.replayedLsn(), requiredLsn) >= 0;
+  }
+
+  /**
+   * Returns the connections currently borrowed from the replica pool.
+   *
+   * @return active connections, {@code 0} when the pool has not started or is not Hikari
+   */
+  int activeConnections() {
+    if (dataSource instanceof HikariDataSource hikariDataSource) {
+      HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+      return pool == null ? 0 : pool.getActiveConnections();
+    }
+    return 0;
+  }
+
+  @Override
+  public void close() {
+    if (dataSource instanceof HikariDataSource hikariDataSource) {
+      hikariDataSource.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  /**
+   * Outcome of a replica health check.
+   *
+   * @param usable whether the replica may serve reads
+   * @param replayedLsn WAL position the replica has replayed, {@code 0} when not tracked
+   * @param lag replication lag, or {@code null} when unknown
+   */
+  public record Status(boolean usable, long replayedLsn, @Nullable Duration lag) {
+
+    /** Status of an unreachable or unchecked replica. */
+    public static final Status UNAVAILABLE = new Status(false, 0, null);
+  }
+}
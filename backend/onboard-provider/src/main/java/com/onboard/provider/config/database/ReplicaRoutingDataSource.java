@@ -1,22 +1,111 @@
 package com.onboard.provider.config.database;
 
+import com.onboard.infrastructure.core.persistence.ReadFreshness;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-/** Routes database operations to write or read datasource by transaction mode. */
+/**
+ * Routes read-write transactions to the primary and read-only ones to a replica.
+ *
+ * <p>The {@link ReplicaBalancer} picks among healthy replicas that have replayed the position
+ * required by {@link ReadConsistencyContext}; without one, reads fall back to the primary. With a
+ * write position source, read-write transactions record the primary position once they commit: in
+ * the request's context when there is one, and as the last write this node knows of. A read sent
+ * to a replica that has not replayed that write is reported to {@link ReadFreshness} as possibly
+ * stale. Lookup keys are {@link DataSourceType#WRITE} and the {@link ReplicaNode}s.
+ */
+@Slf4j
 public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
 
-  /** Available datasource targets for routing decisions. */
+  private final Object writeCaptureKey = new Object();
+  private final ReplicaBalancer balancer;
+  private final AtomicLong lastWriteLsn = new AtomicLong();
+  private @Nullable LongSupplier writePositionSource;
+
+  /** Lookup key of the primary. */
   public enum DataSourceType {
-    READ,
     WRITE
   }
 
+  /**
+   * Creates the routing datasource.
+   *
+   * @param balancer replica selection
+   */
+  public ReplicaRoutingDataSource(ReplicaBalancer balancer) {
+    this.balancer = balancer;
+  }
+
+  /**
+   * Enables read-your-writes tokens.
+   *
+   * @param writePositionSource reads the primary WAL position after commit, preferably on the
+   *     committed transaction's connection, or {@code null} to disable tokens
+   */
+  public void setWritePositionSource(@Nullable LongSupplier writePositionSource) {
+    this.writePositionSource = writePositionSource;
+  }
+
   @Override
   protected Object determineCurrentLookupKey() {
-    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
-      return DataSourceType.READ;
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      LongSupplier positions = writePositionSource;
+      if (positions != null) {
+        captureWritePositionOnCommit(positions);
+      }
+      return DataSourceType.WRITE;
+    }
+    ReplicaNode replica = balancer.select(ReadConsistencyContext.requiredLsn());
+    if (replica == null) {
+      return DataSourceType.WRITE;
+    }
+    if (!replica.canServe(lastWriteLsn.get())) {
+      ReadFreshness.markPossiblyStale();
     }
-    return DataSourceType.WRITE;
+    return replica;
+  }
+
+  private void captureWritePositionOnCommit(LongSupplier positions) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(writeCaptureKey)) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(writeCaptureKey, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public int getOrder() {
+            // Before cache invalidations, so a read that follows one already sees this write.
+            return Ordered.HIGHEST_PRECEDENCE;
+          }
+
+          @Override
+          public void afterCommit() {
+            try {
+              long lsn = positions.getAsLong();
+              lastWriteLsn.accumulateAndGet(lsn, ReplicaRoutingDataSource::later);
+              ReadConsistencyContext.recordWrite(lsn);
+            } catch (DataAccessException | IllegalStateException ex) {
+              // The write is committed; the client only loses its read-your-writes token.
+              log.warn("Could not read primary WAL position after commit", ex);
+            }
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(writeCaptureKey);
+          }
+        });
+  }
+
+  private static long later(long lsn, long other) {
+    return Long.compareUnsigned(lsn, other) >= 0 ? lsn : other;
   }
 }
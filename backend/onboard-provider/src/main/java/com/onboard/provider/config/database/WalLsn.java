@@ -0,0 +1,43 @@
+package com.onboard.provider.config.database;
+
+/** Conversions between PostgreSQL {@code pg_lsn} text ({@code 16/B374D848}) and numeric form. */
+final class WalLsn {
+
+  private WalLsn() {}
+
+  /**
+   * Parses a {@code pg_lsn} text value.
+   *
+   * @param text LSN as printed by PostgreSQL
+   * @return LSN as an unsigned 64-bit position
+   * @throws IllegalArgumentException when the text is not an LSN
+   */
+  static long parse(String text) {
+    int separator = text.indexOf('/');
+    if (separator <= 0 || separator == text.length() - 1 || separator > 8) {
+      throw new IllegalArgumentException("Invalid WAL position: " + text);
+    }
+    try {
+      long high = Long.parseLong(text, 0, separator, 16);
+      long low = Long.parseLong(text, separator + 1, text.length(), 16);
+      if (high > 0xFFFF_FFFFL || low > 0xFFFF_FFFFL || high < 0 || low < 0) {
+        throw new IllegalArgumentException("Invalid WAL position: " + text);
+      }
+      return (high << 32) | low;
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid WAL position: " + text, ex);
+    }
+  }
+
+  /**
+   * Formats a numeric LSN the way PostgreSQL prints it.
+   *
+   * @param lsn numeric LSN
+   * @return {@code pg_lsn} text
+   */
+  static String format(long lsn) {
+    return Long.toHexString(lsn >>> 32).toUpperCase()
+        + "/"
+        + Long.toHexString(lsn & 0xFFFF_FFFFL).toUpperCase();
+  }
+}
@@ -0,0 +1,108 @@
+package com.onboard.provider.config.messaging;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.MessagingProperties.RabbitProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Operator endpoint replaying dead-lettered messages at a bounded rate.
+ *
+ * <p>Restricted to callers holding the {@code ops:messaging} scope, and only queues bound to a
+ * configured dead-letter exchange can be drained.
+ */
+@RestController
+@RequestMapping("/ops/messaging/dead-letters")
+@PreAuthorize("hasAuthority('SCOPE_ops:messaging')")
+public class DeadLetterReplayController {
+
+  private static final int MAX_LIMIT = 10_000;
+  private static final int MAX_RATE_PER_SECOND = 1_000;
+
+  /**
+   * Longest replay one request may run, as {@code limit / ratePerSecond}. The replay is
+   * synchronous, so it has to finish within proxy and client timeouts; larger backlogs take several
+   * calls.
+   */
+  static final long MAX_DURATION_SECONDS = 60;
+
+  private final DeadLetterReplayer replayer;
+  private final PlatformProperties platformProperties;
+
+  /**
+   * Creates the controller.
+   *
+   * @param replayer dead-letter replayer
+   * @param platformProperties platform configuration properties
+   */
+  public DeadLetterReplayController(
+      DeadLetterReplayer replayer, PlatformProperties platformProperties) {
+    this.replayer = replayer;
+    this.platformProperties = platformProperties;
+  }
+
+  /**
+   * Replays messages from a configured dead-letter queue back to their source queues, within
+   * {@link #MAX_DURATION_SECONDS} at the requested rate.
+   *
+   * @param queue dead-letter queue to drain
+   * @param limit maximum number of messages to replay
+   * @param ratePerSecond maximum number of messages republished per second
+   * @return counts of replayed and skipped messages
+   */
+  @PostMapping("/replay")
+  public DeadLetterReplayer.Result replay(
+      @RequestParam(defaultValue = "onboard.registration.dlq") String queue,
+      @RequestParam(defaultValue = "100") int limit,
+      @RequestParam(defaultValue = "50") int ratePerSecond) {
+    if (!isDeadLetterQueue(platformProperties.getMessaging(), queue)) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Not a configured dead-letter queue: " + queue);
+    }
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "limit must be between 1 and " + MAX_LIMIT);
+    }
+    if (ratePerSecond < 1 || ratePerSecond > MAX_RATE_PER_SECOND) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "ratePerSecond must be between 1 and " + MAX_RATE_PER_SECOND);
+    }
+    if (limit > MAX_DURATION_SECONDS * ratePerSecond) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "limit / ratePerSecond must not exceed " + MAX_DURATION_SECONDS + " seconds");
+    }
+    return replayer.replay(queue, limit, ratePerSecond);
+  }
+
+  /**
+   * Whether a configured binding routes a queue's dead letters into {@code queue}: the binding's
+   * exchange is that queue's dead-letter exchange and, when the queue sets a dead-letter routing
+   * key, the binding uses the same key.
+   */
+  static boolean isDeadLetterQueue(
+      PlatformProperties.MessagingProperties messaging, String queue) {
+    if (messaging == null || messaging.getRabbit() == null) {
+      return false;
+    }
+    RabbitProperties rabbit = messaging.getRabbit();
+    return rabbit.getBindings().stream()
+        .filter(binding -> queue.equals(binding.getQueue()))
+        .anyMatch(
+            binding ->
+                rabbit.getQueues().stream()
+                    .anyMatch(
+                        source ->
+                            binding.getExchange() != null
+                                && binding.getExchange().equals(source.getDeadLetterExchange())
+                                && (source.getDeadLetterRoutingKey() == null
+                                    || source
+                                        .getDeadLetterRoutingKey()
+                                        .equals(binding.getRoutingKey()))));
+  }
+}
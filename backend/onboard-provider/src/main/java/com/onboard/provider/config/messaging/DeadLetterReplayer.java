@@ -0,0 +1,167 @@
+package com.onboard.provider.config.messaging;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves dead-lettered messages back to the queue they were rejected from.
+ *
+ * <p>Messages are fetched one at a time without auto-ack and only acknowledged on the dead-letter
+ * queue once the broker confirmed the republished copy, so a crash mid-replay duplicates at worst
+ * one message, which the consumers' deduplication absorbs. Republishing is paced to the requested
+ * rate so a replay cannot flood the consumers it is feeding. Each copy carries an {@value
+ * #REPLAY_COUNT_HEADER} header counting its replays.
+ */
+@Slf4j
+@Component
+public class DeadLetterReplayer {
+
+  static final String REPLAY_COUNT_HEADER = "x-replay-count";
+
+  private static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(5);
+
+  private final RabbitTemplate rabbitTemplate;
+  private final MessagePropertiesConverter propertiesConverter =
+      new DefaultMessagePropertiesConverter();
+
+  /**
+   * Creates the replayer.
+   *
+   * @param rabbitTemplate template with correlated publisher confirms enabled
+   */
+  public DeadLetterReplayer(RabbitTemplate rabbitTemplate) {
+    this.rabbitTemplate = rabbitTemplate;
+  }
+
+  /**
+   * Replays up to {@code limit} messages from a dead-letter queue.
+   *
+   * @param deadLetterQueue queue to drain
+   * @param limit maximum number of messages to take
+   * @param ratePerSecond maximum number of messages republished per second
+   * @return counts of replayed and skipped messages
+   */
+  public Result replay(String deadLetterQueue, int limit, int ratePerSecond) {
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+    Result result =
+        rabbitTemplate.invoke(
+            operations ->
+                operations.execute(
+                    channel -> replay(operations, channel, deadLetterQueue, limit, intervalNanos)));
+    return result == null ? new Result(0, 0) : result;
+  }
+
+  private Result replay(
+      RabbitOperations operations,
+      Channel channel,
+      String deadLetterQueue,
+      int limit,
+      long intervalNanos)
+      throws IOException {
+    List<Long> skipped = new ArrayList<>();
+    int replayed = 0;
+    long nextSendNanos = System.nanoTime();
+    try {
+      for (int taken = 0; taken < limit; taken++) {
+        GetResponse response = channel.basicGet(deadLetterQueue, false);
+        if (response == null) {
+          break;
+        }
+        long deliveryTag = response.getEnvelope().getDeliveryTag();
+        MessageProperties properties =
+            propertiesConverter.toMessageProperties(
+                response.getProps(), response.getEnvelope(), StandardCharsets.UTF_8.name());
+        String sourceQueue = sourceQueue(properties);
+        if (sourceQueue == null) {
+          // Nothing to route it back to; leave it for manual inspection.
+          skipped.add(deliveryTag);
+          continue;
+        }
+        nextSendNanos = pace(nextSendNanos, intervalNanos);
+        if (!republish(operations, new Message(response.getBody(), properties), sourceQueue)) {
+          channel.basicNack(deliveryTag, false, true);
+          log.warn("Replay of {} stopped: broker did not confirm a republished copy", sourceQueue);
+          break;
+        }
+        channel.basicAck(deliveryTag, false);
+        replayed++;
+      }
+    } finally {
+      // The channel is cached, so unacked skips must be returned explicitly.
+      for (long deliveryTag : skipped) {
+        channel.basicNack(deliveryTag, false, true);
+      }
+    }
+    return new Result(replayed, skipped.size());
+  }
+
+  private static boolean republish(RabbitOperations operations, Message message, String queue) {
+    MessageProperties properties = message.getMessageProperties();
+    Object previousCount = properties.getHeader(REPLAY_COUNT_HEADER);
+    int replayCount = previousCount instanceof Number number ? number.intValue() + 1 : 1;
+    properties.setHeader(REPLAY_COUNT_HEADER, replayCount);
+
+    CorrelationData correlation = new CorrelationData();
+    // The default exchange routes by queue name, bypassing the original bindings.
+    operations.send("", queue, message, correlation);
+    try {
+      CorrelationData.Confirm confirm =
+          correlation.getFuture().get(CONFIRM_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+      return confirm.isAck() && correlation.getReturned() == null;
+    } catch (TimeoutException | ExecutionException ex) {
+      return false;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static @Nullable String sourceQueue(MessageProperties properties) {
+    List<Map<String, ?>> deaths = properties.getXDeathHeader();
+    if (deaths == null || deaths.isEmpty()) {
+      return null;
+    }
+    // The broker keeps the most recent death first.
+    Object queue = deaths.getFirst().get("queue");
+    return queue == null ? null : queue.toString();
+  }
+
+  private static long pace(long nextSendNanos, long intervalNanos) {
+    long waitNanos = nextSendNanos - System.nanoTime();
+    if (waitNanos > 0) {
+      try {
+        Thread.sleep(Duration.ofNanos(waitNanos));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return Math.max(nextSendNanos, System.nanoTime()) + intervalNanos;
+  }
+
+  /**
+   * Outcome of a replay.
+   *
+   * @param replayed messages moved back to their source queue
+   * @param skipped messages left on the dead-letter queue because their source is unknown
+   */
+  public record Result(int replayed, int skipped) {}
+}
@@ -0,0 +1,194 @@
+package com.onboard.provider.config.messaging;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.outbox.OutboxMessage;
+import com.onboard.infrastructure.core.outbox.OutboxStore;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Publishes outbox rows of every {@link OutboxStore} to RabbitMQ.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, so several nodes drain the same
+ * table in parallel without handing out a row twice. The whole batch is sent on one channel before
+ * waiting for any confirm, so a batch costs roughly one broker round trip rather than one per
+ * event. Rows are deleted once their confirm arrives; nacked or unconfirmed rows stay for the next
+ * run, which makes delivery at least once, and ordering is only kept within one node's batch.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "platform.messaging.outbox",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OutboxRelay {
+
+  private final List<OutboxStore> stores;
+  private final RabbitTemplate rabbitTemplate;
+  private final TransactionOperations transactionOperations;
+  private final int batchSize;
+  private final Duration confirmTimeout;
+
+  /**
+   * Creates the relay.
+   *
+   * @param stores module outboxes to drain
+   * @param rabbitTemplate template with correlated publisher confirms enabled
+   * @param transactionManager transaction manager holding the row locks of a batch
+   * @param platformProperties platform configuration properties
+   */
+  public OutboxRelay(
+      List<OutboxStore> stores,
+      RabbitTemplate rabbitTemplate,
+      PlatformTransactionManager transactionManager,
+      PlatformProperties platformProperties) {
+    this(
+        stores,
+        rabbitTemplate,
+        new TransactionTemplate(transactionManager),
+        outbox(platformProperties));
+  }
+
+  OutboxRelay(
+      List<OutboxStore> stores,
+      RabbitTemplate rabbitTemplate,
+      TransactionOperations transactionOperations,
+      PlatformProperties.MessagingProperties.Outbox properties) {
+    this.stores = List.copyOf(stores);
+    this.rabbitTemplate = rabbitTemplate;
+    this.transactionOperations = transactionOperations;
+    this.batchSize = properties.getBatchSize();
+    this.confirmTimeout = properties.getConfirmTimeout();
+  }
+
+  /**
+   * Drains every outbox until a batch comes back short or not fully confirmed. A nacked or
+   * unconfirmed batch waits for the next run instead of being re-sent back to back.
+   */
+  @Scheduled(fixedDelayString = "${platform.messaging.outbox.poll-interval:200ms}")
+  public void drain() {
+    for (OutboxStore store : stores) {
+      try {
+        int confirmed;
+        do {
+          confirmed = relayBatch(store);
+        } while (confirmed == batchSize);
+      } catch (DataAccessException | AmqpException ex) {
+        log.warn("Relaying outbox {} failed, retrying on the next run", store.name(), ex);
+      }
+    }
+  }
+
+  /**
+   * Publishes one batch and deletes the confirmed rows.
+   *
+   * @param store outbox to drain
+   * @return number of rows confirmed and deleted
+   */
+  int relayBatch(OutboxStore store) {
+    Integer confirmed =
+        transactionOperations.execute(
+            status -> {
+              List<OutboxMessage> batch = store.lockNextBatch(batchSize);
+              if (batch.isEmpty()) {
+                return 0;
+              }
+              List<UUID> confirmedIds = publish(store, batch);
+              store.delete(confirmedIds);
+              return confirmedIds.size();
+            });
+    return confirmed == null ? 0 : confirmed;
+  }
+
+  private List<UUID> publish(OutboxStore store, List<OutboxMessage> batch) {
+    List<CorrelationData> correlations = new ArrayList<>(batch.size());
+    rabbitTemplate.invoke(
+        operations -> {
+          for (OutboxMessage message : batch) {
+            CorrelationData correlation = new CorrelationData(message.id().toString());
+            operations.send(message.exchange(), message.routingKey(), toAmqp(message), correlation);
+            correlations.add(correlation);
+          }
+          return null;
+        });
+
+    long deadlineNanos = System.nanoTime() + confirmTimeout.toNanos();
+    List<UUID> confirmed = new ArrayList<>(batch.size());
+    for (int i = 0; i < correlations.size(); i++) {
+      CorrelationData correlation = correlations.get(i);
+      if (awaitAck(store, correlation, deadlineNanos)) {
+        confirmed.add(batch.get(i).id());
+      }
+    }
+    if (confirmed.size() < batch.size()) {
+      log.warn(
+          "Outbox {}: {} of {} messages unconfirmed, keeping them for retry",
+          store.name(),
+          batch.size() - confirmed.size(),
+          batch.size());
+    }
+    return confirmed;
+  }
+
+  private static boolean awaitAck(
+      OutboxStore store, CorrelationData correlation, long deadlineNanos) {
+    try {
+      long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+      CorrelationData.Confirm confirm =
+          correlation.getFuture().get(remainingNanos, TimeUnit.NANOSECONDS);
+      if (confirm.isAck() && correlation.getReturned() != null) {
+        // Acked but unroutable: retrying cannot help until a binding exists.
+        log.warn(
+            "Outbox {}: message {} was not routed to any queue", store.name(), correlation.getId());
+      }
+      return confirm.isAck();
+    } catch (TimeoutException | ExecutionException ex) {
+      return false;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static Message toAmqp(OutboxMessage message) {
+    return MessageBuilder.withBody(message.payload().getBytes(StandardCharsets.UTF_8))
+        .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+        .setContentEncoding(StandardCharsets.UTF_8.name())
+        .setMessageId(message.id().toString())
+        .setType(message.type())
+        .setTimestamp(Date.from(message.createdAt()))
+        .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+        .build();
+  }
+
+  private static PlatformProperties.MessagingProperties.Outbox outbox(
+      PlatformProperties platformProperties) {
+    PlatformProperties.MessagingProperties messaging = platformProperties.getMessaging();
+    return messaging != null && messaging.getOutbox() != null
+        ? messaging.getOutbox()
+        : new PlatformProperties.MessagingProperties.Outbox();
+  }
+}
@@ -0,0 +1,89 @@
+package com.onboard.provider.config.messaging;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Builds the listener container factory of one configured queue.
+ *
+ * <p>Containers run batch listeners on virtual threads with manual acknowledgement, so a consumer
+ * can settle a whole batch with one multiple ack. Concurrency, prefetch, batch size, receive
+ * timeout and consumer priority come from the queue's entry in {@code
+ * platform.messaging.rabbit.queues}.
+ */
+public final class QueueListenerContainerFactories {
+
+  private final ConnectionFactory connectionFactory;
+  private final Map<String, PlatformProperties.MessagingProperties.RabbitProperties.Queue> queues;
+  private final boolean autoStartup;
+
+  /**
+   * Creates the builder.
+   *
+   * @param connectionFactory RabbitMQ connection factory
+   * @param platformProperties platform configuration properties
+   * @param autoStartup whether containers start with the context
+   */
+  public QueueListenerContainerFactories(
+      ConnectionFactory connectionFactory,
+      PlatformProperties platformProperties,
+      boolean autoStartup) {
+    this.connectionFactory = connectionFactory;
+    this.queues = queuesByName(platformProperties);
+    this.autoStartup = autoStartup;
+  }
+
+  /**
+   * Creates the listener container factory for a queue.
+   *
+   * @param queueName configured queue name
+   * @return listener container factory sized for the queue
+   */
+  public SimpleRabbitListenerContainerFactory create(String queueName) {
+    PlatformProperties.MessagingProperties.RabbitProperties.Queue queue = queues.get(queueName);
+    if (queue == null) {
+      throw new IllegalStateException("No rabbit queue configured with name " + queueName);
+    }
+    SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setTaskExecutor(new VirtualThreadTaskExecutor(queueName + "-"));
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(queue.getBatchSize());
+    // A batch can only fill up if the broker may push at least that many messages.
+    factory.setPrefetchCount(Math.max(queue.getPrefetch(), queue.getBatchSize()));
+    factory.setConcurrentConsumers(queue.getConcurrency());
+    factory.setMaxConcurrentConsumers(Math.max(queue.getConcurrency(), queue.getMaxConcurrency()));
+    factory.setReceiveTimeout(queue.getReceiveTimeout().toMillis());
+    factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+    factory.setDefaultRequeueRejected(false);
+    factory.setAutoStartup(autoStartup);
+    if (queue.getConsumerPriority() != null) {
+      Map<String, Object> consumerArguments = Map.of("x-priority", queue.getConsumerPriority());
+      factory.setContainerCustomizer(
+          container -> container.setConsumerArguments(consumerArguments));
+    }
+    return factory;
+  }
+
+  private static Map<String, PlatformProperties.MessagingProperties.RabbitProperties.Queue>
+      queuesByName(PlatformProperties platformProperties) {
+    PlatformProperties.MessagingProperties messaging = platformProperties.getMessaging();
+    List<PlatformProperties.MessagingProperties.RabbitProperties.Queue> queues =
+        messaging == null || messaging.getRabbit() == null
+            ? List.of()
+            : messaging.getRabbit().getQueues();
+    Map<String, PlatformProperties.MessagingProperties.RabbitProperties.Queue> byName =
+        new HashMap<>();
+    for (PlatformProperties.MessagingProperties.RabbitProperties.Queue queue : queues) {
+      byName.put(queue.getName(), queue);
+    }
+    return byName;
+  }
+}
@@ -1,6 +1,7 @@
 package com.onboard.provider.config.messaging;
 
 import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.MessagingProperties.RabbitProperties.Queue.Mode;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -15,13 +16,77 @@ import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
-/** Declares RabbitMQ exchanges, queues, and bindings from platform properties. */
+/**
+ * Declares RabbitMQ exchanges, queues, and bindings from platform properties.
+ *
+ * <p>Every configured queue also gets its own listener container factory, named after the queue
+ * with {@link #LISTENER_FACTORY_SUFFIX}, sized from the queue's concurrency, prefetch and batching
+ * properties.
+ */
 @Configuration
 public class RabbitTopologyConfig {
 
+  /** Suffix appended to a queue name to form the name of its listener container factory. */
+  public static final String LISTENER_FACTORY_SUFFIX = ".listener-factory";
+
+  /**
+   * Creates the shared builder of per-queue listener container factories.
+   *
+   * @param connectionFactory RabbitMQ connection factory
+   * @param platformProperties platform configuration properties
+   * @param autoStartup whether containers start with the context
+   * @return per-queue factory builder
+   */
+  @Bean
+  public QueueListenerContainerFactories queueListenerContainerFactories(
+      ConnectionFactory connectionFactory,
+      PlatformProperties platformProperties,
+      @Value("${spring.rabbitmq.listener.simple.auto-startup:true}") boolean autoStartup) {
+    return new QueueListenerContainerFactories(
+        connectionFactory, platformProperties, autoStartup);
+  }
+
+  /**
+   * Registers one listener container factory bean per configured queue.
+   *
+   * <p>Registration runs before configuration properties are bound, so the queue names are read
+   * straight from the environment.
+   *
+   * @param environment application environment
+   * @return registry post-processor adding the factory bean definitions
+   */
+  @Bean
+  public static BeanDefinitionRegistryPostProcessor queueListenerContainerFactoryRegistrar(
+      Environment environment) {
+    Bindable<List<PlatformProperties.MessagingProperties.RabbitProperties.Queue>> queuesType =
+        Bindable.listOf(PlatformProperties.MessagingProperties.RabbitProperties.Queue.class);
+    return registry -> {
+      List<PlatformProperties.MessagingProperties.RabbitProperties.Queue> queues =
+          Binder.get(environment)
+              .bind("platform.messaging.rabbit.queues", queuesType)
+              .orElse(List.of());
+      for (PlatformProperties.MessagingProperties.RabbitProperties.Queue queue : queues) {
+        RootBeanDefinition definition =
+            new RootBeanDefinition(SimpleRabbitListenerContainerFactory.class);
+        definition.setFactoryBeanName("queueListenerContainerFactories");
+        definition.setFactoryMethodName("create");
+        definition.getConstructorArgumentValues().addGenericArgumentValue(queue.getName());
+        registry.registerBeanDefinition(queue.getName() + LISTENER_FACTORY_SUFFIX, definition);
+      }
+    };
+  }
+
   /**
    * Builds AMQP declarables for configured exchanges, queues, and bindings.
    *
@@ -102,15 +167,25 @@ public class RabbitTopologyConfig {
     throw new IllegalStateException("Unsupported exchange type for binding: " + exchange.getName());
   }
 
-  private static Queue toQueue(
+  static Queue toQueue(
       PlatformProperties.MessagingProperties.RabbitProperties.Queue queueProperties) {
     QueueBuilder builder =
         queueProperties.isDurable()
             ? QueueBuilder.durable(queueProperties.getName())
             : QueueBuilder.nonDurable(queueProperties.getName());
+    Mode mode = queueProperties.getMode();
+    if (queueProperties.isQuorum() && mode != Mode.DEFAULT) {
+      throw new IllegalStateException(
+          "Quorum queue " + queueProperties.getName() + " cannot use mode " + mode);
+    }
     if (queueProperties.isQuorum()) {
       builder = builder.quorum();
     }
+    if (mode == Mode.LAZY) {
+      builder = builder.withArgument("x-queue-mode", "lazy");
+    } else if (mode == Mode.STREAM) {
+      builder = builder.withArgument("x-queue-type", "stream");
+    }
     if (queueProperties.getDeadLetterExchange() != null
         && !queueProperties.getDeadLetterExchange().isBlank()) {
       builder = builder.deadLetterExchange(queueProperties.getDeadLetterExchange());
@@ -119,6 +194,16 @@ public class RabbitTopologyConfig {
         && !queueProperties.getDeadLetterRoutingKey().isBlank()) {
       builder = builder.deadLetterRoutingKey(queueProperties.getDeadLetterRoutingKey());
     }
+    if (queueProperties.getDeliveryLimit() != null) {
+      if (!queueProperties.isQuorum()) {
+        throw new IllegalStateException(
+            "Delivery limit requires a quorum queue: " + queueProperties.getName());
+      }
+      builder = builder.deliveryLimit(queueProperties.getDeliveryLimit());
+    }
+    if (queueProperties.getMaxLength() != null) {
+      builder = builder.maxLength(queueProperties.getMaxLength());
+    }
     return builder.build();
   }
 }
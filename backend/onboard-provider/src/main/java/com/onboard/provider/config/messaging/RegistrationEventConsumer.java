@@ -0,0 +1,176 @@
+package com.onboard.provider.config.messaging;
+
+import com.onboard.infrastructure.core.idempotency.IdempotencyKeyInProgressException;
+import com.onboard.infrastructure.core.idempotency.IdempotencyService;
+import com.onboard.infrastructure.core.messaging.InboundEvent;
+import com.onboard.infrastructure.core.messaging.InboundEventHandler;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Batched consumer of the registration event queues.
+ *
+ * <p>Each message is deduplicated on its message id through {@link IdempotencyService}, so a
+ * redelivered event reaches the {@link InboundEventHandler}s once while its entry lives. Messages
+ * are settled in order: successes are acknowledged together with one multiple ack, a message whose
+ * id is still being handled elsewhere is requeued, and a failing message is rejected so the broker
+ * dead-letters it to {@code onboard.registration.dlq}.
+ */
+@Slf4j
+@Component
+public class RegistrationEventConsumer {
+
+  static final String CREATED_QUEUE = "onboard.registration.created.q";
+  static final String UPDATED_QUEUE = "onboard.registration.updated.q";
+  static final String SUBMITTED_QUEUE = "onboard.registration.submitted.q";
+  static final String DECIDED_QUEUE = "onboard.registration.decided.q";
+
+  private static final Duration DEDUPLICATION_TTL = Duration.ofHours(24);
+  private static final String NAMESPACE_PREFIX = "messaging.";
+
+  private final IdempotencyService idempotencyService;
+  private final List<InboundEventHandler> handlers;
+  private final JavaType resultType;
+
+  /**
+   * Creates the consumer.
+   *
+   * @param idempotencyService store used to deduplicate message ids
+   * @param handlers module handlers receiving the events
+   * @param objectMapper application JSON mapper
+   */
+  public RegistrationEventConsumer(
+      IdempotencyService idempotencyService,
+      List<InboundEventHandler> handlers,
+      ObjectMapper objectMapper) {
+    this.idempotencyService = idempotencyService;
+    this.handlers = List.copyOf(handlers);
+    this.resultType = objectMapper.getTypeFactory().constructType(Boolean.class);
+  }
+
+  /**
+   * Consumes a batch of created events.
+   *
+   * @param messages batch of messages
+   * @param channel channel the batch was delivered on
+   * @throws IOException when settling the batch fails
+   */
+  @RabbitListener(
+      id = "registration-created",
+      queues = CREATED_QUEUE,
+      containerFactory = CREATED_QUEUE + RabbitTopologyConfig.LISTENER_FACTORY_SUFFIX)
+  public void onCreated(List<Message> messages, Channel channel) throws IOException {
+    consume(CREATED_QUEUE, messages, channel);
+  }
+
+  /**
+   * Consumes a batch of updated events.
+   *
+   * @param messages batch of messages
+   * @param channel channel the batch was delivered on
+   * @throws IOException when settling the batch fails
+   */
+  @RabbitListener(
+      id = "registration-updated",
+      queues = UPDATED_QUEUE,
+      containerFactory = UPDATED_QUEUE + RabbitTopologyConfig.LISTENER_FACTORY_SUFFIX)
+  public void onUpdated(List<Message> messages, Channel channel) throws IOException {
+    consume(UPDATED_QUEUE, messages, channel);
+  }
+
+  /**
+   * Consumes a batch of submitted events.
+   *
+   * @param messages batch of messages
+   * @param channel channel the batch was delivered on
+   * @throws IOException when settling the batch fails
+   */
+  @RabbitListener(
+      id = "registration-submitted",
+      queues = SUBMITTED_QUEUE,
+      containerFactory = SUBMITTED_QUEUE + RabbitTopologyConfig.LISTENER_FACTORY_SUFFIX)
+  public void onSubmitted(List<Message> messages, Channel channel) throws IOException {
+    consume(SUBMITTED_QUEUE, messages, channel);
+  }
+
+  /**
+   * Consumes a batch of approved, rejected and cancelled events.
+   *
+   * @param messages batch of messages
+   * @param channel channel the batch was delivered on
+   * @throws IOException when settling the batch fails
+   */
+  @RabbitListener(
+      id = "registration-decided",
+      queues = DECIDED_QUEUE,
+      containerFactory = DECIDED_QUEUE + RabbitTopologyConfig.LISTENER_FACTORY_SUFFIX)
+  public void onDecided(List<Message> messages, Channel channel) throws IOException {
+    consume(DECIDED_QUEUE, messages, channel);
+  }
+
+  void consume(String queue, List<Message> messages, Channel channel) throws IOException {
+    long pendingAckTag = -1;
+    for (Message message : messages) {
+      long deliveryTag = message.getMessageProperties().getDeliveryTag();
+      Outcome outcome = process(queue, message);
+      if (outcome == Outcome.ACK) {
+        pendingAckTag = deliveryTag;
+        continue;
+      }
+      // Settle the successes before this one first: a multiple ack would cover the nack's tag.
+      if (pendingAckTag >= 0) {
+        channel.basicAck(pendingAckTag, true);
+        pendingAckTag = -1;
+      }
+      channel.basicNack(deliveryTag, false, outcome == Outcome.REQUEUE);
+    }
+    if (pendingAckTag >= 0) {
+      channel.basicAck(pendingAckTag, true);
+    }
+  }
+
+  private Outcome process(String queue, Message message) {
+    MessageProperties properties = message.getMessageProperties();
+    InboundEvent event =
+        new InboundEvent(properties.getMessageId(), properties.getType(), queue, message.getBody());
+    try {
+      idempotencyService.execute(
+          NAMESPACE_PREFIX + queue,
+          event.messageId(),
+          DEDUPLICATION_TTL,
+          resultType,
+          () -> dispatch(event));
+      return Outcome.ACK;
+    } catch (IdempotencyKeyInProgressException ex) {
+      // Another consumer is still handling a redelivery of this message.
+      return Outcome.REQUEUE;
+    } catch (RuntimeException ex) {
+      log.warn("Dead-lettering message {} from {}", event.messageId(), queue, ex);
+      return Outcome.REJECT;
+    }
+  }
+
+  private Boolean dispatch(InboundEvent event) {
+    for (InboundEventHandler handler : handlers) {
+      if (handler.supports(event.type())) {
+        handler.handle(event);
+      }
+    }
+    return Boolean.TRUE;
+  }
+
+  private enum Outcome {
+    ACK,
+    REQUEUE,
+    REJECT
+  }
+}
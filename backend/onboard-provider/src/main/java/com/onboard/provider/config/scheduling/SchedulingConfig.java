@@ -0,0 +1,11 @@
+package com.onboard.provider.config.scheduling;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Enables {@code @Scheduled} background jobs. */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+  // Annotation-only configuration.
+}
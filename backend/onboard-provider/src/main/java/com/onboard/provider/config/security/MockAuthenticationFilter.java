@@ -5,15 +5,20 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-/** Injects a mock authenticated principal when `X-User-Id` is provided. */
+/**
+ * Injects a mock authenticated principal when `X-User-Id` is provided. Space-separated scopes in
+ * `X-User-Scopes` are granted as `SCOPE_` authorities, mirroring the OAuth2 resource server.
+ */
 public class MockAuthenticationFilter extends OncePerRequestFilter {
 
   @Override
@@ -24,7 +29,17 @@ public class MockAuthenticationFilter extends OncePerRequestFilter {
     @Nullable String userId = request.getHeader("X-User-Id");
 
     if (userId != null) {
-      var user = new User(userId, "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+      List<GrantedAuthority> authorities = new ArrayList<>();
+      authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+      @Nullable String scopes = request.getHeader("X-User-Scopes");
+      if (scopes != null) {
+        for (String scope : scopes.trim().split("\\s+")) {
+          if (!scope.isEmpty()) {
+            authorities.add(new SimpleGrantedAuthority("SCOPE_" + scope));
+          }
+        }
+      }
+      var user = new User(userId, "", authorities);
       var auth = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
       SecurityContextHolder.getContext().setAuthentication(auth);
     }
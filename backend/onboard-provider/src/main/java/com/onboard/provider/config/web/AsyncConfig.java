@@ -0,0 +1,27 @@
+package com.onboard.provider.config.web;
+
+import com.onboard.infrastructure.web.AsyncRequestTimeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** Configures asynchronous request handling. */
+@Configuration
+public class AsyncConfig {
+
+  /**
+   * Lets handlers such as streaming exports extend the timeout of their own response.
+   *
+   * @return configurer registering {@link AsyncRequestTimeout}
+   */
+  @Bean
+  public WebMvcConfigurer asyncRequestTimeoutConfigurer() {
+    return new WebMvcConfigurer() {
+      @Override
+      public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new AsyncRequestTimeout());
+      }
+    };
+  }
+}
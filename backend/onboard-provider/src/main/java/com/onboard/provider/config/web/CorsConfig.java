@@ -1,5 +1,6 @@
 package com.onboard.provider.config.web;
 
+import com.onboard.infrastructure.core.config.PlatformProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -9,16 +10,24 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class CorsConfig {
 
-  /** Registers CORS mappings for local frontend origins. */
+  /**
+   * Registers CORS mappings for local frontend origins.
+   *
+   * @param platformProperties platform configuration properties
+   * @return CORS configurer exposing the read-your-writes header
+   */
   @Bean
-  public WebMvcConfigurer corsConfigurer() {
+  public WebMvcConfigurer corsConfigurer(PlatformProperties platformProperties) {
+    String consistencyHeader =
+        platformProperties.getDatabase().getReplicaRouting().getConsistencyHeader();
     return new WebMvcConfigurer() {
       @Override
       public void addCorsMappings(CorsRegistry registry) {
         registry
             .addMapping("/**")
             .allowedOrigins("http://localhost:4200", "http://127.0.0.1:4200")
-            .allowedMethods("GET", "POST", "PUT", "DELETE");
+            .allowedMethods("GET", "POST", "PUT", "DELETE")
+            .exposedHeaders(consistencyHeader);
       }
     };
   }
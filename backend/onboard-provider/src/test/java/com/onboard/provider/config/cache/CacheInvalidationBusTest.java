@@ -0,0 +1,110 @@
+package com.onboard.provider.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.CacheEntry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+class CacheInvalidationBusTest {
+
+  private static final String CHANNEL = "test:invalidation";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /** Stands in for Redis, shared by both nodes. */
+  private final ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+
+  private final Node nodeA = new Node("node-a");
+  private final Node nodeB = new Node("node-b");
+
+  @Test
+  void receivingNodeDropsItsNearEntry() {
+    nodeA.cache().put("key", "v1");
+    assertThat(nodeB.cache().get("key", String.class)).isEqualTo("v1");
+
+    nodeA.cache().put("key", "v2");
+    assertThat(nodeB.cache().get("key", String.class)).isEqualTo("v1");
+    nodeB.receive(nodeA.lastPublished());
+
+    assertThat(nodeB.cache().get("key", String.class)).isEqualTo("v2");
+  }
+
+  @Test
+  void nodeIgnoresItsOwnMessages() {
+    nodeA.cache().put("key", "v1");
+    remote.getCache("test").clear();
+
+    nodeA.receive(nodeA.lastPublished());
+
+    assertThat(nodeA.cache().get("key", String.class)).isEqualTo("v1");
+  }
+
+  @Test
+  void clearDropsAllNearEntriesOnOtherNodes() {
+    nodeA.cache().put("first", "v1");
+    nodeA.cache().put("second", "v2");
+    nodeB.cache().get("first");
+    nodeB.cache().get("second");
+    remote.getCache("test").clear();
+
+    nodeA.cache().clear();
+    nodeB.receive(nodeA.lastPublished());
+
+    assertThat(nodeB.cache().get("first")).isNull();
+    assertThat(nodeB.cache().get("second")).isNull();
+  }
+
+  @Test
+  void ignoresMalformedMessages() {
+    nodeA.cache().put("key", "v1");
+
+    nodeA.receive("not json");
+
+    assertThat(nodeA.cache().get("key", String.class)).isEqualTo("v1");
+  }
+
+  private final class Node {
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final CacheInvalidationBus bus;
+    private final TwoTierCacheManager cacheManager;
+
+    Node(String nodeId) {
+      bus = new CacheInvalidationBus(redisTemplate, OBJECT_MAPPER, CHANNEL, nodeId);
+      CacheEntry entry = new CacheEntry();
+      entry.setName("test");
+      entry.getNear().setEnabled(true);
+      cacheManager = new TwoTierCacheManager(remote, Map.of("test", entry), bus, Clock.systemUTC());
+    }
+
+    Cache cache() {
+      return cacheManager.getCache("test");
+    }
+
+    String lastPublished() {
+      ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+      verify(redisTemplate, atLeastOnce()).convertAndSend(eq(CHANNEL), message.capture());
+      return (String) message.getValue();
+    }
+
+    void receive(String message) {
+      bus.listenerFor(cacheManager)
+          .onMessage(
+              new DefaultMessage(
+                  CHANNEL.getBytes(StandardCharsets.UTF_8),
+                  message.getBytes(StandardCharsets.UTF_8)),
+              null);
+    }
+  }
+}
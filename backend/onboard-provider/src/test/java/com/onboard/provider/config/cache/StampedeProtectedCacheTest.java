@@ -0,0 +1,276 @@
+package com.onboard.provider.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.CacheProperties.Stampede;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class StampedeProtectedCacheTest {
+
+  private static final Duration TTL = Duration.ofMinutes(1);
+  private static final int CALLERS = 200;
+
+  private final MutableClock clock = new MutableClock();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void concurrentMissesForOneKeyLoadOnce() throws Exception {
+    StampedeProtectedCache cache = cache(stampede(Duration.ZERO));
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<Future<String>> results =
+        getConcurrently(
+            cache,
+            () -> {
+              release.await();
+              return "v" + loads.incrementAndGet();
+            },
+            release);
+
+    for (Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+    }
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void concurrentMissesShareOneFailedLoadWrappedAsValueRetrievalException() throws Exception {
+    StampedeProtectedCache cache = cache(stampede(Duration.ZERO));
+    CountDownLatch release = new CountDownLatch(1);
+    IllegalStateException failure = new IllegalStateException("not found");
+
+    List<Future<String>> results =
+        getConcurrently(
+            cache,
+            () -> {
+              release.await();
+              loads.incrementAndGet();
+              throw failure;
+            },
+            release);
+
+    for (Future<String> result : results) {
+      assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .cause()
+          .isInstanceOf(Cache.ValueRetrievalException.class)
+          .hasCause(failure);
+    }
+    assertThat(loads).hasValue(1);
+    assertThat(cache.get("key")).isNull();
+  }
+
+  @Test
+  void servesStaleValueWhileOneBackgroundReloadRuns() throws Exception {
+    StampedeProtectedCache cache = cache(stampede(Duration.ofSeconds(30)));
+    cache.get("key", () -> "v" + loads.incrementAndGet());
+    clock.advance(TTL.plusSeconds(1));
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<Future<String>> results =
+        getConcurrently(
+            cache,
+            () -> {
+              release.await();
+              return "v" + loads.incrementAndGet();
+            },
+            null);
+
+    for (Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+    }
+    release.countDown();
+    awaitValue(cache, "v2");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void treatsExpiredEntryAsMissWithoutRevalidateWindow() {
+    StampedeProtectedCache cache = cache(stampede(Duration.ZERO));
+    cache.put("key", "v0");
+    clock.advance(TTL);
+
+    assertThat(cache.get("key")).isNull();
+    assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+  }
+
+  @Test
+  void refreshesExpensiveEntriesEarlyNearExpiry() throws Exception {
+    Stampede settings = stampede(Duration.ZERO);
+    settings.setEarlyRefreshBeta(1000);
+    StampedeProtectedCache cache = cache(settings);
+    cache.get(
+        "key",
+        () -> {
+          clock.advance(Duration.ofMillis(100));
+          return "v" + loads.incrementAndGet();
+        });
+    clock.advance(TTL.minusMillis(1));
+
+    assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+    awaitValue(cache, "v2");
+  }
+
+  @Test
+  void loadKeepsValueWrittenWhileItRan() {
+    StampedeProtectedCache cache = cache(stampede(Duration.ZERO));
+    cache.put("key", "v0");
+    clock.advance(TTL);
+
+    Object loaded =
+        cache.get(
+            "key",
+            () -> {
+              cache.put("key", "written");
+              return "v" + loads.incrementAndGet();
+            });
+
+    assertThat(loaded).isEqualTo("v1");
+    assertThat(cache.get("key", String.class)).isEqualTo("written");
+  }
+
+  @Test
+  void loadDoesNotRestoreEntryEvictedWhileItRan() {
+    StampedeProtectedCache cache = cache(stampede(Duration.ZERO));
+    cache.put("key", "v0");
+    clock.advance(TTL);
+
+    cache.get(
+        "key",
+        () -> {
+          cache.evict("key");
+          return "v" + loads.incrementAndGet();
+        });
+
+    assertThat(cache.getDelegate().get("key")).isNull();
+  }
+
+  @Test
+  void missLoadKeepsValueWrittenWhileItRan() {
+    StampedeProtectedCache cache = cache(stampede(Duration.ZERO));
+
+    Object loaded =
+        cache.get(
+            "key",
+            () -> {
+              cache.put("key", "written");
+              return "v" + loads.incrementAndGet();
+            });
+
+    assertThat(loaded).isEqualTo("v1");
+    assertThat(cache.get("key", String.class)).isEqualTo("written");
+  }
+
+  @Test
+  void reportsStoredBackgroundRefreshes() throws Exception {
+    StampedeProtectedCache cache = cache(stampede(Duration.ofSeconds(30)));
+    BlockingQueue<Object> refreshed = new LinkedBlockingQueue<>();
+    cache.setRefreshListener((key, value) -> refreshed.add(key + "=" + value));
+    cache.get("key", () -> "v" + loads.incrementAndGet());
+    clock.advance(TTL.plusSeconds(1));
+
+    assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+    assertThat(refreshed.poll(5, TimeUnit.SECONDS)).isEqualTo("key=v2");
+    assertThat(refreshed).isEmpty();
+  }
+
+  private StampedeProtectedCache cache(Stampede settings) {
+    return new StampedeProtectedCache(new ConcurrentMapCache("test"), TTL, settings, clock);
+  }
+
+  private static Stampede stampede(Duration staleWhileRevalidate) {
+    Stampede settings = new Stampede();
+    settings.setEarlyRefreshBeta(0);
+    settings.setStaleWhileRevalidate(staleWhileRevalidate);
+    return settings;
+  }
+
+  private static List<Future<String>> getConcurrently(
+      StampedeProtectedCache cache,
+      Callable<String> loader,
+      CountDownLatch releaseWhenStarted)
+      throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(CALLERS);
+    List<Future<String>> results = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < CALLERS; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  started.countDown();
+                  return cache.get("key", loader);
+                }));
+      }
+      started.await(5, TimeUnit.SECONDS);
+      if (releaseWhenStarted != null) {
+        // Give the last callers time to reach the in-flight load before it completes.
+        Thread.sleep(50);
+        releaseWhenStarted.countDown();
+      }
+    }
+    return results;
+  }
+
+  private static void awaitValue(StampedeProtectedCache cache, String expected)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      if (expected.equals(cache.get("key", String.class))) {
+        return;
+      }
+      Thread.sleep(10);
+    }
+    assertThat(cache.get("key", String.class)).isEqualTo(expected);
+  }
+
+  private static final class MutableClock extends Clock {
+    private final AtomicLong millis =
+        new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+
+    void advance(Duration duration) {
+      millis.addAndGet(duration.toMillis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public long millis() {
+      return millis.get();
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis());
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package com.onboard.provider.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+class TwoTierCacheTest {
+
+  private static final String CHANNEL = "test:invalidation";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  private final RacingRemote remote = new RacingRemote();
+  private final TwoTierCache cache =
+      new TwoTierCache(
+          "test",
+          remote,
+          Caffeine.newBuilder().maximumSize(100).build(),
+          new CacheInvalidationBus(redisTemplate, OBJECT_MAPPER, CHANNEL, "node-a"));
+
+  @Test
+  void nearHitIsServedWithoutTheRemoteTier() {
+    cache.put("key", "v1");
+    remote.evict("key");
+
+    assertThat(cache.get("key", String.class)).isEqualTo("v1");
+  }
+
+  @Test
+  void nearMissReadsRemoteAndKeepsTheValueNear() {
+    remote.put("key", "v1");
+
+    assertThat(cache.get("key", String.class)).isEqualTo("v1");
+    remote.evict("key");
+    assertThat(cache.get("key", String.class)).isEqualTo("v1");
+  }
+
+  @Test
+  void loaderRunsOnlyWhenBothTiersMiss() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+    assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+    assertThat(loads).hasValue(1);
+    assertThat(remote.get("key", String.class)).isEqualTo("v1");
+  }
+
+  @Test
+  void putWritesBothTiersAndPublishesInvalidation() {
+    cache.put("key", "v1");
+
+    assertThat(remote.get("key", String.class)).isEqualTo("v1");
+    assertThat(published().key()).isEqualTo("key");
+    assertThat(published().nodeId()).isEqualTo("node-a");
+  }
+
+  @Test
+  void evictDropsBothTiersAndPublishesInvalidation() {
+    cache.put("key", "v1");
+    cache.evict("key");
+
+    assertThat(cache.get("key")).isNull();
+    assertThat(remote.get("key")).isNull();
+    verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), any(Object.class));
+  }
+
+  @Test
+  void putIfAbsentKeepsExistingValueWithoutPublishing() {
+    remote.put("key", "v1");
+
+    assertThat(cache.putIfAbsent("key", "v2").get()).isEqualTo("v1");
+    assertThat(cache.get("key", String.class)).isEqualTo("v1");
+    verify(redisTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+  }
+
+  @Test
+  void clearDropsBothTiersAndPublishesCacheWideInvalidation() {
+    cache.put("key", "v1");
+    cache.clear();
+
+    assertThat(cache.get("key")).isNull();
+    assertThat(published().key()).isNull();
+  }
+
+  @Test
+  void refreshedValueReplacesNearEntryAndIsPublished() {
+    cache.put("key", "v1");
+
+    cache.refreshed("key", "v2");
+
+    assertThat(cache.get("key", String.class)).isEqualTo("v2");
+    verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), any(Object.class));
+  }
+
+  @Test
+  void invalidationDuringRemoteReadKeepsReadValueOutOfNearTier() {
+    remote.put("key", "v1");
+    remote.afterRead =
+        () -> {
+          remote.put("key", "v2");
+          cache.evictLocally(TwoTierCache.nearKey("key"));
+        };
+
+    assertThat(cache.get("key", String.class)).isEqualTo("v1");
+    remote.afterRead = () -> {};
+    assertThat(cache.get("key", String.class)).isEqualTo("v2");
+  }
+
+  @Test
+  void invalidationDuringLoadKeepsLoadedValueOutOfNearTier() {
+    remote.afterRead =
+        () -> {
+          remote.put("key", "v2");
+          cache.clearLocally();
+        };
+
+    assertThat(cache.get("key", () -> "v1")).isEqualTo("v1");
+    remote.afterRead = () -> {};
+    assertThat(cache.get("key", String.class)).isEqualTo("v2");
+  }
+
+  @Test
+  void cachesNullValues() {
+    AtomicInteger loads = new AtomicInteger();
+
+    assertThat(cache.get("key", () -> nullAfter(loads))).isNull();
+    assertThat(cache.get("key", () -> nullAfter(loads))).isNull();
+    assertThat(loads).hasValue(1);
+  }
+
+  private CacheInvalidationBus.InvalidationMessage published() {
+    ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+    verify(redisTemplate, atLeastOnce())
+        .convertAndSend(eq(CHANNEL), message.capture());
+    return OBJECT_MAPPER.readValue(
+        (String) message.getValue(), CacheInvalidationBus.InvalidationMessage.class);
+  }
+
+  private static String nullAfter(AtomicInteger loads) {
+    loads.incrementAndGet();
+    return null;
+  }
+
+  /** Remote tier running a hook after each read, where another node's write could interleave. */
+  private static final class RacingRemote extends ConcurrentMapCache {
+    private Runnable afterRead = () -> {};
+
+    RacingRemote() {
+      super("test");
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+      ValueWrapper value = super.get(key);
+      afterRead.run();
+      return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+      T value = super.get(key, valueLoader);
+      afterRead.run();
+      return value;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package com.onboard.provider.config.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.DatabaseProperties.ReplicaRouting.Balancing;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Routes real read-only transactions across H2 in-memory databases standing in for replicas. */
+class ReplicaBalancingH2Test {
+
+  private final String runId = UUID.randomUUID().toString();
+  private final HikariDataSource writer = database("primary");
+  private final List<ReplicaNode> replicas =
+      List.of(replica("replica-a", 3), replica("replica-b", 1), replica("replica-c", 1));
+  private final List<AutoCloseable> resources = new ArrayList<>();
+
+  @AfterEach
+  void closePools() throws Exception {
+    for (AutoCloseable resource : resources) {
+      resource.close();
+    }
+    replicas.forEach(ReplicaNode::close);
+    writer.close();
+  }
+
+  @Test
+  void spreadsReadsEvenlyWithRoundRobin() {
+    Router router = router(Balancing.ROUND_ROBIN);
+
+    Map<String, Integer> reads = router.read(30);
+
+    assertThat(reads)
+        .containsOnly(
+            Map.entry("replica-a", 10), Map.entry("replica-b", 10), Map.entry("replica-c", 10));
+  }
+
+  @Test
+  void ejectsFailingReplicaAndFallsBackToPrimaryWhenAllFail() {
+    Router router = router(Balancing.ROUND_ROBIN);
+
+    replicas.get(1).close();
+    router.healthChecker.refresh();
+    assertThat(router.read(20)).containsOnlyKeys("replica-a", "replica-c");
+
+    replicas.get(0).close();
+    replicas.get(2).close();
+    router.healthChecker.refresh();
+    assertThat(router.read(5)).containsOnly(Map.entry("primary", 5));
+  }
+
+  @Test
+  void prefersReplicaWithFewestActiveConnections() throws Exception {
+    Router router = router(Balancing.LEAST_ACTIVE);
+    Connection busyA = replicas.get(0).dataSource().getConnection();
+    Connection busyB = replicas.get(1).dataSource().getConnection();
+    resources.add(busyA);
+    resources.add(busyB);
+
+    assertThat(router.read(10)).containsOnly(Map.entry("replica-c", 10));
+  }
+
+  @Test
+  void favoursHeavierReplicasWithWeightedBalancing() {
+    Router router = router(Balancing.WEIGHTED);
+
+    Map<String, Integer> reads = router.read(500);
+
+    assertThat(reads.get("replica-a")).isGreaterThan(reads.get("replica-b") * 3 / 2);
+    assertThat(reads.get("replica-a")).isGreaterThan(reads.get("replica-c") * 3 / 2);
+  }
+
+  @Test
+  void readsWritePositionOnTheCommittedTransactionsConnection() {
+    HikariDataSource singleConnectionWriter = database("single-writer", 1);
+    resources.add(singleConnectionWriter);
+    ReplicaRoutingDataSource routingDataSource =
+        routingDataSource(singleConnectionWriter, Balancing.ROUND_ROBIN);
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    // Stands in for pg_current_wal_lsn(); borrowing a second connection would time out.
+    routingDataSource.setWritePositionSource(
+        () -> jdbcTemplate.queryForObject("SELECT 42", Long.class));
+    List<String> issuedTokens = new ArrayList<>();
+    ReadConsistencyContext.open(0, issuedTokens::add);
+    try {
+      new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+          .executeWithoutResult(
+              status -> jdbcTemplate.update("INSERT INTO server_name (name) VALUES ('written')"));
+    } finally {
+      ReadConsistencyContext.close();
+    }
+
+    assertThat(issuedTokens).containsExactly(WalLsn.format(42));
+  }
+
+  private Router router(Balancing balancing) {
+    ReplicaHealthChecker healthChecker =
+        new ReplicaHealthChecker(writer, replicas, false, Duration.ofSeconds(5));
+    healthChecker.refresh();
+    return new Router(
+        new LazyConnectionDataSourceProxy(routingDataSource(writer, balancing)), healthChecker);
+  }
+
+  private ReplicaRoutingDataSource routingDataSource(DataSource primary, Balancing balancing) {
+    ReplicaRoutingDataSource routingDataSource =
+        new ReplicaRoutingDataSource(new ReplicaBalancer(replicas, balancing));
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(ReplicaRoutingDataSource.DataSourceType.WRITE, primary);
+    replicas.forEach(node -> targets.put(node, node.dataSource()));
+    routingDataSource.setTargetDataSources(targets);
+    routingDataSource.setDefaultTargetDataSource(primary);
+    routingDataSource.afterPropertiesSet();
+    return routingDataSource;
+  }
+
+  private ReplicaNode replica(String name, int weight) {
+    return new ReplicaNode(name, database(name), weight);
+  }
+
+  private HikariDataSource database(String name) {
+    return database(name, 4);
+  }
+
+  private HikariDataSource database(String name, int poolSize) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + runId + ";DB_CLOSE_DELAY=-1");
+    dataSource.setMaximumPoolSize(poolSize);
+    dataSource.setConnectionTimeout(1000);
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("CREATE TABLE server_name (name VARCHAR(32))");
+    jdbcTemplate.update("INSERT INTO server_name (name) VALUES (?)", name);
+    return dataSource;
+  }
+
+  private record Router(DataSource dataSource, ReplicaHealthChecker healthChecker) {
+
+    Map<String, Integer> read(int times) {
+      TransactionTemplate readOnly =
+          new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+      readOnly.setReadOnly(true);
+      JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+      Map<String, Integer> reads = new HashMap<>();
+      for (int i = 0; i < times; i++) {
+        String server =
+            readOnly.execute(
+                status ->
+                    jdbcTemplate.queryForObject("SELECT name FROM server_name", String.class));
+        reads.merge(server, 1, Integer::sum);
+      }
+      return reads;
+    }
+  }
+}
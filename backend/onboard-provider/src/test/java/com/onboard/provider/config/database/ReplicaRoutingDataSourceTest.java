@@ -0,0 +1,142 @@
+package com.onboard.provider.config.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.DatabaseProperties.ReplicaRouting.Balancing;
+import com.onboard.infrastructure.core.persistence.ReadFreshness;
+import com.onboard.provider.config.database.ReplicaRoutingDataSource.DataSourceType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+  private static final long WRITTEN_LSN = WalLsn.parse("16/B374D848");
+
+  private final ReplicaNode replica = new ReplicaNode("replica", new DriverManagerDataSource(), 1);
+  private final ReplicaHealthChecker healthChecker =
+      new ReplicaHealthChecker(
+          new DriverManagerDataSource(), List.of(replica), true, Duration.ofSeconds(5));
+  private final ReplicaRoutingDataSource routingDataSource =
+      new ReplicaRoutingDataSource(new ReplicaBalancer(List.of(replica), Balancing.ROUND_ROBIN));
+  private final List<String> issuedTokens = new ArrayList<>();
+
+  @BeforeEach
+  void readOnlyRequest() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+  }
+
+  @AfterEach
+  void clear() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    ReadConsistencyContext.close();
+  }
+
+  @Test
+  void routesReadsToPrimaryUntilReplicaHasBeenChecked() {
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.WRITE);
+
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN, Duration.ZERO);
+
+    assertThat(routingDataSource.determineCurrentLookupKey()).isSameAs(replica);
+  }
+
+  @Test
+  void routesReadsToPrimaryUntilReplicaReplaysClientWrite() {
+    ReadConsistencyContext.open(WRITTEN_LSN, issuedTokens::add);
+
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN - 1, Duration.ofMillis(200));
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.WRITE);
+
+    healthChecker.update(replica, WRITTEN_LSN + 10, WRITTEN_LSN, Duration.ofMillis(200));
+    assertThat(routingDataSource.determineCurrentLookupKey()).isSameAs(replica);
+  }
+
+  @Test
+  void stopsRoutingToReplicaBeyondMaxLag() {
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN - 1, Duration.ofSeconds(6));
+
+    assertThat(replica.status().usable()).isFalse();
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.WRITE);
+  }
+
+  @Test
+  void raisesRequiredPositionAndIssuesTokenAfterWrite() {
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN - 1, Duration.ZERO);
+    ReadConsistencyContext.open(0, issuedTokens::add);
+
+    ReadConsistencyContext.recordWrite(WRITTEN_LSN);
+
+    assertThat(issuedTokens).containsExactly("16/B374D848");
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.WRITE);
+  }
+
+  @Test
+  void flagsReadsFromAReplicaBehindThisNodesLastWrite() {
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN - 1, Duration.ofMillis(200));
+    routingDataSource.setWritePositionSource(() -> WRITTEN_LSN);
+    commitWrite();
+
+    ReadFreshness.Observed<Object> lagging =
+        ReadFreshness.observe(routingDataSource::determineCurrentLookupKey);
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN, Duration.ZERO);
+    ReadFreshness.Observed<Object> caughtUp =
+        ReadFreshness.observe(routingDataSource::determineCurrentLookupKey);
+
+    // No request token is involved, so the lagging replica still serves the read.
+    assertThat(lagging.value()).isSameAs(replica);
+    assertThat(lagging.consistent()).isFalse();
+    assertThat(caughtUp.consistent()).isTrue();
+  }
+
+  @Test
+  void mirrorsRequiredPositionForApplicationCaches() {
+    ReadConsistencyContext.open(0, issuedTokens::add);
+    assertThat(ReadFreshness.isPositionRequired()).isFalse();
+
+    ReadConsistencyContext.recordWrite(WRITTEN_LSN);
+    assertThat(ReadFreshness.isPositionRequired()).isTrue();
+
+    ReadConsistencyContext.close();
+    assertThat(ReadFreshness.isPositionRequired()).isFalse();
+  }
+
+  @Test
+  void routesReadWriteTransactionsToPrimary() {
+    healthChecker.update(replica, WRITTEN_LSN, WRITTEN_LSN, Duration.ZERO);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+    assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceType.WRITE);
+  }
+
+  @Test
+  void roundTripsWalPositions() {
+    assertThat(WalLsn.format(WalLsn.parse("0/16B3748"))).isEqualTo("0/16B3748");
+    assertThat(WalLsn.parse("1/0")).isEqualTo(1L << 32);
+    assertThatIllegalArgumentException().isThrownBy(() -> WalLsn.parse("16B3748"));
+  }
+
+  private void commitWrite() {
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      routingDataSource.determineCurrentLookupKey();
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+      synchronizations.forEach(
+          synchronization ->
+              synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+      TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.onboard.provider.config.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.MessagingProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.MessagingProperties.RabbitProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class DeadLetterReplayControllerTest {
+
+  @Test
+  void acceptsQueueBoundToADeadLetterExchange() {
+    assertThat(DeadLetterReplayController.isDeadLetterQueue(messaging(), "orders.dlq")).isTrue();
+  }
+
+  @Test
+  void rejectsSourceQueuesAndUnknownQueues() {
+    assertThat(DeadLetterReplayController.isDeadLetterQueue(messaging(), "orders.q")).isFalse();
+    assertThat(DeadLetterReplayController.isDeadLetterQueue(messaging(), "other.q")).isFalse();
+  }
+
+  @Test
+  void rejectsBindingWithADifferentDeadLetterRoutingKey() {
+    MessagingProperties messaging = messaging();
+    messaging.getRabbit().getBindings().add(binding("orders.dlx", "audit.q", "audit"));
+
+    assertThat(DeadLetterReplayController.isDeadLetterQueue(messaging, "audit.q")).isFalse();
+  }
+
+  @Test
+  void refusesToReplayFromASourceQueue() {
+    DeadLetterReplayer replayer = mock(DeadLetterReplayer.class);
+    PlatformProperties platformProperties = new PlatformProperties();
+    platformProperties.setMessaging(messaging());
+    DeadLetterReplayController controller =
+        new DeadLetterReplayController(replayer, platformProperties);
+
+    assertThatThrownBy(() -> controller.replay("orders.q", 10, 10))
+        .isInstanceOf(ResponseStatusException.class);
+    verifyNoInteractions(replayer);
+  }
+
+  @Test
+  void refusesReplaysThatWouldOutlastTheRequest() {
+    DeadLetterReplayer replayer = mock(DeadLetterReplayer.class);
+    PlatformProperties platformProperties = new PlatformProperties();
+    platformProperties.setMessaging(messaging());
+    DeadLetterReplayController controller =
+        new DeadLetterReplayController(replayer, platformProperties);
+
+    assertThatThrownBy(() -> controller.replay("orders.dlq", 10_000, 1))
+        .isInstanceOf(ResponseStatusException.class);
+    assertThatThrownBy(() -> controller.replay("orders.dlq", 601, 10))
+        .isInstanceOf(ResponseStatusException.class);
+    verifyNoInteractions(replayer);
+
+    controller.replay("orders.dlq", 600, 10);
+    verify(replayer).replay("orders.dlq", 600, 10);
+  }
+
+  private static MessagingProperties messaging() {
+    RabbitProperties.Queue source = new RabbitProperties.Queue();
+    source.setName("orders.q");
+    source.setDeadLetterExchange("orders.dlx");
+    source.setDeadLetterRoutingKey("orders.dlq");
+    RabbitProperties.Queue deadLetters = new RabbitProperties.Queue();
+    deadLetters.setName("orders.dlq");
+    RabbitProperties rabbit = new RabbitProperties();
+    rabbit.setQueues(List.of(source, deadLetters));
+    rabbit.getBindings().add(binding("orders.exchange", "orders.q", "orders.created"));
+    rabbit.getBindings().add(binding("orders.dlx", "orders.dlq", "orders.dlq"));
+    MessagingProperties messaging = new MessagingProperties();
+    messaging.setRabbit(rabbit);
+    return messaging;
+  }
+
+  private static RabbitProperties.Binding binding(String exchange, String queue, String key) {
+    RabbitProperties.Binding binding = new RabbitProperties.Binding();
+    binding.setExchange(exchange);
+    binding.setQueue(queue);
+    binding.setRoutingKey(key);
+    return binding;
+  }
+}
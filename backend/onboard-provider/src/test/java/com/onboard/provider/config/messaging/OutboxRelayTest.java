@@ -0,0 +1,172 @@
+package com.onboard.provider.config.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.onboard.infrastructure.core.config.PlatformProperties.MessagingProperties.Outbox;
+import com.onboard.infrastructure.core.outbox.OutboxMessage;
+import com.onboard.infrastructure.core.outbox.OutboxStore;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+class OutboxRelayTest {
+
+  private final FakeOutboxStore store = new FakeOutboxStore();
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final List<Message> sent = new ArrayList<>();
+
+  @Test
+  void sendsWholeBatchBeforeAwaitingConfirmsAndDeletesConfirmedRows() {
+    store.add(5);
+    // Confirms only arrive once the whole batch has been sent.
+    List<CorrelationData> pending = new ArrayList<>();
+    stubBroker(
+        correlation -> {
+          pending.add(correlation);
+          if (pending.size() == 5) {
+            pending.forEach(c -> c.getFuture().complete(new CorrelationData.Confirm(true, null)));
+          }
+        });
+
+    int confirmed = relay(10).relayBatch(store);
+
+    assertThat(confirmed).isEqualTo(5);
+    assertThat(sent).hasSize(5);
+    assertThat(store.remaining()).isEmpty();
+  }
+
+  @Test
+  void keepsNackedAndUnconfirmedMessagesForRetry() {
+    List<UUID> ids = store.add(3);
+    UUID nacked = ids.get(1);
+    UUID unconfirmed = ids.get(2);
+    stubBroker(
+        correlation -> {
+          String id = correlation.getId();
+          if (!id.equals(unconfirmed.toString())) {
+            correlation
+                .getFuture()
+                .complete(new CorrelationData.Confirm(!id.equals(nacked.toString()), "nack"));
+          }
+        });
+
+    relay(10).relayBatch(store);
+
+    assertThat(store.remaining()).containsExactly(nacked, unconfirmed);
+  }
+
+  @Test
+  void drainsFullBatchesUntilOutboxIsEmpty() {
+    store.add(7);
+    stubBroker(
+        correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+    relay(3).drain();
+
+    assertThat(sent).hasSize(7);
+    assertThat(store.remaining()).isEmpty();
+    assertThat(sent.getFirst().getMessageProperties().getMessageId())
+        .isEqualTo(store.firstId.toString());
+  }
+
+  @Test
+  void stopsDrainingWhenBrokerNacksUntilNextRun() {
+    store.add(6);
+    stubBroker(
+        correlation ->
+            correlation.getFuture().complete(new CorrelationData.Confirm(false, "full")));
+
+    relay(3).drain();
+
+    assertThat(sent).hasSize(3);
+    assertThat(store.remaining()).hasSize(6);
+  }
+
+  private OutboxRelay relay(int batchSize) {
+    Outbox properties = new Outbox();
+    properties.setBatchSize(batchSize);
+    properties.setConfirmTimeout(Duration.ofMillis(100));
+    return new OutboxRelay(
+        List.of(store), rabbitTemplate, TransactionOperations.withoutTransaction(), properties);
+  }
+
+  private void stubBroker(Consumer<CorrelationData> onSend) {
+    when(rabbitTemplate.invoke(any()))
+        .thenAnswer(
+            invocation ->
+                invocation
+                    .<RabbitOperations.OperationsCallback<Object>>getArgument(0)
+                    .doInRabbit(rabbitTemplate));
+    doAnswer(
+            invocation -> {
+              sent.add(invocation.getArgument(2));
+              onSend.accept(invocation.getArgument(3));
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  private static final class FakeOutboxStore implements OutboxStore {
+    private final Map<UUID, OutboxMessage> messages = new LinkedHashMap<>();
+    private UUID firstId;
+
+    List<UUID> add(int count) {
+      List<UUID> ids = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        UUID id = UUID.randomUUID();
+        if (firstId == null) {
+          firstId = id;
+        }
+        messages.put(
+            id,
+            new OutboxMessage(
+                id,
+                "onboard.registration.exchange",
+                "registration.created",
+                "registration.created",
+                "{\"formId\":\"" + i + "\"}",
+                Instant.now()));
+        ids.add(id);
+      }
+      return ids;
+    }
+
+    Set<UUID> remaining() {
+      return messages.keySet();
+    }
+
+    @Override
+    public String name() {
+      return "test";
+    }
+
+    @Override
+    public List<OutboxMessage> lockNextBatch(int limit) {
+      return messages.values().stream().limit(limit).toList();
+    }
+
+    @Override
+    public void delete(Collection<UUID> ids) {
+      ids.forEach(messages::remove);
+    }
+  }
+}
@@ -0,0 +1,124 @@
+package com.onboard.provider.config.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.onboard.infrastructure.core.config.PlatformProperties;
+import com.onboard.infrastructure.core.config.PlatformProperties.MessagingProperties.RabbitProperties;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.SimpleRabbitListenerEndpoint;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RabbitTopologyConfigTest {
+
+  @Test
+  void derivesQuorumQueueArgumentsFromProperties() {
+    RabbitProperties.Queue properties = queue("orders.q");
+    properties.setQuorum(true);
+    properties.setDeliveryLimit(5);
+    properties.setMaxLength(1_000L);
+    properties.setDeadLetterExchange("orders.dlx");
+
+    Queue queue = RabbitTopologyConfig.toQueue(properties);
+
+    assertThat(queue.getArguments())
+        .containsEntry("x-queue-type", "quorum")
+        .containsEntry("x-delivery-limit", 5)
+        .containsEntry("x-max-length", 1_000L)
+        .containsEntry("x-dead-letter-exchange", "orders.dlx");
+  }
+
+  @Test
+  void declaresLazyAndStreamQueues() {
+    RabbitProperties.Queue lazy = queue("lazy.q");
+    lazy.setMode(RabbitProperties.Queue.Mode.LAZY);
+    RabbitProperties.Queue stream = queue("stream.q");
+    stream.setMode(RabbitProperties.Queue.Mode.STREAM);
+
+    assertThat(RabbitTopologyConfig.toQueue(lazy).getArguments())
+        .containsEntry("x-queue-mode", "lazy");
+    assertThat(RabbitTopologyConfig.toQueue(stream).getArguments())
+        .containsEntry("x-queue-type", "stream");
+  }
+
+  @Test
+  void rejectsDeliveryLimitOnClassicQueue() {
+    RabbitProperties.Queue properties = queue("classic.q");
+    properties.setDeliveryLimit(3);
+
+    assertThatThrownBy(() -> RabbitTopologyConfig.toQueue(properties))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void sizesListenerContainersPerQueue() {
+    RabbitProperties.Queue busy = queue("busy.q");
+    busy.setConcurrency(4);
+    busy.setMaxConcurrency(8);
+    busy.setPrefetch(500);
+    busy.setBatchSize(200);
+    busy.setReceiveTimeout(Duration.ofMillis(250));
+    busy.setConsumerPriority(10);
+    RabbitProperties.Queue quiet = queue("quiet.q");
+    quiet.setPrefetch(10);
+    quiet.setBatchSize(20);
+    QueueListenerContainerFactories factories =
+        new QueueListenerContainerFactories(
+            mock(ConnectionFactory.class), platformProperties(busy, quiet), false);
+
+    SimpleMessageListenerContainer busyContainer = container(factories, "busy.q");
+    SimpleMessageListenerContainer quietContainer = container(factories, "quiet.q");
+
+    assertThat(ReflectionTestUtils.getField(busyContainer, "concurrentConsumers")).isEqualTo(4);
+    assertThat(ReflectionTestUtils.getField(busyContainer, "maxConcurrentConsumers"))
+        .isEqualTo(8);
+    assertThat(ReflectionTestUtils.getField(busyContainer, "prefetchCount")).isEqualTo(500);
+    assertThat(ReflectionTestUtils.getField(busyContainer, "batchSize")).isEqualTo(200);
+    assertThat(ReflectionTestUtils.getField(busyContainer, "receiveTimeout")).isEqualTo(250L);
+    assertThat(busyContainer.getConsumerArguments()).containsEntry("x-priority", 10);
+    // Prefetch is raised to the batch size so batches can fill.
+    assertThat(ReflectionTestUtils.getField(quietContainer, "prefetchCount")).isEqualTo(20);
+    assertThat(quietContainer.getConsumerArguments()).isEmpty();
+  }
+
+  @Test
+  void rejectsFactoryForUnknownQueue() {
+    QueueListenerContainerFactories factories =
+        new QueueListenerContainerFactories(
+            mock(ConnectionFactory.class), platformProperties(queue("known.q")), false);
+
+    assertThatThrownBy(() -> factories.create("unknown.q"))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private static SimpleMessageListenerContainer container(
+      QueueListenerContainerFactories factories, String queueName) {
+    SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+    endpoint.setId(queueName);
+    endpoint.setQueueNames(queueName);
+    endpoint.setMessageListener(message -> {});
+    return factories.create(queueName).createListenerContainer(endpoint);
+  }
+
+  private static RabbitProperties.Queue queue(String name) {
+    RabbitProperties.Queue queue = new RabbitProperties.Queue();
+    queue.setName(name);
+    return queue;
+  }
+
+  private static PlatformProperties platformProperties(RabbitProperties.Queue... queues) {
+    RabbitProperties rabbit = new RabbitProperties();
+    rabbit.setQueues(List.of(queues));
+    PlatformProperties.MessagingProperties messaging = new PlatformProperties.MessagingProperties();
+    messaging.setRabbit(rabbit);
+    PlatformProperties platformProperties = new PlatformProperties();
+    platformProperties.setMessaging(messaging);
+    return platformProperties;
+  }
+}
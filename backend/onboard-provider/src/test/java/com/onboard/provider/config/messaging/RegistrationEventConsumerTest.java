@@ -0,0 +1,116 @@
+package com.onboard.provider.config.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import com.onboard.infrastructure.core.idempotency.InMemoryIdempotencyService;
+import com.onboard.infrastructure.core.messaging.InboundEvent;
+import com.onboard.infrastructure.core.messaging.InboundEventHandler;
+import com.rabbitmq.client.Channel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+class RegistrationEventConsumerTest {
+
+  private static final String QUEUE = RegistrationEventConsumer.CREATED_QUEUE;
+
+  private final InMemoryIdempotencyService idempotencyService =
+      new InMemoryIdempotencyService(JsonMapper.builder().build());
+  private final RecordingHandler handler = new RecordingHandler();
+  private final Channel channel = mock(Channel.class);
+  private final RegistrationEventConsumer consumer =
+      new RegistrationEventConsumer(
+          idempotencyService, List.of(handler), JsonMapper.builder().build());
+
+  @AfterEach
+  void closeService() {
+    idempotencyService.close();
+  }
+
+  @Test
+  void acknowledgesWholeBatchWithOneMultipleAck() throws Exception {
+    consumer.consume(QUEUE, List.of(message(1, "a"), message(2, "b"), message(3, "c")), channel);
+
+    assertThat(handler.messageIds).containsExactly("a", "b", "c");
+    InOrder order = inOrder(channel);
+    order.verify(channel).basicAck(3, true);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  void handlesRedeliveredMessageIdOnce() throws Exception {
+    consumer.consume(QUEUE, List.of(message(1, "a"), message(2, "a")), channel);
+    consumer.consume(QUEUE, List.of(message(3, "a")), channel);
+
+    assertThat(handler.messageIds).containsExactly("a");
+    InOrder order = inOrder(channel);
+    order.verify(channel).basicAck(2, true);
+    order.verify(channel).basicAck(3, true);
+  }
+
+  @Test
+  void rejectsFailingMessageWithoutRequeueAndAcknowledgesTheRest() throws Exception {
+    handler.failOn = "b";
+
+    consumer.consume(QUEUE, List.of(message(1, "a"), message(2, "b"), message(3, "c")), channel);
+
+    assertThat(handler.messageIds).containsExactly("a", "b", "c");
+    InOrder order = inOrder(channel);
+    order.verify(channel).basicAck(1, true);
+    order.verify(channel).basicNack(2, false, false);
+    order.verify(channel).basicAck(3, true);
+    verifyNoMoreInteractions(channel);
+  }
+
+  @Test
+  void retriesFailedMessageWhenItIsRedelivered() throws Exception {
+    handler.failOn = "a";
+    consumer.consume(QUEUE, List.of(message(1, "a")), channel);
+    handler.failOn = null;
+
+    consumer.consume(QUEUE, List.of(message(2, "a")), channel);
+
+    // A failure releases the deduplication entry, so a replayed copy is handled again.
+    assertThat(handler.messageIds).containsExactly("a", "a");
+  }
+
+  private static Message message(long deliveryTag, String messageId) {
+    Message message =
+        MessageBuilder.withBody("{}".getBytes(StandardCharsets.UTF_8))
+            .setMessageId(messageId)
+            .setType("registration.created")
+            .build();
+    message.getMessageProperties().setDeliveryTag(deliveryTag);
+    return message;
+  }
+
+  private static final class RecordingHandler implements InboundEventHandler {
+
+    private final List<String> messageIds = new ArrayList<>();
+    private @Nullable String failOn;
+
+    @Override
+    public boolean supports(@Nullable String eventType) {
+      return "registration.created".equals(eventType);
+    }
+
+    @Override
+    public void handle(InboundEvent event) {
+      messageIds.add(String.valueOf(event.messageId()));
+      String messageId = event.messageId();
+      if (messageId != null && messageId.equals(failOn)) {
+        throw new IllegalStateException("boom");
+      }
+    }
+  }
+}
@@ -8,12 +8,16 @@ plugins {
 }
 
 dependencies {
+  implementation(platform(libs.spring.boot.bom))
+
   implementation(project(":backend:onboard-core"))
   implementation(project(":backend:onboard-loan-origination"))
 
   implementation(libs.spring.boot.starter.web)
   implementation(libs.spring.boot.starter.data.jpa)
   implementation(libs.spring.boot.starter.validation)
+  // Security context only; the filter chain and its auto-configuration live in onboard-provider.
+  implementation(libs.spring.security.core)
   implementation(libs.swagger.annotations.jakarta)
   implementation(libs.jackson.databind.nullable)
 
@@ -70,6 +74,18 @@ tasks.named<GenerateTask>("openApiGenerate") {
           "OffsetDateTime" to "java.time.OffsetDateTime",
       )
   )
+  // Form payloads bind straight to the domain value object instead of a generated Map, and
+  // NDJSON/CSV bodies are read and written as streams instead of being buffered whole.
+  schemaMappings.set(
+      mapOf(
+          "FormContent" to "com.onboard.registration.domain.vo.FormData",
+          "RegistrationFormExport" to
+              "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody",
+          "RegistrationFormImport" to "org.springframework.core.io.InputStreamResource",
+          "RegistrationFormImportResults" to
+              "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody",
+      )
+  )
   generateApiTests.set(false)
   generateModelTests.set(false)
   generateApiDocumentation.set(false)
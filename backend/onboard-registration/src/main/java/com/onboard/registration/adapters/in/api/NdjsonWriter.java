@@ -0,0 +1,61 @@
+package com.onboard.registration.adapters.in.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+/**
+ * Writes values to a response body as newline-delimited JSON, one document per line, as they
+ * arrive. Closing flushes buffered output but leaves the underlying stream open for the container.
+ *
+ * @param <T> type of the values written
+ */
+final class NdjsonWriter<T> implements Closeable {
+
+  private final OutputStream out;
+  private final SequenceWriter sequenceWriter;
+  private final Function<? super T, ?> representation;
+  private boolean empty = true;
+
+  /**
+   * Creates a writer.
+   *
+   * @param out response body
+   * @param objectMapper mapper serializing each representation
+   * @param representation maps a value to the object written for it
+   */
+  NdjsonWriter(OutputStream out, ObjectMapper objectMapper, Function<? super T, ?> representation) {
+    this.out = out;
+    this.sequenceWriter =
+        objectMapper
+            .writer()
+            .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n")
+            .writeValues(out);
+    this.representation = representation;
+  }
+
+  /**
+   * Writes one value as a line.
+   *
+   * @param value value to write
+   */
+  void write(T value) {
+    sequenceWriter.write(representation.apply(value));
+    empty = false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    sequenceWriter.close();
+    if (!empty) {
+      // The separator only goes between documents; NDJSON also terminates the last line.
+      out.write('\n');
+    }
+    out.flush();
+  }
+}
@@ -1,38 +1,70 @@
 package com.onboard.registration.adapters.in.api;
 
 import com.onboard.infrastructure.core.idempotency.Idempotent;
+import com.onboard.infrastructure.web.AsyncRequestTimeout;
+import com.onboard.registration.application.exception.RegistrationFormValidationException;
+import com.onboard.registration.application.port.in.OnboardRegistrationImportService;
 import com.onboard.registration.application.port.in.OnboardRegistrationReadService;
 import com.onboard.registration.application.port.in.OnboardRegistrationWriteService;
 import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormImportResult;
 import com.onboard.registration.domain.model.RegistrationFormPage;
 import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.model.RegistrationFormTransition;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
 import com.onboard.registration.generated.api.RegistrationApiDelegate;
 import com.onboard.registration.generated.model.CreateRegistrationFormRequestDto;
 import com.onboard.registration.generated.model.RegistrationFormDto;
+import com.onboard.registration.generated.model.RegistrationFormExportFormatDto;
+import com.onboard.registration.generated.model.RegistrationFormImportResultDto;
 import com.onboard.registration.generated.model.RegistrationFormPageDto;
 import com.onboard.registration.generated.model.RegistrationFormStatusDto;
+import com.onboard.registration.generated.model.RegistrationFormTransitionOutcomeDto;
+import com.onboard.registration.generated.model.RegistrationFormTransitionResultDto;
 import com.onboard.registration.generated.model.SubmitRegistrationFormRequestDto;
+import com.onboard.registration.generated.model.TransitionRegistrationFormsRequestDto;
+import com.onboard.registration.generated.model.TransitionRegistrationFormsResponseDto;
 import com.onboard.registration.generated.model.UpdateRegistrationFormRequestDto;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import tools.jackson.databind.ObjectMapper;
-import tools.jackson.databind.node.ObjectNode;
 
 /** REST adapter for registration form operations. */
 @Component
 @RequiredArgsConstructor
 public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
 
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+  private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+  /** How long an export may keep streaming; other async responses keep the default timeout. */
+  private static final Duration EXPORT_TIMEOUT = Duration.ofMinutes(30);
+
+  /** Authority granted for the {@code registration:decide} OAuth2 scope. */
+  static final String DECIDE_AUTHORITY = "SCOPE_registration:decide";
+
   private final OnboardRegistrationReadService onboardRegistrationReadService;
   private final OnboardRegistrationWriteService onboardRegistrationWriteService;
+  private final OnboardRegistrationImportService onboardRegistrationImportService;
   private final ObjectMapper objectMapper;
 
   @Idempotent(expire = 60, timeUnit = TimeUnit.SECONDS, namespace = "registration.create-form")
@@ -47,7 +79,7 @@ public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
     RegistrationForm createdForm =
         onboardRegistrationWriteService.createRegistrationForm(
             createRegistrationFormRequestDto.getProductCode(),
-            toObjectNode(createRegistrationFormRequestDto.getFormContent()));
+            createRegistrationFormRequestDto.getFormContent());
     return ResponseEntity.status(HttpStatus.CREATED).body(toDto(createdForm));
   }
 
@@ -59,16 +91,87 @@ public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
 
   @Override
   public ResponseEntity<RegistrationFormPageDto> listRegistrationForms(
-      RegistrationFormStatusDto status, String keyword, Integer page, Integer size) {
+      RegistrationFormStatusDto status,
+      String keyword,
+      Integer page,
+      Integer size,
+      String cursor,
+      Boolean includeTotal) {
+    RegistrationFormStatus domainStatus =
+        status == null ? null : RegistrationFormStatus.valueOf(status.getValue());
     RegistrationFormPage formPage =
-        onboardRegistrationReadService.listRegistrationForms(
-            status == null ? null : RegistrationFormStatus.valueOf(status.getValue()),
-            keyword,
-            page,
-            size);
+        cursor == null || cursor.isBlank()
+            ? onboardRegistrationReadService.listRegistrationForms(
+                domainStatus, keyword, page, size, includeTotal == null || includeTotal)
+            : onboardRegistrationReadService.listRegistrationFormsAfter(
+                domainStatus, keyword, cursor, size);
     return ResponseEntity.ok(toDto(formPage));
   }
 
+  /**
+   * Streams one result per body line back while the body is still being read. The import runs
+   * when the container starts writing, so neither lines nor results are collected first.
+   */
+  @Override
+  public ResponseEntity<StreamingResponseBody> importRegistrationForms(InputStreamResource lines) {
+    StreamingResponseBody body =
+        out -> {
+          try (InputStream in = lines.getInputStream();
+              NdjsonWriter<RegistrationFormImportResult> writer =
+                  new NdjsonWriter<>(out, objectMapper, this::toResultDto)) {
+            onboardRegistrationImportService.importRegistrationForms(
+                new RegistrationFormImportReader(in, objectMapper), writer::write);
+          } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+          }
+        };
+    return ResponseEntity.ok().contentType(NDJSON).body(body);
+  }
+
+  /**
+   * Streams the matching forms straight to the response body. The read runs when the container
+   * starts writing, in its own read-only transaction, so rows go from cursor to socket without
+   * being collected first.
+   */
+  @Override
+  public ResponseEntity<StreamingResponseBody> exportRegistrationForms(
+      RegistrationFormExportFormatDto format,
+      RegistrationFormStatusDto status,
+      OffsetDateTime updatedFrom,
+      OffsetDateTime updatedTo) {
+    boolean csv = format == RegistrationFormExportFormatDto.CSV;
+    RegistrationFormStatus domainStatus =
+        status == null ? null : RegistrationFormStatus.valueOf(status.getValue());
+    Instant from = updatedFrom == null ? null : updatedFrom.toInstant();
+    Instant to = updatedTo == null ? null : updatedTo.toInstant();
+    // Checked here as well: once the body streams, the 200 status is already committed.
+    if (from != null && to != null && !from.isBefore(to)) {
+      throw new RegistrationFormValidationException("updatedFrom must be before updatedTo");
+    }
+    StreamingResponseBody body =
+        out -> {
+          try (RegistrationFormExportWriter writer =
+              csv
+                  ? RegistrationFormExportWriter.csv(out)
+                  : RegistrationFormExportWriter.ndjson(out, objectMapper, this::toDto)) {
+            onboardRegistrationReadService.exportRegistrationForms(
+                domainStatus, from, to, writer::write);
+          } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+          }
+        };
+    AsyncRequestTimeout.extend(EXPORT_TIMEOUT);
+    return ResponseEntity.ok()
+        .contentType(csv ? CSV : NDJSON)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename(csv ? "registration-forms.csv" : "registration-forms.ndjson")
+                .build()
+                .toString())
+        .body(body);
+  }
+
   @Override
   public ResponseEntity<RegistrationFormDto> submitRegistrationForm(
       String formId, SubmitRegistrationFormRequestDto submitRegistrationFormRequestDto) {
@@ -81,21 +184,49 @@ public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
     return ResponseEntity.ok(toDto(submittedForm));
   }
 
+  @Override
+  public ResponseEntity<TransitionRegistrationFormsResponseDto> transitionRegistrationForms(
+      TransitionRegistrationFormsRequestDto transitionRegistrationFormsRequestDto) {
+    RegistrationFormTransition transition =
+        RegistrationFormTransition.valueOf(
+            transitionRegistrationFormsRequestDto.getTransition().getValue());
+    if (transition.isDecision() && !hasAuthority(DECIDE_AUTHORITY)) {
+      throw new AccessDeniedException(
+          "Approving or rejecting registration forms requires the registration:decide scope");
+    }
+    List<RegistrationFormTransitionResult> results =
+        onboardRegistrationWriteService.transitionRegistrationForms(
+            transitionRegistrationFormsRequestDto.getFormIds(),
+            transition,
+            transitionRegistrationFormsRequestDto.getSubmissionNote());
+    return ResponseEntity.ok(
+        TransitionRegistrationFormsResponseDto.builder()
+            .results(results.stream().map(this::toTransitionResultDto).toList())
+            .build());
+  }
+
   @Override
   public ResponseEntity<RegistrationFormDto> updateRegistrationForm(
       String formId, UpdateRegistrationFormRequestDto updateRegistrationFormRequestDto) {
     RegistrationForm updatedForm =
         onboardRegistrationWriteService.updateRegistrationForm(
-            formId, toObjectNode(updateRegistrationFormRequestDto.getFormContent()));
+            formId, updateRegistrationFormRequestDto.getFormContent());
     return ResponseEntity.ok(toDto(updatedForm));
   }
 
+  private static boolean hasAuthority(String authority) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null
+        && authentication.getAuthorities().stream()
+            .anyMatch(granted -> authority.equals(granted.getAuthority()));
+  }
+
   private RegistrationFormDto toDto(RegistrationForm form) {
     return RegistrationFormDto.builder()
         .id(form.id())
         .referenceNo(form.referenceNo())
         .productCode(form.productCode())
-        .formContent(toMap(form.formContent()))
+        .formContent(form.formContent())
         .status(toDtoStatus(form.status()))
         .submittedAt(toOffsetDateTime(form.submittedAt()))
         .createdAt(toOffsetDateTime(form.createdAt()))
@@ -103,6 +234,25 @@ public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
         .build();
   }
 
+  private RegistrationFormImportResultDto toResultDto(RegistrationFormImportResult result) {
+    return RegistrationFormImportResultDto.builder()
+        .line(result.line())
+        .formId(result.formId())
+        .referenceNo(result.referenceNo())
+        .error(result.error())
+        .build();
+  }
+
+  private RegistrationFormTransitionResultDto toTransitionResultDto(
+      RegistrationFormTransitionResult result) {
+    return RegistrationFormTransitionResultDto.builder()
+        .formId(result.formId())
+        .outcome(RegistrationFormTransitionOutcomeDto.fromValue(result.outcome().name()))
+        .form(result.form() == null ? null : toDto(result.form()))
+        .error(result.error())
+        .build();
+  }
+
   private RegistrationFormPageDto toDto(RegistrationFormPage formPage) {
     return RegistrationFormPageDto.builder()
         .items(formPage.items().stream().map(this::toDto).toList())
@@ -110,6 +260,7 @@ public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
         .size(formPage.size())
         .totalElements(formPage.totalElements())
         .totalPages(formPage.totalPages())
+        .nextCursor(formPage.nextCursor())
         .build();
   }
 
@@ -117,15 +268,6 @@ public class OnboardRegistrationApiResource implements RegistrationApiDelegate {
     return RegistrationFormStatusDto.fromValue(status.name());
   }
 
-  private ObjectNode toObjectNode(Map<String, Object> input) {
-    return input == null ? null : objectMapper.valueToTree(input);
-  }
-
-  @SuppressWarnings("unchecked")
-  private Map<String, Object> toMap(ObjectNode input) {
-    return objectMapper.convertValue(input, Map.class);
-  }
-
   private static OffsetDateTime toOffsetDateTime(Instant value) {
     return value == null ? null : value.atOffset(ZoneOffset.UTC);
   }
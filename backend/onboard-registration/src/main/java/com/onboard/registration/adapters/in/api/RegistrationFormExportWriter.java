@@ -0,0 +1,149 @@
+package com.onboard.registration.adapters.in.api;
+
+import com.onboard.registration.domain.model.RegistrationForm;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.function.Function;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Writes exported registration forms to a response body as they arrive, one line or row per form.
+ *
+ * <p>Closing flushes buffered output but leaves the underlying stream open for the container.
+ */
+interface RegistrationFormExportWriter extends Closeable {
+
+  /**
+   * Writes one form; a failed client connection surfaces as an unchecked exception, such as
+   * {@link UncheckedIOException}, so writing can happen inside a form consumer.
+   *
+   * @param form form to write
+   */
+  void write(RegistrationForm form);
+
+  /**
+   * Creates a writer emitting one JSON document per line.
+   *
+   * @param out response body
+   * @param objectMapper mapper serializing each representation
+   * @param representation maps a form to the object written for it
+   * @return NDJSON writer
+   */
+  static RegistrationFormExportWriter ndjson(
+      OutputStream out, ObjectMapper objectMapper, Function<RegistrationForm, ?> representation) {
+    NdjsonWriter<RegistrationForm> ndjsonWriter =
+        new NdjsonWriter<>(out, objectMapper, representation);
+    return new RegistrationFormExportWriter() {
+      @Override
+      public void write(RegistrationForm form) {
+        ndjsonWriter.write(form);
+      }
+
+      @Override
+      public void close() throws IOException {
+        ndjsonWriter.close();
+      }
+    };
+  }
+
+  /**
+   * Creates a writer emitting RFC 4180 CSV with a header row and the form content as JSON text.
+   * Cells that would start a spreadsheet formula are prefixed with {@code '}.
+   *
+   * @param out response body
+   * @return CSV writer
+   */
+  static RegistrationFormExportWriter csv(OutputStream out) {
+    return new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+  }
+
+  /** CSV rows in a fixed column order. */
+  final class CsvWriter implements RegistrationFormExportWriter {
+
+    static final String HEADER =
+        "id,referenceNo,productCode,status,submittedAt,createdAt,updatedAt,submissionNote,"
+            + "formContent";
+
+    /** Leading characters that make spreadsheet applications treat a cell as a formula. */
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    private CsvWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void write(RegistrationForm form) {
+      try {
+        writeHeaderOnce();
+        writer.write(field(form.id()));
+        writer.write(',');
+        writer.write(field(form.referenceNo()));
+        writer.write(',');
+        writer.write(field(form.productCode()));
+        writer.write(',');
+        writer.write(form.status().name());
+        writer.write(',');
+        writer.write(timestamp(form.submittedAt()));
+        writer.write(',');
+        writer.write(timestamp(form.createdAt()));
+        writer.write(',');
+        writer.write(timestamp(form.updatedAt()));
+        writer.write(',');
+        writer.write(field(form.submissionNote()));
+        writer.write(',');
+        writer.write(field(form.formContent().json()));
+        writer.write("\r\n");
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      writeHeaderOnce();
+      writer.flush();
+    }
+
+    private void writeHeaderOnce() throws IOException {
+      if (!headerWritten) {
+        writer.write(HEADER);
+        writer.write("\r\n");
+        headerWritten = true;
+      }
+    }
+
+    private static String timestamp(Instant value) {
+      return value == null ? "" : value.toString();
+    }
+
+    /**
+     * Prefixes a value that a spreadsheet would evaluate as a formula with {@code '}, then quotes
+     * it if it contains a separator, quote or line break, doubling embedded quotes.
+     */
+    static String field(String value) {
+      if (value == null) {
+        return "";
+      }
+      if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+        value = "'" + value;
+      }
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+          return '"' + value.replace("\"", "\"\"") + '"';
+        }
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.onboard.registration.adapters.in.api;
+
+import com.onboard.registration.domain.model.RegistrationFormImportLine;
+import com.onboard.registration.generated.model.CreateRegistrationFormRequestDto;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * Reads an NDJSON import body lazily, one {@link CreateRegistrationFormRequestDto} per line.
+ *
+ * <p>A line that is not a valid request becomes a malformed import line instead of failing the
+ * whole import. Blank lines are skipped but still counted, so line numbers match the body.
+ */
+final class RegistrationFormImportReader implements Iterator<RegistrationFormImportLine> {
+
+  private final BufferedReader reader;
+  private final ObjectReader requestReader;
+  private long lineNumber;
+  private RegistrationFormImportLine next;
+
+  /**
+   * Creates a reader.
+   *
+   * @param in request body
+   * @param objectMapper mapper parsing each line
+   */
+  RegistrationFormImportReader(InputStream in, ObjectMapper objectMapper) {
+    this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    this.requestReader = objectMapper.readerFor(CreateRegistrationFormRequestDto.class);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readNext();
+    }
+    return next != null;
+  }
+
+  @Override
+  public RegistrationFormImportLine next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    RegistrationFormImportLine line = next;
+    next = null;
+    return line;
+  }
+
+  private RegistrationFormImportLine readNext() {
+    String text;
+    try {
+      do {
+        text = reader.readLine();
+        if (text == null) {
+          return null;
+        }
+        lineNumber++;
+      } while (text.isBlank());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    try {
+      CreateRegistrationFormRequestDto request = requestReader.readValue(text);
+      if (request == null) {
+        return RegistrationFormImportLine.malformed(lineNumber, "line is not a valid form");
+      }
+      return RegistrationFormImportLine.of(
+          lineNumber, request.getProductCode(), request.getFormContent());
+    } catch (JacksonException ex) {
+      return RegistrationFormImportLine.malformed(
+          lineNumber, "line is not a valid form: " + ex.getOriginalMessage());
+    }
+  }
+}
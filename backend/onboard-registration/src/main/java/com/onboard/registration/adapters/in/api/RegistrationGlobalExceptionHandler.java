@@ -1,5 +1,6 @@
 package com.onboard.registration.adapters.in.api;
 
+import com.onboard.infrastructure.core.idempotency.IdempotencyKeyInProgressException;
 import com.onboard.registration.application.exception.RegistrationFormConflictException;
 import com.onboard.registration.application.exception.RegistrationFormNotFoundException;
 import com.onboard.registration.application.exception.RegistrationFormValidationException;
@@ -47,6 +48,18 @@ public class RegistrationGlobalExceptionHandler {
     return buildErrorResponse(HttpStatus.CONFLICT, ex.geti18nMessageCode(), ex.getMessage());
   }
 
+  /**
+   * Maps duplicate requests arriving while the first one with the same key still runs to HTTP 409.
+   *
+   * @param ex in-progress exception
+   * @return error response payload
+   */
+  @ExceptionHandler(IdempotencyKeyInProgressException.class)
+  public ResponseEntity<ErrorResponseDto> handleIdempotencyKeyInProgress(
+      IdempotencyKeyInProgressException ex) {
+    return buildErrorResponse(HttpStatus.CONFLICT, ex.geti18nMessageCode(), ex.getMessage());
+  }
+
   private static ResponseEntity<ErrorResponseDto> buildErrorResponse(
       HttpStatus status, String code, String message) {
     ErrorResponseDto errorResponse =
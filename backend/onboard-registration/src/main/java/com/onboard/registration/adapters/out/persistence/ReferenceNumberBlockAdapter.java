@@ -0,0 +1,70 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import com.onboard.registration.application.port.out.ReferenceNumberBlockPort;
+import com.onboard.registration.domain.model.ReferenceNumberBlock;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Persistence adapter leasing reference number blocks from a per-year counter row (hi/lo).
+ *
+ * <p>Each lease locks the year's row, advances it by the block size and commits in a transaction
+ * of its own, so the row lock is held for one short statement pair rather than for the caller's
+ * whole unit of work.
+ */
+@Component
+public class ReferenceNumberBlockAdapter implements ReferenceNumberBlockPort {
+
+  /** Attempts before giving up when nodes race to create the first row of a year. */
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final ReferenceNumberSequenceJpaRepository sequenceRepository;
+  private final TransactionTemplate leaseTransaction;
+
+  /**
+   * Creates the adapter.
+   *
+   * @param sequenceRepository sequence row repository
+   * @param transactionManager transaction manager used for independent lease transactions
+   */
+  public ReferenceNumberBlockAdapter(
+      ReferenceNumberSequenceJpaRepository sequenceRepository,
+      PlatformTransactionManager transactionManager) {
+    this.sequenceRepository = sequenceRepository;
+    this.leaseTransaction = new TransactionTemplate(transactionManager);
+    this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public ReferenceNumberBlock leaseBlock(int year, int blockSize) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return leaseTransaction.execute(status -> lease(year, blockSize));
+      } catch (DataIntegrityViolationException ex) {
+        // Another node inserted the year's row first; the retry locks that row instead.
+        if (attempt >= MAX_ATTEMPTS) {
+          throw ex;
+        }
+      }
+    }
+  }
+
+  private ReferenceNumberBlock lease(int year, int blockSize) {
+    ReferenceNumberSequenceJpaEntity sequence =
+        sequenceRepository.findForUpdate(year).orElseGet(() -> newSequence(year));
+    long first = sequence.getNextValue();
+    sequence.setNextValue(first + blockSize);
+    sequenceRepository.saveAndFlush(sequence);
+    return new ReferenceNumberBlock(year, first, first + blockSize);
+  }
+
+  private static ReferenceNumberSequenceJpaEntity newSequence(int year) {
+    ReferenceNumberSequenceJpaEntity sequence = new ReferenceNumberSequenceJpaEntity();
+    sequence.setId(year);
+    sequence.setNextValue(1);
+    return sequence;
+  }
+}
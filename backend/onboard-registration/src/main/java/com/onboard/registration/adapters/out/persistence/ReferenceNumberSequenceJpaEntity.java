@@ -0,0 +1,29 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import com.onboard.infrastructure.core.persistence.BaseEntity;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.Nullable;
+
+/** JPA entity holding the next unleased reference number for one calendar year. */
+@Entity
+@Table(name = "registration_reference_sequences")
+@AttributeOverride(name = "id", column = @Column(name = "sequence_year"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReferenceNumberSequenceJpaEntity extends BaseEntity<Integer> {
+
+  @Column(name = "next_value", nullable = false)
+  private long nextValue;
+
+  @Version
+  @Column(name = "version", nullable = false)
+  private @Nullable Long version;
+}
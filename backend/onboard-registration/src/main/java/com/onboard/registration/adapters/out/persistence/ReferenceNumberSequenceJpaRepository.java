@@ -0,0 +1,23 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/** Spring Data repository for per-year reference number sequences. */
+public interface ReferenceNumberSequenceJpaRepository
+    extends JpaRepository<ReferenceNumberSequenceJpaEntity, Integer> {
+
+  /**
+   * Loads a year's sequence row with a row lock held until the transaction ends.
+   *
+   * @param year calendar year
+   * @return locked sequence row, or empty when the year has not been leased from yet
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select s from ReferenceNumberSequenceJpaEntity s where s.id = :year")
+  Optional<ReferenceNumberSequenceJpaEntity> findForUpdate(@Param("year") int year);
+}
@@ -2,22 +2,28 @@ package com.onboard.registration.adapters.out.persistence;
 
 import com.onboard.infrastructure.core.persistence.AuditableBaseEntity;
 import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.vo.FormData;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.Length;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Mutability;
 import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.java.Immutability;
 import org.jspecify.annotations.Nullable;
-import tools.jackson.databind.node.ObjectNode;
 
 /** JPA entity for persisted registration forms. */
 @Entity
@@ -37,9 +43,14 @@ public class RegistrationFormJpaEntity extends AuditableBaseEntity<UUID, String>
   @Column(name = "product_code", nullable = false, length = 128)
   private String productCode;
 
+  /**
+   * Form data is immutable, so Hibernate neither snapshots nor deep-copies it for dirty checking; a
+   * changed form arrives as a new instance.
+   */
   @Column(name = "form_content", nullable = false)
   @JdbcTypeCode(SqlTypes.JSON)
-  private @Nullable ObjectNode formContentJson;
+  @Mutability(Immutability.class)
+  private @Nullable FormData formContent;
 
   @Enumerated(EnumType.STRING)
   @Column(name = "status", nullable = false, length = 32)
@@ -51,7 +62,22 @@ public class RegistrationFormJpaEntity extends AuditableBaseEntity<UUID, String>
   @Column(name = "submission_note", length = 1000)
   private @Nullable String submissionNote;
 
+  /**
+   * Lower-cased reference number and form content, kept in sync on every write so keyword search
+   * can use a trigram index instead of serializing each row's JSON at query time.
+   */
+  @Column(name = "search_text", nullable = false, length = Length.LONG32)
+  private String searchText;
+
   @Version
   @Column(name = "version", nullable = false)
   private @Nullable Long version;
+
+  @PrePersist
+  @PreUpdate
+  void refreshSearchText() {
+    searchText =
+        (referenceNo + " " + (formContent == null ? null : formContent.json()))
+            .toLowerCase(Locale.ROOT);
+  }
 }
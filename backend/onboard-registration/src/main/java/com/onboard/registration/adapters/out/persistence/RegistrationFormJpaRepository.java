@@ -1,8 +1,155 @@
 package com.onboard.registration.adapters.out.persistence;
 
+import com.onboard.infrastructure.core.persistence.PartitionAwareRepository;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 /** Spring Data repository for registration form entities. */
 public interface RegistrationFormJpaRepository
-    extends JpaRepository<RegistrationFormJpaEntity, UUID> {}
+    extends PartitionAwareRepository<RegistrationFormJpaEntity, UUID> {
+
+  /**
+   * Shared status and keyword predicates for list queries.
+   *
+   * <p>The keyword predicate targets the pre-lower-cased {@code search_text} column, which carries
+   * a {@code pg_trgm} GIN index on PostgreSQL; other databases evaluate the same LIKE unindexed.
+   */
+  String SEARCH_FILTER =
+      """
+      (:status is null or f.status = :status)
+        and (:keywordPattern is null or f.searchText like :keywordPattern escape '\\')
+      """;
+
+  /** Rows fetched per round trip while streaming an export. */
+  String EXPORT_FETCH_SIZE = "500";
+
+  /**
+   * Returns one page of forms matching the optional status and keyword filters.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param keywordPattern lower-cased LIKE pattern, or {@code null} to skip keyword matching
+   * @param pageable page request carrying offset, limit and sort order
+   * @return matching page with total count
+   */
+  @Query("select f from RegistrationFormJpaEntity f where " + SEARCH_FILTER)
+  Page<RegistrationFormJpaEntity> search(
+      @Param("status") RegistrationFormStatus status,
+      @Param("keywordPattern") String keywordPattern,
+      Pageable pageable);
+
+  /**
+   * Returns one slice of forms matching the filters without running the count query.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param keywordPattern lower-cased LIKE pattern, or {@code null} to skip keyword matching
+   * @param pageable page request carrying offset, limit and sort order
+   * @return matching slice
+   */
+  @Query("select f from RegistrationFormJpaEntity f where " + SEARCH_FILTER)
+  Slice<RegistrationFormJpaEntity> searchSlice(
+      @Param("status") RegistrationFormStatus status,
+      @Param("keywordPattern") String keywordPattern,
+      Pageable pageable);
+
+  /**
+   * Returns the forms strictly after a keyset position in {@code updatedAt DESC, id DESC} order.
+   *
+   * <p>The page request must be unpaged-by-offset (page 0) and sorted by the same keys, so the
+   * database seeks straight to the position instead of scanning skipped rows.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param keywordPattern lower-cased LIKE pattern, or {@code null} to skip keyword matching
+   * @param updatedAt update timestamp of the last row already returned
+   * @param id id of the last row already returned
+   * @param pageable first-page request carrying limit and sort order
+   * @return matching slice
+   */
+  @Query(
+      "select f from RegistrationFormJpaEntity f where "
+          + SEARCH_FILTER
+          + " and (f.updatedAt < :updatedAt or (f.updatedAt = :updatedAt and f.id < :id))")
+  Slice<RegistrationFormJpaEntity> searchAfter(
+      @Param("status") RegistrationFormStatus status,
+      @Param("keywordPattern") String keywordPattern,
+      @Param("updatedAt") Instant updatedAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  /**
+   * Loads and row-locks the forms with the given ids in one {@code SELECT ... FOR UPDATE}.
+   *
+   * <p>Rows are locked in id order, so concurrent batches over overlapping ids queue up instead of
+   * deadlocking.
+   *
+   * @param ids form ids
+   * @return existing forms, ordered by id
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select f from RegistrationFormJpaEntity f where f.id in :ids order by f.id")
+  List<RegistrationFormJpaEntity> findAllForUpdate(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * Same as {@link #findAllForUpdate(Collection)}, restricted to a creation-time range so only the
+   * partitions covering it are scanned.
+   *
+   * @param ids form ids
+   * @param createdFrom inclusive lower bound of the creation time
+   * @param createdTo exclusive upper bound of the creation time
+   * @return existing forms created in the range, ordered by id
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      """
+      select f from RegistrationFormJpaEntity f
+      where f.id in :ids and f.createdAt >= :createdFrom and f.createdAt < :createdTo
+      order by f.id
+      """)
+  List<RegistrationFormJpaEntity> findAllForUpdate(
+      @Param("ids") Collection<UUID> ids,
+      @Param("createdFrom") Instant createdFrom,
+      @Param("createdTo") Instant createdTo);
+
+  /**
+   * Streams the forms matching the status and update-time filters in {@code updatedAt, id} order.
+   *
+   * <p>Rows come from a forward-only cursor {@value #EXPORT_FETCH_SIZE} at a time and are loaded
+   * read-only, so no dirty-checking snapshot is kept. Callers must consume the stream inside a
+   * transaction, close it and detach entities they are done with.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param updatedFrom inclusive lower bound of the update time, or {@code null}
+   * @param updatedTo exclusive upper bound of the update time, or {@code null}
+   * @return matching forms
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      """
+      select f from RegistrationFormJpaEntity f
+      where (:status is null or f.status = :status)
+        and (:updatedFrom is null or f.updatedAt >= :updatedFrom)
+        and (:updatedTo is null or f.updatedAt < :updatedTo)
+      order by f.updatedAt, f.id
+      """)
+  Stream<RegistrationFormJpaEntity> streamForExport(
+      @Param("status") RegistrationFormStatus status,
+      @Param("updatedFrom") Instant updatedFrom,
+      @Param("updatedTo") Instant updatedTo);
+}
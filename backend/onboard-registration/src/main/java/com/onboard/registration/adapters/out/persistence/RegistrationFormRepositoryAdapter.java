@@ -1,15 +1,38 @@
 package com.onboard.registration.adapters.out.persistence;
 
+import com.onboard.infrastructure.core.persistence.PartitionHint;
+import com.onboard.infrastructure.core.persistence.UuidV7;
 import com.onboard.registration.application.port.out.RegistrationFormCommandPort;
 import com.onboard.registration.application.port.out.RegistrationFormQueryPort;
 import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormCursor;
+import com.onboard.registration.domain.model.RegistrationFormPage;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
+import com.onboard.registration.domain.vo.FormData;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.node.ObjectNode;
 
 /** Persistence adapter mapping registration forms between domain and JPA models. */
 @Component
@@ -17,45 +40,184 @@ import tools.jackson.databind.node.ObjectNode;
 public class RegistrationFormRepositoryAdapter
     implements RegistrationFormCommandPort, RegistrationFormQueryPort {
 
+  /** Partition key attribute of {@link RegistrationFormJpaEntity}. */
+  private static final String PARTITION_ATTRIBUTE = "createdAt";
+
+  /**
+   * Tolerance around the timestamp encoded in a UUIDv7 ID. The creation timestamp is stamped by
+   * auditing just after the ID is generated, so a narrow window still prunes to one partition
+   * except right at a month boundary.
+   */
+  private static final Duration PARTITION_WINDOW = Duration.ofHours(1);
+
+  private static final Sort NEWEST_UPDATE_FIRST =
+      Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id"));
+
   private final RegistrationFormJpaRepository registrationFormJpaRepository;
+  private final EntityManager entityManager;
 
   @Override
   public Optional<RegistrationForm> findById(String formId) {
-    try {
-      return registrationFormJpaRepository.findById(UUID.fromString(formId)).map(this::toDomain);
-    } catch (IllegalArgumentException ex) {
-      return Optional.empty();
+    return findEntityByStringId(formId).map(this::toDomain);
+  }
+
+  @Override
+  public RegistrationFormPage findPage(
+      RegistrationFormStatus status, String keyword, int page, int size, boolean includeTotal) {
+    PageRequest pageRequest = PageRequest.of(page, size, NEWEST_UPDATE_FIRST);
+    String keywordPattern = toLikePattern(keyword);
+    if (!includeTotal) {
+      return toPage(
+          registrationFormJpaRepository.searchSlice(status, keywordPattern, pageRequest),
+          page,
+          null,
+          null);
     }
+    Page<RegistrationFormJpaEntity> entityPage =
+        registrationFormJpaRepository.search(status, keywordPattern, pageRequest);
+    return toPage(entityPage, page, entityPage.getTotalElements(), entityPage.getTotalPages());
+  }
+
+  @Override
+  public RegistrationFormPage findPageAfter(
+      RegistrationFormStatus status, String keyword, RegistrationFormCursor after, int size) {
+    Slice<RegistrationFormJpaEntity> entitySlice =
+        registrationFormJpaRepository.searchAfter(
+            status,
+            toLikePattern(keyword),
+            after.updatedAt(),
+            after.id(),
+            PageRequest.of(0, size, NEWEST_UPDATE_FIRST));
+    return toPage(entitySlice, 0, null, null);
   }
 
   @Override
-  public List<RegistrationForm> findAll() {
-    return registrationFormJpaRepository.findAll().stream().map(this::toDomain).toList();
+  public Stream<RegistrationForm> streamForExport(
+      RegistrationFormStatus status, Instant updatedFrom, Instant updatedTo) {
+    return registrationFormJpaRepository
+        .streamForExport(status, updatedFrom, updatedTo)
+        .map(
+            entity -> {
+              RegistrationForm form = toDomain(entity);
+              // Evict each row once mapped so the persistence context stays flat along the cursor.
+              entityManager.detach(entity);
+              return form;
+            });
   }
 
   @Override
-  public RegistrationForm save(RegistrationForm form) {
-    RegistrationFormJpaEntity existingEntity = findEntityByStringId(form.id()).orElse(null);
-    RegistrationFormJpaEntity savedEntity =
-        registrationFormJpaRepository.save(toEntity(form, existingEntity));
-    return toDomain(savedEntity);
+  public RegistrationForm create(RegistrationForm form) {
+    // A null @Version marks the entity as new, so save() persists without a preceding SELECT.
+    return toDomain(registrationFormJpaRepository.save(newEntity(form)));
   }
 
-  private RegistrationFormJpaEntity toEntity(
-      RegistrationForm form, RegistrationFormJpaEntity existingEntity) {
+  @Override
+  public List<RegistrationForm> createAll(List<RegistrationForm> forms) {
+    List<RegistrationForm> createdForms = new ArrayList<>(forms.size());
+    for (RegistrationForm form : forms) {
+      RegistrationFormJpaEntity entity = newEntity(form);
+      entityManager.persist(entity);
+      createdForms.add(toDomain(entity));
+    }
+    return createdForms;
+  }
+
+  private static RegistrationFormJpaEntity newEntity(RegistrationForm form) {
     RegistrationFormJpaEntity entity = new RegistrationFormJpaEntity();
-    entity.setId(resolveEntityId(form.id(), existingEntity));
-    entity.setCustomerId(
-        existingEntity == null ? UUID.randomUUID() : existingEntity.getCustomerId());
+    entity.setId(resolveEntityId(form.id()));
+    entity.setCustomerId(UUID.randomUUID());
+    entity.setCreatedAt(form.createdAt());
+    applyState(form, entity);
+    return entity;
+  }
+
+  @Override
+  public Optional<RegistrationForm> update(
+      String formId, UnaryOperator<RegistrationForm> transition) {
+    return findEntityByStringId(formId)
+        .map(
+            entity -> {
+              RegistrationForm transitionedForm = transition.apply(toDomain(entity));
+              // The entity is managed: dirty checking flushes one versioned UPDATE on commit.
+              applyState(transitionedForm, entity);
+              return transitionedForm;
+            });
+  }
+
+  @Override
+  public List<RegistrationFormTransitionResult> updateAll(
+      List<String> formIds, UnaryOperator<RegistrationForm> transition) {
+    Map<String, UUID> entityIds = new LinkedHashMap<>();
+    for (String formId : formIds) {
+      UUID entityId = parseEntityId(formId);
+      if (entityId != null) {
+        entityIds.put(formId, entityId);
+      }
+    }
+    Map<UUID, RegistrationFormJpaEntity> entities = new HashMap<>();
+    for (RegistrationFormJpaEntity entity : findAllForUpdate(entityIds.values())) {
+      entities.put(entity.getId(), entity);
+    }
+
+    List<RegistrationFormTransitionResult> results = new ArrayList<>(formIds.size());
+    for (String formId : formIds) {
+      UUID entityId = entityIds.get(formId);
+      RegistrationFormJpaEntity entity = entityId == null ? null : entities.get(entityId);
+      if (entity == null) {
+        results.add(RegistrationFormTransitionResult.notFound(formId));
+        continue;
+      }
+      try {
+        RegistrationForm transitionedForm = transition.apply(toDomain(entity));
+        // Managed entities: dirty checking flushes the changed rows as batched UPDATEs on commit.
+        applyState(transitionedForm, entity);
+        results.add(RegistrationFormTransitionResult.transitioned(transitionedForm));
+      } catch (IllegalStateException ex) {
+        results.add(RegistrationFormTransitionResult.conflict(formId, ex.getMessage()));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Locks the forms in one query, pruned to the partitions their ids point at when every id is
+   * time-ordered. Ids the pruned query misses, such as forms whose creation time was set apart from
+   * their id, are looked up again without the range.
+   */
+  private List<RegistrationFormJpaEntity> findAllForUpdate(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Instant earliest = null;
+    Instant latest = null;
+    for (UUID id : ids) {
+      if (!UuidV7.isVersion7(id)) {
+        return registrationFormJpaRepository.findAllForUpdate(ids);
+      }
+      Instant createdAround = UuidV7.timestamp(id);
+      earliest = earliest == null || createdAround.isBefore(earliest) ? createdAround : earliest;
+      latest = latest == null || createdAround.isAfter(latest) ? createdAround : latest;
+    }
+    List<RegistrationFormJpaEntity> entities =
+        new ArrayList<>(
+            registrationFormJpaRepository.findAllForUpdate(
+                ids, earliest.minus(PARTITION_WINDOW), latest.plus(PARTITION_WINDOW)));
+    if (entities.size() < ids.size()) {
+      Set<UUID> missingIds = new HashSet<>(ids);
+      entities.forEach(entity -> missingIds.remove(entity.getId()));
+      entities.addAll(registrationFormJpaRepository.findAllForUpdate(missingIds));
+    }
+    return entities;
+  }
+
+  private static void applyState(RegistrationForm form, RegistrationFormJpaEntity entity) {
     entity.setReferenceNo(form.referenceNo());
     entity.setProductCode(form.productCode());
-    entity.setFormContentJson(form.formContent().deepCopy());
+    entity.setFormContent(form.formContent());
     entity.setStatus(form.status());
     entity.setSubmittedAt(form.submittedAt());
-    entity.setCreatedAt(form.createdAt());
     entity.setUpdatedAt(form.updatedAt());
     entity.setSubmissionNote(form.submissionNote());
-    return entity;
   }
 
   private RegistrationForm toDomain(RegistrationFormJpaEntity entity) {
@@ -63,7 +225,7 @@ public class RegistrationFormRepositoryAdapter
         entity.getId().toString(),
         entity.getReferenceNo(),
         entity.getProductCode(),
-        requiredFormContent(entity.getFormContentJson()),
+        requiredFormContent(entity.getFormContent()),
         entity.getStatus(),
         entity.getSubmittedAt(),
         entity.getCreatedAt(),
@@ -72,17 +234,42 @@ public class RegistrationFormRepositoryAdapter
   }
 
   private Optional<RegistrationFormJpaEntity> findEntityByStringId(String id) {
+    UUID entityId = parseEntityId(id);
+    if (entityId == null) {
+      return Optional.empty();
+    }
+    return registrationFormJpaRepository.findById(entityId, partitionHintFor(entityId));
+  }
+
+  private static UUID parseEntityId(String id) {
     try {
-      return registrationFormJpaRepository.findById(UUID.fromString(id));
+      return UUID.fromString(id);
     } catch (IllegalArgumentException ex) {
-      return Optional.empty();
+      return null;
     }
   }
 
-  private UUID resolveEntityId(String id, RegistrationFormJpaEntity existingEntity) {
-    if (existingEntity != null) {
-      return existingEntity.getId();
+  /**
+   * Derives the {@code created_at} partition window from a time-ordered ID.
+   *
+   * <p>Legacy random (v4) IDs carry no timestamp, so they fall back to an unpruned lookup.
+   * Time-ordered IDs fall back to one as well when the pruned lookup misses, since nothing
+   * guarantees that a form's creation time lies within the window around its ID's timestamp.
+   */
+  static PartitionHint partitionHintFor(UUID id) {
+    if (!UuidV7.isVersion7(id)) {
+      return PartitionHint.none().allowFullScan();
     }
+    Instant createdAround = UuidV7.timestamp(id);
+    return PartitionHint.builder()
+        .between(
+            PARTITION_ATTRIBUTE,
+            createdAround.minus(PARTITION_WINDOW),
+            createdAround.plus(PARTITION_WINDOW))
+        .allowFullScan();
+  }
+
+  private static UUID resolveEntityId(String id) {
     try {
       return UUID.fromString(id);
     } catch (IllegalArgumentException ex) {
@@ -90,7 +277,35 @@ public class RegistrationFormRepositoryAdapter
     }
   }
 
-  private static ObjectNode requiredFormContent(ObjectNode formContent) {
-    return Objects.requireNonNull(formContent, "formContent must not be null").deepCopy();
+  private RegistrationFormPage toPage(
+      Slice<RegistrationFormJpaEntity> entitySlice,
+      int page,
+      Long totalElements,
+      Integer totalPages) {
+    List<RegistrationForm> items = entitySlice.getContent().stream().map(this::toDomain).toList();
+    String nextCursor =
+        entitySlice.hasNext() && !items.isEmpty()
+            ? RegistrationFormCursor.after(items.getLast()).encode()
+            : null;
+    return new RegistrationFormPage(
+        items, page, entitySlice.getSize(), totalElements, totalPages, nextCursor);
+  }
+
+  private static String toLikePattern(String keyword) {
+    if (keyword == null || keyword.isBlank()) {
+      return null;
+    }
+    String escapedKeyword =
+        keyword
+            .strip()
+            .toLowerCase(Locale.ROOT)
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    return "%" + escapedKeyword + "%";
+  }
+
+  private static FormData requiredFormContent(FormData formContent) {
+    return Objects.requireNonNull(formContent, "formContent must not be null");
   }
 }
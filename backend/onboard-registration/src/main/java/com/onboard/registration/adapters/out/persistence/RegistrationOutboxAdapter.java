@@ -0,0 +1,98 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import com.onboard.infrastructure.core.outbox.OutboxMessage;
+import com.onboard.infrastructure.core.outbox.OutboxStore;
+import com.onboard.infrastructure.core.persistence.UuidV7;
+import com.onboard.registration.application.port.out.RegistrationEventPort;
+import com.onboard.registration.domain.model.RegistrationEventType;
+import com.onboard.registration.domain.model.RegistrationForm;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Transactional outbox for registration events.
+ *
+ * <p>Appending persists one row in the caller's transaction, flushed with the form change itself;
+ * nothing is sent to the broker on the write path. The platform relay drains the table through
+ * {@link OutboxStore}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegistrationOutboxAdapter implements RegistrationEventPort, OutboxStore {
+
+  /** Exchange all registration events are published to. */
+  static final String EXCHANGE = "onboard.registration.exchange";
+
+  private final RegistrationOutboxJpaRepository outboxRepository;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void append(RegistrationEventType type, RegistrationForm form) {
+    Instant now = Instant.now();
+    UUID eventId = UuidV7.generate(now);
+
+    RegistrationOutboxJpaEntity entity = new RegistrationOutboxJpaEntity();
+    entity.setId(eventId);
+    entity.setExchange(EXCHANGE);
+    entity.setRoutingKey(type.routingKey());
+    entity.setEventType(type.routingKey());
+    entity.setAggregateId(form.id());
+    entity.setPayload(objectMapper.writeValueAsString(toPayload(eventId, type, form, now)));
+    entity.setCreatedAt(now);
+    // persist rather than save: the id is assigned, and save would SELECT it first.
+    entityManager.persist(entity);
+  }
+
+  @Override
+  public String name() {
+    return "registration";
+  }
+
+  @Override
+  public List<OutboxMessage> lockNextBatch(int limit) {
+    return outboxRepository.lockNextBatch(Limit.of(limit)).stream()
+        .map(RegistrationOutboxAdapter::toMessage)
+        .toList();
+  }
+
+  @Override
+  public void delete(Collection<UUID> ids) {
+    if (!ids.isEmpty()) {
+      outboxRepository.deleteAllByIdInBatch(ids);
+    }
+  }
+
+  private ObjectNode toPayload(
+      UUID eventId, RegistrationEventType type, RegistrationForm form, Instant occurredAt) {
+    ObjectNode payload = objectMapper.createObjectNode();
+    payload.put("eventId", eventId.toString());
+    payload.put("eventType", type.routingKey());
+    payload.put("occurredAt", occurredAt.toString());
+    payload.put("formId", form.id());
+    payload.put("referenceNo", form.referenceNo());
+    payload.put("productCode", form.productCode());
+    payload.put("status", form.status().name());
+    payload.put("updatedAt", form.updatedAt() == null ? null : form.updatedAt().toString());
+    payload.put("submittedAt", form.submittedAt() == null ? null : form.submittedAt().toString());
+    return payload;
+  }
+
+  private static OutboxMessage toMessage(RegistrationOutboxJpaEntity entity) {
+    return new OutboxMessage(
+        entity.getId(),
+        entity.getExchange(),
+        entity.getRoutingKey(),
+        entity.getEventType(),
+        entity.getPayload(),
+        entity.getCreatedAt());
+  }
+}
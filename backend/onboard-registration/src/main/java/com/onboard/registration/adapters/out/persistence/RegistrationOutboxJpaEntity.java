@@ -0,0 +1,39 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import com.onboard.infrastructure.core.persistence.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.Length;
+
+/** JPA entity for a registration event waiting in the outbox. */
+@Entity
+@Table(name = "registration_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RegistrationOutboxJpaEntity extends BaseEntity<UUID> {
+
+  @Column(name = "exchange", nullable = false)
+  private String exchange;
+
+  @Column(name = "routing_key", nullable = false)
+  private String routingKey;
+
+  @Column(name = "event_type", nullable = false, length = 64)
+  private String eventType;
+
+  @Column(name = "aggregate_id", nullable = false, length = 64)
+  private String aggregateId;
+
+  @Column(name = "payload", nullable = false, length = Length.LONG32)
+  private String payload;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+}
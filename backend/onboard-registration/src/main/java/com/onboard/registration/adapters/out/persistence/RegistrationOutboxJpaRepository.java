@@ -0,0 +1,28 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/** Spring Data repository for the registration outbox. */
+public interface RegistrationOutboxJpaRepository
+    extends JpaRepository<RegistrationOutboxJpaEntity, UUID> {
+
+  /**
+   * Locks the oldest outbox rows not locked by another transaction. Ids are UUIDv7, so id order is
+   * creation order.
+   *
+   * @param limit maximum number of rows
+   * @return locked rows, oldest first
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("select e from RegistrationOutboxJpaEntity e order by e.id")
+  List<RegistrationOutboxJpaEntity> lockNextBatch(Limit limit);
+}
@@ -0,0 +1,23 @@
+package com.onboard.registration.application.port.in;
+
+import com.onboard.registration.domain.model.RegistrationFormImportLine;
+import com.onboard.registration.domain.model.RegistrationFormImportResult;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/** Input port for bulk registration form import. */
+public interface OnboardRegistrationImportService {
+
+  /**
+   * Creates a draft form for every valid line, reporting one result per line in input order.
+   *
+   * <p>Lines are consumed in chunks that commit independently, so a failing chunk rejects only its
+   * own lines and forms reported as created stay created. Only a bounded number of chunks is held
+   * at a time, however many lines the import has.
+   *
+   * @param lines import lines, read lazily on the calling thread
+   * @param sink receives each line's result
+   */
+  void importRegistrationForms(
+      Iterator<RegistrationFormImportLine> lines, Consumer<RegistrationFormImportResult> sink);
+}
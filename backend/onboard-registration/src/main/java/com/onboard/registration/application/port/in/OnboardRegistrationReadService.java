@@ -3,6 +3,8 @@ package com.onboard.registration.application.port.in;
 import com.onboard.registration.domain.model.RegistrationForm;
 import com.onboard.registration.domain.model.RegistrationFormPage;
 import com.onboard.registration.domain.model.RegistrationFormStatus;
+import java.time.Instant;
+import java.util.function.Consumer;
 
 /** Input port for registration form read use cases. */
 public interface OnboardRegistrationReadService {
@@ -10,7 +12,30 @@ public interface OnboardRegistrationReadService {
   /** Returns form detail for a single registration form id. */
   RegistrationForm getRegistrationFormDetail(String formId);
 
-  /** Returns a filtered, paged view of registration forms. */
+  /** Returns a filtered, offset-paged view of registration forms, optionally without totals. */
   RegistrationFormPage listRegistrationForms(
-      RegistrationFormStatus status, String keyword, Integer page, Integer size);
+      RegistrationFormStatus status,
+      String keyword,
+      Integer page,
+      Integer size,
+      boolean includeTotal);
+
+  /** Returns the filtered forms following the position encoded in an opaque cursor. */
+  RegistrationFormPage listRegistrationFormsAfter(
+      RegistrationFormStatus status, String keyword, String cursor, Integer size);
+
+  /**
+   * Passes every matching form to {@code sink}, oldest update first, while reading them from a
+   * forward-only cursor. Forms are not retained, so memory stays flat however many rows match.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param updatedFrom inclusive lower bound of the update time, or {@code null}
+   * @param updatedTo exclusive upper bound of the update time, or {@code null}
+   * @param sink receives each form in turn
+   */
+  void exportRegistrationForms(
+      RegistrationFormStatus status,
+      Instant updatedFrom,
+      Instant updatedTo,
+      Consumer<RegistrationForm> sink);
 }
@@ -1,17 +1,34 @@
 package com.onboard.registration.application.port.in;
 
 import com.onboard.registration.domain.model.RegistrationForm;
-import tools.jackson.databind.node.ObjectNode;
+import com.onboard.registration.domain.model.RegistrationFormTransition;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
+import com.onboard.registration.domain.vo.FormData;
+import java.util.List;
 
 /** Input port for registration form write use cases. */
 public interface OnboardRegistrationWriteService {
 
   /** Creates a new draft registration form. */
-  RegistrationForm createRegistrationForm(String productCode, ObjectNode formContent);
+  RegistrationForm createRegistrationForm(String productCode, FormData formContent);
 
   /** Updates an existing draft registration form. */
-  RegistrationForm updateRegistrationForm(String formId, ObjectNode formContent);
+  RegistrationForm updateRegistrationForm(String formId, FormData formContent);
 
   /** Submits a draft registration form. */
   RegistrationForm submitRegistrationForm(String formId, String submissionNote);
+
+  /**
+   * Applies one status transition to many forms in a single transaction.
+   *
+   * <p>Forms that do not exist or whose status does not allow the transition are reported in their
+   * result and left unchanged; the others are transitioned.
+   *
+   * @param formIds form ids; duplicates are processed once
+   * @param transition transition to apply
+   * @param submissionNote note stored on submitted forms; ignored by other transitions
+   * @return one result per distinct id, in request order
+   */
+  List<RegistrationFormTransitionResult> transitionRegistrationForms(
+      List<String> formIds, RegistrationFormTransition transition, String submissionNote);
 }
@@ -0,0 +1,18 @@
+package com.onboard.registration.application.port.out;
+
+import com.onboard.registration.domain.model.ReferenceNumberBlock;
+
+/** Output port leasing cluster-wide unique blocks of registration reference numbers. */
+public interface ReferenceNumberBlockPort {
+  /**
+   * Reserves the next block of sequence values for the given year.
+   *
+   * <p>Implementations commit the reservation independently of any caller transaction, so a leased
+   * block is never handed out twice even if the caller later rolls back.
+   *
+   * @param year calendar year (UTC); each year starts its own sequence at 1
+   * @param blockSize number of values to reserve
+   * @return reserved block
+   */
+  ReferenceNumberBlock leaseBlock(int year, int blockSize);
+}
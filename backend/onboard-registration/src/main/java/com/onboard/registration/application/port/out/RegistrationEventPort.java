@@ -0,0 +1,16 @@
+package com.onboard.registration.application.port.out;
+
+import com.onboard.registration.domain.model.RegistrationEventType;
+import com.onboard.registration.domain.model.RegistrationForm;
+
+/** Output port recording registration events for asynchronous publication. */
+public interface RegistrationEventPort {
+  /**
+   * Records an event in the caller's transaction; it is published only if that transaction
+   * commits.
+   *
+   * @param type event type
+   * @param form form state after the change
+   */
+  void append(RegistrationEventType type, RegistrationForm form);
+}
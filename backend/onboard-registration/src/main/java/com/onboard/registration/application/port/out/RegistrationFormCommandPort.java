@@ -1,13 +1,50 @@
 package com.onboard.registration.application.port.out;
 
 import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 /** Output port for registration form command-side persistence operations. */
 public interface RegistrationFormCommandPort {
-  /** Finds a form by id. */
-  Optional<RegistrationForm> findById(String formId);
+  /** Inserts a new registration form aggregate. */
+  RegistrationForm create(RegistrationForm form);
 
-  /** Persists a registration form aggregate. */
-  RegistrationForm save(RegistrationForm form);
+  /**
+   * Inserts new registration form aggregates without reading anything first.
+   *
+   * <p>Must run inside a transaction; the inserts are flushed together on commit, so JDBC batching
+   * sends them in a few round trips.
+   *
+   * @param forms forms with assigned ids
+   * @return created forms in the same order
+   */
+  List<RegistrationForm> createAll(List<RegistrationForm> forms);
+
+  /**
+   * Loads a form once, applies a state transition and writes the changed state back in place.
+   *
+   * <p>Must run inside a transaction; the change is flushed as a single versioned UPDATE on commit.
+   *
+   * @param formId form id
+   * @param transition domain transition to apply; may throw to abort the update
+   * @return transitioned form, or empty when no form has the given id
+   */
+  Optional<RegistrationForm> update(String formId, UnaryOperator<RegistrationForm> transition);
+
+  /**
+   * Locks many forms with one query, applies a state transition to each and writes the changed
+   * states back.
+   *
+   * <p>Must run inside a transaction; the rows stay locked until it ends and the changes are
+   * flushed as batched versioned UPDATEs on commit. A transition throwing {@link
+   * IllegalStateException} leaves only that form unchanged.
+   *
+   * @param formIds distinct form ids
+   * @param transition domain transition to apply to each form
+   * @return one result per id, in the given order
+   */
+  List<RegistrationFormTransitionResult> updateAll(
+      List<String> formIds, UnaryOperator<RegistrationForm> transition);
 }
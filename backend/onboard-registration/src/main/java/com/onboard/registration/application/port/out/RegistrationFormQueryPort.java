@@ -1,14 +1,52 @@
 package com.onboard.registration.application.port.out;
 
 import com.onboard.registration.domain.model.RegistrationForm;
-import java.util.List;
+import com.onboard.registration.domain.model.RegistrationFormCursor;
+import com.onboard.registration.domain.model.RegistrationFormPage;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /** Output port for registration form query-side retrieval operations. */
 public interface RegistrationFormQueryPort {
   /** Finds a form by id. */
   Optional<RegistrationForm> findById(String formId);
 
-  /** Returns all registration forms. */
-  List<RegistrationForm> findAll();
+  /**
+   * Returns one page of forms matching the filters, ordered by most recent update first.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param keyword keyword matched against reference number and form content, or {@code null}
+   * @param page zero-based page index
+   * @param size page size
+   * @param includeTotal whether to count all matching forms
+   * @return requested page
+   */
+  RegistrationFormPage findPage(
+      RegistrationFormStatus status, String keyword, int page, int size, boolean includeTotal);
+
+  /**
+   * Returns the forms that follow a keyset position, ordered by most recent update first.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param keyword keyword matched against reference number and form content, or {@code null}
+   * @param after position of the last form already returned
+   * @param size page size
+   * @return requested page without totals
+   */
+  RegistrationFormPage findPageAfter(
+      RegistrationFormStatus status, String keyword, RegistrationFormCursor after, int size);
+
+  /**
+   * Streams the matching forms in {@code updatedAt, id} order from a forward-only cursor. The
+   * stream holds a database cursor, so it must be consumed inside a transaction and closed.
+   *
+   * @param status status filter, or {@code null} for all statuses
+   * @param updatedFrom inclusive lower bound of the update time, or {@code null}
+   * @param updatedTo exclusive upper bound of the update time, or {@code null}
+   * @return matching forms
+   */
+  Stream<RegistrationForm> streamForExport(
+      RegistrationFormStatus status, Instant updatedFrom, Instant updatedTo);
 }
@@ -0,0 +1,253 @@
+package com.onboard.registration.application.service;
+
+import com.onboard.infrastructure.core.persistence.UuidV7;
+import com.onboard.registration.application.port.in.OnboardRegistrationImportService;
+import com.onboard.registration.application.port.out.RegistrationEventPort;
+import com.onboard.registration.application.port.out.RegistrationFormCommandPort;
+import com.onboard.registration.domain.model.RegistrationEventType;
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormImportLine;
+import com.onboard.registration.domain.model.RegistrationFormImportResult;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Application service for bulk registration form import.
+ *
+ * <p>Lines are read in chunks on the calling thread while up to {@code parallelism} earlier chunks
+ * are stored on virtual threads. Each chunk leases its reference numbers in one block, then
+ * inserts its forms and their outbox events in one transaction that JDBC batching flushes in a
+ * few round trips. When the database refuses a row, the chunk is retried in halves until the
+ * offending lines are isolated, so only they are rejected. Results are handed out in input order as
+ * the oldest chunk completes.
+ */
+@Slf4j
+@Service
+public class OnboardRegistrationImportServiceImpl implements OnboardRegistrationImportService {
+
+  private static final String STORE_FAILED = "form could not be stored; retry the line";
+
+  private final RegistrationFormCommandPort registrationFormCommandPort;
+  private final ReferenceNumberAllocator referenceNumberAllocator;
+  private final RegistrationFormCache registrationFormCache;
+  private final RegistrationEventPort registrationEventPort;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int parallelism;
+
+  /**
+   * Creates the import service.
+   *
+   * @param registrationFormCommandPort form persistence
+   * @param referenceNumberAllocator reference number allocation
+   * @param registrationFormCache cache invalidated after each chunk
+   * @param registrationEventPort outbox for created events
+   * @param transactionManager transaction manager for the per-chunk transactions
+   * @param chunkSize lines stored per transaction
+   * @param parallelism chunks stored concurrently, each holding one pooled connection
+   */
+  public OnboardRegistrationImportServiceImpl(
+      RegistrationFormCommandPort registrationFormCommandPort,
+      ReferenceNumberAllocator referenceNumberAllocator,
+      RegistrationFormCache registrationFormCache,
+      RegistrationEventPort registrationEventPort,
+      PlatformTransactionManager transactionManager,
+      @Value("${platform.registration.import.chunk-size:500}") int chunkSize,
+      @Value("${platform.registration.import.parallelism:4}") int parallelism) {
+    if (chunkSize < 1 || parallelism < 1) {
+      throw new IllegalArgumentException("chunkSize and parallelism must be positive");
+    }
+    this.registrationFormCommandPort = registrationFormCommandPort;
+    this.referenceNumberAllocator = referenceNumberAllocator;
+    this.registrationFormCache = registrationFormCache;
+    this.registrationEventPort = registrationEventPort;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+  }
+
+  @Override
+  public void importRegistrationForms(
+      Iterator<RegistrationFormImportLine> lines, Consumer<RegistrationFormImportResult> sink) {
+    Deque<Future<List<RegistrationFormImportResult>>> pending = new ArrayDeque<>();
+    // Closing waits for chunks still running when the sink fails, so none is cut off mid-commit.
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      while (lines.hasNext()) {
+        List<RegistrationFormImportLine> chunk = nextChunk(lines);
+        pending.addLast(executor.submit(() -> importChunk(chunk)));
+        if (pending.size() >= parallelism) {
+          await(pending.removeFirst()).forEach(sink);
+        }
+      }
+      while (!pending.isEmpty()) {
+        await(pending.removeFirst()).forEach(sink);
+      }
+    }
+  }
+
+  private List<RegistrationFormImportLine> nextChunk(Iterator<RegistrationFormImportLine> lines) {
+    List<RegistrationFormImportLine> chunk = new ArrayList<>(chunkSize);
+    while (chunk.size() < chunkSize && lines.hasNext()) {
+      chunk.add(lines.next());
+    }
+    return chunk;
+  }
+
+  private List<RegistrationFormImportResult> importChunk(List<RegistrationFormImportLine> chunk) {
+    List<RegistrationFormImportLine> validLines =
+        chunk.stream().filter(line -> problem(line) == null).toList();
+    Iterator<RegistrationFormImportResult> storedResults = store(validLines).iterator();
+    List<RegistrationFormImportResult> results = new ArrayList<>(chunk.size());
+    for (RegistrationFormImportLine line : chunk) {
+      String problem = problem(line);
+      results.add(
+          problem == null
+              ? storedResults.next()
+              : RegistrationFormImportResult.rejected(line.number(), problem));
+    }
+    return results;
+  }
+
+  private List<RegistrationFormImportResult> store(List<RegistrationFormImportLine> validLines) {
+    if (validLines.isEmpty()) {
+      return List.of();
+    }
+    List<RegistrationForm> forms;
+    try {
+      Instant now = Instant.now();
+      // Leased before the transaction opens, like single creates, so it never needs a second
+      // connection while holding the first.
+      List<String> referenceNumbers = referenceNumberAllocator.nextBatch(now, validLines.size());
+      forms = new ArrayList<>(validLines.size());
+      for (int i = 0; i < validLines.size(); i++) {
+        RegistrationFormImportLine line = validLines.get(i);
+        forms.add(
+            new RegistrationForm(
+                UuidV7.generate(now).toString(),
+                referenceNumbers.get(i),
+                OnboardRegistrationWriteServiceImpl.normalizeProductCode(line.productCode()),
+                line.formContent(),
+                RegistrationFormStatus.DRAFT,
+                null,
+                now,
+                now,
+                null));
+      }
+    } catch (RuntimeException ex) {
+      return rejectAll(validLines, ex);
+    }
+    RegistrationFormImportResult[] results = new RegistrationFormImportResult[validLines.size()];
+    boolean anyCreated;
+    try {
+      anyCreated = insert(validLines, forms, 0, forms.size(), results);
+    } catch (RuntimeException ex) {
+      return rejectAll(validLines, ex);
+    }
+    // Committed sub-batches stay committed, so nothing below may turn their lines into
+    // rejections; the cache only logs its own failures.
+    if (anyCreated) {
+      registrationFormCache.formsAdded();
+    }
+    return List.of(results);
+  }
+
+  /**
+   * Inserts {@code forms[from, to)} and their events in one transaction. If the database refuses
+   * a row, the range is rolled back and each half is inserted on its own, down to single lines, at
+   * a cost of about {@code 2 * log2(chunk size)} extra transactions per offending line.
+   *
+   * @return whether any form in the range was created
+   */
+  private boolean insert(
+      List<RegistrationFormImportLine> lines,
+      List<RegistrationForm> forms,
+      int from,
+      int to,
+      RegistrationFormImportResult[] results) {
+    List<RegistrationForm> created;
+    try {
+      created =
+          transactionTemplate.execute(
+              status -> {
+                List<RegistrationForm> stored =
+                    registrationFormCommandPort.createAll(forms.subList(from, to));
+                stored.forEach(
+                    form -> registrationEventPort.append(RegistrationEventType.CREATED, form));
+                return stored;
+              });
+    } catch (DataIntegrityViolationException ex) {
+      if (to - from == 1) {
+        long number = lines.get(from).number();
+        log.warn("Import line {} could not be stored", number, ex);
+        results[from] = RegistrationFormImportResult.rejected(number, STORE_FAILED);
+        return false;
+      }
+      int middle = (from + to) >>> 1;
+      boolean firstHalf = insert(lines, forms, from, middle, results);
+      return insert(lines, forms, middle, to, results) || firstHalf;
+    }
+    for (int i = from; i < to; i++) {
+      results[i] =
+          RegistrationFormImportResult.created(lines.get(i).number(), created.get(i - from));
+    }
+    return true;
+  }
+
+  /** Rejects a chunk whose failure is not about its rows, such as a lost connection. */
+  private static List<RegistrationFormImportResult> rejectAll(
+      List<RegistrationFormImportLine> validLines, RuntimeException ex) {
+    log.warn(
+        "Import chunk starting at line {} failed; rejecting its {} forms",
+        validLines.getFirst().number(),
+        validLines.size(),
+        ex);
+    return validLines.stream()
+        .map(line -> RegistrationFormImportResult.rejected(line.number(), STORE_FAILED))
+        .toList();
+  }
+
+  private static String problem(RegistrationFormImportLine line) {
+    if (line.problem() != null) {
+      return line.problem();
+    }
+    if (line.formContent() == null || line.formContent().isEmpty()) {
+      return "formContent must not be empty";
+    }
+    if (line.productCode() != null
+        && line.productCode().length() > RegistrationForm.PRODUCT_CODE_MAX_LENGTH) {
+      return "productCode must not exceed "
+          + RegistrationForm.PRODUCT_CODE_MAX_LENGTH
+          + " characters";
+    }
+    return null;
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Import interrupted", ex);
+    } catch (ExecutionException ex) {
+      throw ex.getCause() instanceof RuntimeException runtime
+          ? runtime
+          : new IllegalStateException(ex.getCause());
+    }
+  }
+}
@@ -1,13 +1,16 @@
 package com.onboard.registration.application.service;
 
 import com.onboard.registration.application.exception.RegistrationFormNotFoundException;
+import com.onboard.registration.application.exception.RegistrationFormValidationException;
 import com.onboard.registration.application.port.in.OnboardRegistrationReadService;
 import com.onboard.registration.application.port.out.RegistrationFormQueryPort;
 import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormCursor;
 import com.onboard.registration.domain.model.RegistrationFormPage;
 import com.onboard.registration.domain.model.RegistrationFormStatus;
-import java.util.Comparator;
-import java.util.List;
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,40 +21,83 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class OnboardRegistrationReadServiceImpl implements OnboardRegistrationReadService {
 
+  private static final int DEFAULT_PAGE_SIZE = 20;
+  private static final int MAX_PAGE_SIZE = 200;
+
   private final RegistrationFormQueryPort registrationFormQueryPort;
+  private final RegistrationFormCache registrationFormCache;
 
   @Override
   public RegistrationForm getRegistrationFormDetail(String formId) {
-    return registrationFormQueryPort
-        .findById(formId)
-        .orElseThrow(() -> new RegistrationFormNotFoundException(formId));
+    return registrationFormCache.getDetail(
+        formId,
+        () ->
+            registrationFormQueryPort
+                .findById(formId)
+                .orElseThrow(() -> new RegistrationFormNotFoundException(formId)));
   }
 
   @Override
   public RegistrationFormPage listRegistrationForms(
-      RegistrationFormStatus status, String keyword, Integer page, Integer size) {
+      RegistrationFormStatus status,
+      String keyword,
+      Integer page,
+      Integer size,
+      boolean includeTotal) {
     int resolvedPage = Math.max(page == null ? 0 : page, 0);
-    int resolvedSize = Math.max(size == null ? 20 : size, 1);
+    int resolvedSize = resolvePageSize(size);
+    return registrationFormCache.getPage(
+        status,
+        keyword,
+        resolvedPage,
+        resolvedSize,
+        null,
+        includeTotal,
+        () ->
+            registrationFormQueryPort.findPage(
+                status, keyword, resolvedPage, resolvedSize, includeTotal));
+  }
 
-    List<RegistrationForm> filteredForms =
-        registrationFormQueryPort.findAll().stream()
-            .filter(form -> status == null || form.status() == status)
-            .filter(form -> form.containsKeyword(keyword))
-            .sorted(Comparator.comparing(RegistrationForm::updatedAt).reversed())
-            .toList();
+  @Override
+  public RegistrationFormPage listRegistrationFormsAfter(
+      RegistrationFormStatus status, String keyword, String cursor, Integer size) {
+    RegistrationFormCursor after = decodeCursor(cursor);
+    int resolvedSize = resolvePageSize(size);
+    return registrationFormCache.getPage(
+        status,
+        keyword,
+        -1,
+        resolvedSize,
+        cursor,
+        false,
+        () -> registrationFormQueryPort.findPageAfter(status, keyword, after, resolvedSize));
+  }
 
-    long totalElements = filteredForms.size();
-    int totalPages =
-        totalElements == 0 ? 0 : (int) Math.ceil((double) totalElements / (double) resolvedSize);
+  @Override
+  public void exportRegistrationForms(
+      RegistrationFormStatus status,
+      Instant updatedFrom,
+      Instant updatedTo,
+      Consumer<RegistrationForm> sink) {
+    if (updatedFrom != null && updatedTo != null && !updatedFrom.isBefore(updatedTo)) {
+      throw new RegistrationFormValidationException("updatedFrom must be before updatedTo");
+    }
+    // Bypasses the cache: an export reads every row once, which caching would only churn.
+    try (Stream<RegistrationForm> forms =
+        registrationFormQueryPort.streamForExport(status, updatedFrom, updatedTo)) {
+      forms.forEach(sink);
+    }
+  }
 
-    int fromIndex = Math.min(resolvedPage * resolvedSize, filteredForms.size());
-    int toIndex = Math.min(fromIndex + resolvedSize, filteredForms.size());
+  private static int resolvePageSize(Integer size) {
+    return Math.min(Math.max(size == null ? DEFAULT_PAGE_SIZE : size, 1), MAX_PAGE_SIZE);
+  }
 
-    return new RegistrationFormPage(
-        filteredForms.subList(fromIndex, toIndex),
-        resolvedPage,
-        resolvedSize,
-        totalElements,
-        totalPages);
+  private static RegistrationFormCursor decodeCursor(String cursor) {
+    try {
+      return RegistrationFormCursor.decode(cursor);
+    } catch (IllegalArgumentException ex) {
+      throw new RegistrationFormValidationException("cursor is invalid");
+    }
   }
 }
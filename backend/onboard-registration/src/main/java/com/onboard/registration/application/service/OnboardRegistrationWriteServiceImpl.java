@@ -1,44 +1,58 @@
 package com.onboard.registration.application.service;
 
 import com.onboard.infrastructure.core.idempotency.Idempotent;
+import com.onboard.infrastructure.core.persistence.UuidV7;
 import com.onboard.registration.application.exception.RegistrationFormConflictException;
 import com.onboard.registration.application.exception.RegistrationFormNotFoundException;
 import com.onboard.registration.application.exception.RegistrationFormValidationException;
 import com.onboard.registration.application.port.in.OnboardRegistrationWriteService;
+import com.onboard.registration.application.port.out.RegistrationEventPort;
 import com.onboard.registration.application.port.out.RegistrationFormCommandPort;
+import com.onboard.registration.domain.model.RegistrationEventType;
 import com.onboard.registration.domain.model.RegistrationForm;
 import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.model.RegistrationFormTransition;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
+import com.onboard.registration.domain.vo.FormData;
 import java.time.Instant;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tools.jackson.databind.node.ObjectNode;
 
-/** Application service for registration form write use cases. */
+/**
+ * Application service for registration form write use cases.
+ *
+ * <p>Every change records a registration event in the outbox within the same transaction.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class OnboardRegistrationWriteServiceImpl implements OnboardRegistrationWriteService {
 
   private static final String DEFAULT_PRODUCT_CODE = "DEFAULT_ONBOARDING";
-  private static final AtomicLong REFERENCE_SEQUENCE = new AtomicLong(1);
+
+  /** Upper bound on ids per batch transition, keeping the lock set and IN list bounded. */
+  static final int MAX_BATCH_SIZE = 500;
 
   private final RegistrationFormCommandPort registrationFormCommandPort;
+  private final ReferenceNumberAllocator referenceNumberAllocator;
+  private final RegistrationFormCache registrationFormCache;
+  private final RegistrationEventPort registrationEventPort;
 
   @Override
-  public RegistrationForm createRegistrationForm(String productCode, ObjectNode formContent) {
-    ObjectNode validatedFormContent = requireFormContent(formContent);
+  public RegistrationForm createRegistrationForm(String productCode, FormData formContent) {
+    FormData validatedFormContent = requireFormContent(formContent);
     Instant now = Instant.now();
 
     RegistrationForm form =
         new RegistrationForm(
-            UUID.randomUUID().toString(),
-            nextReferenceNo(now),
+            UuidV7.generate(now).toString(),
+            referenceNumberAllocator.next(now),
             normalizeProductCode(productCode),
             validatedFormContent,
             RegistrationFormStatus.DRAFT,
@@ -47,54 +61,92 @@ public class OnboardRegistrationWriteServiceImpl implements OnboardRegistrationW
             now,
             null);
 
-    return registrationFormCommandPort.save(form);
+    RegistrationForm createdForm = registrationFormCommandPort.create(form);
+    registrationEventPort.append(RegistrationEventType.CREATED, createdForm);
+    registrationFormCache.formChanged(createdForm);
+    return createdForm;
   }
 
   @Override
-  public RegistrationForm updateRegistrationForm(String formId, ObjectNode formContent) {
-    ObjectNode validatedFormContent = requireFormContent(formContent);
-    RegistrationForm existingForm =
-        registrationFormCommandPort
-            .findById(formId)
-            .orElseThrow(() -> new RegistrationFormNotFoundException(formId));
-
-    try {
-      RegistrationForm updatedForm = existingForm.updateDraft(validatedFormContent, Instant.now());
-      return registrationFormCommandPort.save(updatedForm);
-    } catch (IllegalStateException ex) {
-      throw new RegistrationFormConflictException(ex.getMessage());
-    }
+  public RegistrationForm updateRegistrationForm(String formId, FormData formContent) {
+    FormData validatedFormContent = requireFormContent(formContent);
+    return applyTransition(
+        formId,
+        RegistrationEventType.UPDATED,
+        existingForm -> existingForm.updateDraft(validatedFormContent, Instant.now()));
   }
 
   @Override
   @Idempotent(expire = 60, timeUnit = TimeUnit.SECONDS, namespace = "registration.submit-form")
   public RegistrationForm submitRegistrationForm(String formId, String submissionNote) {
-    RegistrationForm existingForm =
-        registrationFormCommandPort
-            .findById(formId)
-            .orElseThrow(() -> new RegistrationFormNotFoundException(formId));
+    return applyTransition(
+        formId,
+        RegistrationEventType.SUBMITTED,
+        existingForm -> existingForm.submit(submissionNote, Instant.now()));
+  }
+
+  @Override
+  public List<RegistrationFormTransitionResult> transitionRegistrationForms(
+      List<String> formIds, RegistrationFormTransition transition, String submissionNote) {
+    if (transition == null) {
+      throw new RegistrationFormValidationException("transition must not be null");
+    }
+    List<String> distinctIds = distinctFormIds(formIds);
+    Instant now = Instant.now();
 
+    List<RegistrationFormTransitionResult> results =
+        registrationFormCommandPort.updateAll(
+            distinctIds, existingForm -> transition.apply(existingForm, submissionNote, now));
+    List<RegistrationForm> transitionedForms = new ArrayList<>(results.size());
+    for (RegistrationFormTransitionResult result : results) {
+      if (result.outcome() == RegistrationFormTransitionResult.Outcome.TRANSITIONED) {
+        registrationEventPort.append(transition.eventType(), result.form());
+        transitionedForms.add(result.form());
+      }
+    }
+    registrationFormCache.formsChanged(transitionedForms);
+    return results;
+  }
+
+  private static List<String> distinctFormIds(List<String> formIds) {
+    if (formIds == null || formIds.isEmpty()) {
+      throw new RegistrationFormValidationException("formIds must not be empty");
+    }
+    LinkedHashSet<String> distinctIds = new LinkedHashSet<>(formIds);
+    if (distinctIds.contains(null)) {
+      throw new RegistrationFormValidationException("formIds must not contain null");
+    }
+    if (distinctIds.size() > MAX_BATCH_SIZE) {
+      throw new RegistrationFormValidationException(
+          "formIds must not contain more than " + MAX_BATCH_SIZE + " ids");
+    }
+    return List.copyOf(distinctIds);
+  }
+
+  private RegistrationForm applyTransition(
+      String formId, RegistrationEventType eventType, UnaryOperator<RegistrationForm> transition) {
+    RegistrationForm updatedForm;
     try {
-      RegistrationForm submittedForm = existingForm.submit(submissionNote, Instant.now());
-      return registrationFormCommandPort.save(submittedForm);
+      updatedForm =
+          registrationFormCommandPort
+              .update(formId, transition)
+              .orElseThrow(() -> new RegistrationFormNotFoundException(formId));
     } catch (IllegalStateException ex) {
       throw new RegistrationFormConflictException(ex.getMessage());
     }
+    registrationEventPort.append(eventType, updatedForm);
+    registrationFormCache.formChanged(updatedForm);
+    return updatedForm;
   }
 
-  private static String normalizeProductCode(String productCode) {
+  static String normalizeProductCode(String productCode) {
     return productCode == null || productCode.isBlank() ? DEFAULT_PRODUCT_CODE : productCode;
   }
 
-  private static ObjectNode requireFormContent(ObjectNode formContent) {
+  private static FormData requireFormContent(FormData formContent) {
     if (formContent == null || formContent.isEmpty()) {
       throw new RegistrationFormValidationException("formContent must not be empty");
     }
-    return formContent.deepCopy();
-  }
-
-  private static String nextReferenceNo(Instant now) {
-    int year = OffsetDateTime.ofInstant(now, ZoneOffset.UTC).getYear();
-    return "REG-" + year + "-" + String.format("%05d", REFERENCE_SEQUENCE.getAndIncrement());
+    return formContent;
   }
 }
@@ -0,0 +1,127 @@
+package com.onboard.registration.application.service;
+
+import com.onboard.registration.application.port.out.ReferenceNumberBlockPort;
+import com.onboard.registration.domain.model.ReferenceNumberBlock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out registration reference numbers from blocks leased through {@link
+ * ReferenceNumberBlockPort}.
+ *
+ * <p>Numbers within a block are taken with a single atomic increment; only the thread that finds
+ * the block exhausted (or from a previous year) goes to the database for the next one. Blocks are
+ * unique across nodes, so numbers never collide, but unused numbers of a block are skipped when a
+ * node restarts.
+ */
+@Component
+public class ReferenceNumberAllocator {
+
+  private final ReferenceNumberBlockPort referenceNumberBlockPort;
+  private final int blockSize;
+
+  /** Guards block refills. A {@link ReentrantLock} does not pin virtual threads while waiting. */
+  private final ReentrantLock refillLock = new ReentrantLock();
+
+  private volatile @Nullable LeasedBlock currentBlock;
+
+  /**
+   * Creates an allocator.
+   *
+   * @param referenceNumberBlockPort block leasing port
+   * @param blockSize number of values leased per database round trip
+   */
+  public ReferenceNumberAllocator(
+      ReferenceNumberBlockPort referenceNumberBlockPort,
+      @Value("${platform.registration.reference-block-size:50}") int blockSize) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("blockSize must be positive");
+    }
+    this.referenceNumberBlockPort = referenceNumberBlockPort;
+    this.blockSize = blockSize;
+  }
+
+  /**
+   * Allocates the next reference number for the year of the given instant.
+   *
+   * <p>Call this before the caller's transaction touches the database: a refill runs in its own
+   * transaction and must not wait for a second pooled connection while holding the first.
+   *
+   * @param now creation time; its UTC year selects the sequence
+   * @return reference number such as {@code REG-2026-00042}
+   */
+  public String next(Instant now) {
+    int year = OffsetDateTime.ofInstant(now, ZoneOffset.UTC).getYear();
+    while (true) {
+      LeasedBlock block = currentBlock;
+      // A block from a later year is used as-is so requests straddling New Year do not thrash.
+      if (block != null && block.year >= year) {
+        long value = block.cursor.getAndIncrement();
+        if (value < block.limit) {
+          return format(block.year, value);
+        }
+      }
+      refill(block, year);
+    }
+  }
+
+  /**
+   * Allocates {@code count} consecutive reference numbers with a single lease, for bulk creation.
+   *
+   * <p>The numbers come from a block of their own rather than the shared one, so a large batch
+   * neither drains the shared block nor queues behind its refills. As with {@link #next}, call this
+   * before the caller's transaction touches the database.
+   *
+   * @param now creation time; its UTC year selects the sequence
+   * @param count number of reference numbers to allocate
+   * @return reference numbers in ascending order
+   */
+  public List<String> nextBatch(Instant now, int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be positive");
+    }
+    int year = OffsetDateTime.ofInstant(now, ZoneOffset.UTC).getYear();
+    ReferenceNumberBlock block = referenceNumberBlockPort.leaseBlock(year, count);
+    List<String> numbers = new ArrayList<>(count);
+    for (long value = block.first(); value < block.limit(); value++) {
+      numbers.add(format(block.year(), value));
+    }
+    return numbers;
+  }
+
+  private void refill(@Nullable LeasedBlock observedBlock, int year) {
+    refillLock.lock();
+    try {
+      if (currentBlock == observedBlock) {
+        currentBlock = new LeasedBlock(referenceNumberBlockPort.leaseBlock(year, blockSize));
+      }
+    } finally {
+      refillLock.unlock();
+    }
+  }
+
+  /** Formats the number with at least five digits; larger values widen instead of overflowing. */
+  private static String format(int year, long value) {
+    return "REG-" + year + "-" + String.format("%05d", value);
+  }
+
+  private static final class LeasedBlock {
+    private final int year;
+    private final long limit;
+    private final AtomicLong cursor;
+
+    private LeasedBlock(ReferenceNumberBlock block) {
+      this.year = block.year();
+      this.limit = block.limit();
+      this.cursor = new AtomicLong(block.first());
+    }
+  }
+}
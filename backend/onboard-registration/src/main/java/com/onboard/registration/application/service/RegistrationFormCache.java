@@ -0,0 +1,271 @@
+package com.onboard.registration.application.service;
+
+import com.onboard.infrastructure.core.persistence.ReadFreshness;
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormPage;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache for registration form details and list pages.
+ *
+ * <p>List keys embed a generation token stored in the list cache itself. Any write replaces the
+ * token, so every previously cached page becomes unreachable in one put, without scanning keys;
+ * orphaned pages simply age out with the cache TTL. Runs as a pass-through when the application
+ * has no cache manager.
+ *
+ * <p>Pages carry no database position, so a request that must see its own writes bypasses the list
+ * cache, and a page read from a replica that has not replayed this node's last write is returned
+ * but not cached: the new generation would otherwise hand out that pre-write page until it expires.
+ *
+ * <p>The cache is an optimization only: a failing cache store is logged and bypassed, so reads
+ * fall back to the loader and committed writes still succeed. Exceptions thrown by a loader reach
+ * the caller unchanged, whichever way the cache wraps them.
+ */
+@Slf4j
+@Component
+public class RegistrationFormCache {
+
+  static final String DETAIL_CACHE = "registration.form.detail";
+  static final String LIST_CACHE = "registration.form.list";
+  private static final String GENERATION_KEY = "generation";
+
+  private final Cache detailCache;
+  private final Cache listCache;
+
+  /**
+   * Creates the cache facade.
+   *
+   * @param cacheManagerProvider application cache manager, if any
+   */
+  public RegistrationFormCache(ObjectProvider<CacheManager> cacheManagerProvider) {
+    CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+    this.detailCache = resolveCache(cacheManager, DETAIL_CACHE);
+    this.listCache = resolveCache(cacheManager, LIST_CACHE);
+  }
+
+  /**
+   * Returns a cached form or loads and caches it.
+   *
+   * @param formId form id
+   * @param loader loads the form; may throw when it does not exist, in which case nothing is cached
+   * @return form
+   */
+  public RegistrationForm getDetail(String formId, Supplier<RegistrationForm> loader) {
+    return read(detailCache, formId, loader);
+  }
+
+  /**
+   * Returns a cached list page or loads and caches it under the current generation.
+   *
+   * @param status status filter
+   * @param keyword keyword filter
+   * @param page zero-based page, or {@code -1} for cursor pages
+   * @param size page size
+   * @param cursor keyset cursor, or {@code null} for offset pages
+   * @param includeTotal whether the page carries totals
+   * @param loader loads the page
+   * @return page
+   */
+  public RegistrationFormPage getPage(
+      RegistrationFormStatus status,
+      String keyword,
+      int page,
+      int size,
+      String cursor,
+      boolean includeTotal,
+      Supplier<RegistrationFormPage> loader) {
+    if (ReadFreshness.isPositionRequired()) {
+      return loader.get();
+    }
+    String generation;
+    try {
+      generation = currentGeneration();
+    } catch (RuntimeException ex) {
+      log.warn(
+          "Reading the list generation from cache {} failed; loading directly", LIST_CACHE, ex);
+      return loader.get();
+    }
+    String key = listKey(generation, status, keyword, page, size, cursor, includeTotal);
+    return read(listCache, key, () -> loadShareable(loader));
+  }
+
+  /**
+   * Writes the changed form through to the detail cache and invalidates all list pages once the
+   * surrounding transaction commits, or immediately when none is active.
+   *
+   * @param form form as persisted
+   */
+  public void formChanged(RegistrationForm form) {
+    runAfterCommit(
+        () -> {
+          detailCache.put(form.id(), form);
+          listCache.put(GENERATION_KEY, UUID.randomUUID().toString());
+        });
+  }
+
+  /**
+   * Writes the changed forms through to the detail cache and invalidates all list pages once, after
+   * the surrounding transaction commits or immediately when none is active.
+   *
+   * @param forms forms as persisted
+   */
+  public void formsChanged(Collection<RegistrationForm> forms) {
+    if (forms.isEmpty()) {
+      return;
+    }
+    List<RegistrationForm> changedForms = List.copyOf(forms);
+    runAfterCommit(
+        () -> {
+          changedForms.forEach(form -> detailCache.put(form.id(), form));
+          listCache.put(GENERATION_KEY, UUID.randomUUID().toString());
+        });
+  }
+
+  /**
+   * Invalidates all list pages once the surrounding transaction commits, or immediately when none
+   * is active. Used for bulk creation, where caching the details of new forms would not pay off.
+   */
+  public void formsAdded() {
+    runAfterCommit(() -> listCache.put(GENERATION_KEY, UUID.randomUUID().toString()));
+  }
+
+  /** Loads a page, keeping it out of the cache when a lagging replica served part of it. */
+  private static RegistrationFormPage loadShareable(Supplier<RegistrationFormPage> loader) {
+    ReadFreshness.Observed<RegistrationFormPage> page = ReadFreshness.observe(loader);
+    if (!page.consistent()) {
+      throw new UncacheableValue(page.value());
+    }
+    return page.value();
+  }
+
+  /**
+   * Reads through the cache, falling back to the loader when the cache itself fails. A loader
+   * failure is rethrown as is, not retried.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> T read(Cache cache, String key, Supplier<T> loader) {
+    AtomicReference<RuntimeException> loaderFailure = new AtomicReference<>();
+    try {
+      return cache.get(
+          key,
+          () -> {
+            try {
+              return loader.get();
+            } catch (RuntimeException ex) {
+              loaderFailure.set(ex);
+              throw ex;
+            }
+          });
+    } catch (RuntimeException ex) {
+      RuntimeException failure = loaderFailure.get();
+      if (failure == null
+          && ex instanceof Cache.ValueRetrievalException
+          && ex.getCause() instanceof RuntimeException cause) {
+        // A load coalesced with another caller's failed; the cache store itself is fine.
+        failure = cause;
+      }
+      if (failure instanceof UncacheableValue uncacheable) {
+        return (T) uncacheable.value;
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      log.warn("Reading {} from cache {} failed; loading directly", key, cache.getName(), ex);
+      return loader.get();
+    }
+  }
+
+  private String currentGeneration() {
+    Cache.ValueWrapper generation = listCache.get(GENERATION_KEY);
+    if (generation != null && generation.get() instanceof String token) {
+      return token;
+    }
+    String candidate = UUID.randomUUID().toString();
+    Cache.ValueWrapper existing = listCache.putIfAbsent(GENERATION_KEY, candidate);
+    return existing != null && existing.get() instanceof String token ? token : candidate;
+  }
+
+  /**
+   * Builds a list key from filters normalized the way the query applies them, so equivalent
+   * requests share one entry. The keyword goes last with a length prefix to keep keys unambiguous.
+   */
+  static String listKey(
+      String generation,
+      RegistrationFormStatus status,
+      String keyword,
+      int page,
+      int size,
+      String cursor,
+      boolean includeTotal) {
+    String normalizedKeyword =
+        keyword == null || keyword.isBlank() ? "" : keyword.strip().toLowerCase(Locale.ROOT);
+    return generation
+        + '|'
+        + (status == null ? "*" : status.name())
+        + '|'
+        + (cursor == null ? "p" + page : "c" + cursor)
+        + '|'
+        + size
+        + '|'
+        + (includeTotal ? 't' : 'n')
+        + '|'
+        + normalizedKeyword.length()
+        + ':'
+        + normalizedKeyword;
+  }
+
+  /**
+   * Runs a cache write after commit. A failure is only logged: the change is already committed,
+   * and the stale entries age out with the cache TTL.
+   */
+  private static void runAfterCommit(Runnable action) {
+    Runnable bestEffort =
+        () -> {
+          try {
+            action.run();
+          } catch (RuntimeException ex) {
+            log.warn("Updating registration form caches after a write failed", ex);
+          }
+        };
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      bestEffort.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            bestEffort.run();
+          }
+        });
+  }
+
+  private static Cache resolveCache(CacheManager cacheManager, String name) {
+    Cache cache = cacheManager == null ? null : cacheManager.getCache(name);
+    return cache != null ? cache : new NoOpCache(name);
+  }
+
+  /** Carries a loaded value out of a cache load without the cache storing it. */
+  private static final class UncacheableValue extends RuntimeException {
+    private final transient Object value;
+
+    private UncacheableValue(Object value) {
+      super(null, null, false, false);
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.onboard.registration.domain.model;
+
+/**
+ * Half-open range {@code [first, limit)} of reference number sequence values leased for one year.
+ *
+ * @param year calendar year (UTC) the values belong to
+ * @param first first value in the block
+ * @param limit first value after the block
+ */
+public record ReferenceNumberBlock(int year, long first, long limit) {
+
+  /** Validates the block bounds. */
+  public ReferenceNumberBlock {
+    if (first < 1 || limit <= first) {
+      throw new IllegalArgumentException(
+          "Invalid reference number block: " + first + ".." + limit);
+    }
+  }
+}
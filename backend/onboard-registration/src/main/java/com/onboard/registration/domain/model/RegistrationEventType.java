@@ -0,0 +1,26 @@
+package com.onboard.registration.domain.model;
+
+/** Registration form changes announced to other services, with their routing keys. */
+public enum RegistrationEventType {
+  CREATED("registration.created"),
+  UPDATED("registration.updated"),
+  SUBMITTED("registration.submitted"),
+  APPROVED("registration.approved"),
+  REJECTED("registration.rejected"),
+  CANCELLED("registration.cancelled");
+
+  private final String routingKey;
+
+  RegistrationEventType(String routingKey) {
+    this.routingKey = routingKey;
+  }
+
+  /**
+   * Returns the routing key on the registration exchange.
+   *
+   * @return routing key
+   */
+  public String routingKey() {
+    return routingKey;
+  }
+}
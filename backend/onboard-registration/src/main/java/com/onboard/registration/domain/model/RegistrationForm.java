@@ -1,30 +1,35 @@
 package com.onboard.registration.domain.model;
 
+import com.onboard.registration.domain.vo.FormData;
+import java.io.Serializable;
 import java.time.Instant;
 import java.util.Locale;
 import java.util.Objects;
-import tools.jackson.databind.node.ObjectNode;
 
 /** Registration form aggregate root. */
 public record RegistrationForm(
     String id,
     String referenceNo,
     String productCode,
-    ObjectNode formContent,
+    FormData formContent,
     RegistrationFormStatus status,
     Instant submittedAt,
     Instant createdAt,
     Instant updatedAt,
-    String submissionNote) {
+    String submissionNote)
+    implements Serializable {
 
-  /** Creates a registration form and clones mutable JSON content. */
+  /** Longest product code the form store accepts. */
+  public static final int PRODUCT_CODE_MAX_LENGTH = 128;
+
+  /** Creates a registration form; the immutable content is shared, not copied. */
   public RegistrationForm {
-    formContent = Objects.requireNonNull(formContent, "formContent must not be null").deepCopy();
+    Objects.requireNonNull(formContent, "formContent must not be null");
   }
 
   /** Returns an updated draft registration form. */
-  public RegistrationForm updateDraft(ObjectNode updatedFormContent, Instant now) {
-    requireDraft("update");
+  public RegistrationForm updateDraft(FormData updatedFormContent, Instant now) {
+    requireStatus("update", RegistrationFormStatus.DRAFT);
     return new RegistrationForm(
         id,
         referenceNo,
@@ -39,7 +44,7 @@ public record RegistrationForm(
 
   /** Returns a submitted registration form. */
   public RegistrationForm submit(String note, Instant now) {
-    requireDraft("submit");
+    requireStatus("submit", RegistrationFormStatus.DRAFT);
     return new RegistrationForm(
         id,
         referenceNo,
@@ -52,6 +57,24 @@ public record RegistrationForm(
         note);
   }
 
+  /** Returns an approved form; only submitted forms can be approved. */
+  public RegistrationForm approve(Instant now) {
+    requireStatus("approve", RegistrationFormStatus.SUBMITTED);
+    return withStatus(RegistrationFormStatus.APPROVED, now);
+  }
+
+  /** Returns a rejected form; only submitted forms can be rejected. */
+  public RegistrationForm reject(Instant now) {
+    requireStatus("reject", RegistrationFormStatus.SUBMITTED);
+    return withStatus(RegistrationFormStatus.REJECTED, now);
+  }
+
+  /** Returns a cancelled form; forms can be cancelled until a decision has been made. */
+  public RegistrationForm cancel(Instant now) {
+    requireStatus("cancel", RegistrationFormStatus.DRAFT, RegistrationFormStatus.SUBMITTED);
+    return withStatus(RegistrationFormStatus.CANCELLED, now);
+  }
+
   /** Returns whether the form matches a keyword in reference number or JSON content. */
   public boolean containsKeyword(String keyword) {
     if (keyword == null || keyword.isBlank()) {
@@ -59,14 +82,30 @@ public record RegistrationForm(
     }
     String normalizedKeyword = keyword.toLowerCase(Locale.ROOT);
     return (referenceNo != null && referenceNo.toLowerCase(Locale.ROOT).contains(normalizedKeyword))
-        || formContent.toString().toLowerCase(Locale.ROOT).contains(normalizedKeyword);
+        || formContent.json().toLowerCase(Locale.ROOT).contains(normalizedKeyword);
+  }
+
+  private RegistrationForm withStatus(RegistrationFormStatus newStatus, Instant now) {
+    return new RegistrationForm(
+        id,
+        referenceNo,
+        productCode,
+        formContent,
+        newStatus,
+        submittedAt,
+        createdAt,
+        now,
+        submissionNote);
   }
 
-  /** Ensures current form status is draft before applying a state transition. */
-  private void requireDraft(String action) {
-    if (status != RegistrationFormStatus.DRAFT) {
-      throw new IllegalStateException(
-          "Registration form " + id + " cannot " + action + " when status is " + status);
+  /** Ensures current form status is one of the allowed ones before applying a state transition. */
+  private void requireStatus(String action, RegistrationFormStatus... allowed) {
+    for (RegistrationFormStatus allowedStatus : allowed) {
+      if (status == allowedStatus) {
+        return;
+      }
     }
+    throw new IllegalStateException(
+        "Registration form " + id + " cannot " + action + " when status is " + status);
   }
 }
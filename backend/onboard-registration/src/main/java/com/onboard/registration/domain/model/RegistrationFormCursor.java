@@ -0,0 +1,62 @@
+package com.onboard.registration.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position in the {@code updatedAt DESC, id DESC} ordering of registration forms.
+ *
+ * <p>The position is exchanged with clients as an opaque URL-safe token so the encoding can change
+ * without affecting the contract.
+ */
+public record RegistrationFormCursor(Instant updatedAt, UUID id) {
+
+  /** Creates a cursor and rejects missing key parts. */
+  public RegistrationFormCursor {
+    Objects.requireNonNull(updatedAt, "updatedAt must not be null");
+    Objects.requireNonNull(id, "id must not be null");
+  }
+
+  /** Returns the cursor positioned at the given form. */
+  public static RegistrationFormCursor after(RegistrationForm form) {
+    return new RegistrationFormCursor(form.updatedAt(), UUID.fromString(form.id()));
+  }
+
+  /**
+   * Decodes a token produced by {@link #encode()}.
+   *
+   * @param token opaque continuation token
+   * @return decoded cursor
+   * @throws IllegalArgumentException when the token is malformed
+   */
+  public static RegistrationFormCursor decode(String token) {
+    String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    int timeSeparator = decoded.indexOf('.');
+    int idSeparator = decoded.indexOf(':');
+    if (timeSeparator < 0 || idSeparator < timeSeparator) {
+      throw new IllegalArgumentException("Malformed registration form cursor");
+    }
+    long epochSecond = Long.parseLong(decoded.substring(0, timeSeparator));
+    int nanos = Integer.parseInt(decoded.substring(timeSeparator + 1, idSeparator));
+    Instant updatedAt;
+    try {
+      updatedAt = Instant.ofEpochSecond(epochSecond, nanos);
+    } catch (DateTimeException ex) {
+      throw new IllegalArgumentException("Malformed registration form cursor", ex);
+    }
+    return new RegistrationFormCursor(
+        updatedAt, UUID.fromString(decoded.substring(idSeparator + 1)));
+  }
+
+  /** Encodes the cursor as an opaque URL-safe token. */
+  public String encode() {
+    String raw = updatedAt.getEpochSecond() + "." + updatedAt.getNano() + ":" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,39 @@
+package com.onboard.registration.domain.model;
+
+import com.onboard.registration.domain.vo.FormData;
+
+/**
+ * One line of a bulk import: a draft form to create, or the reason the line could not be read.
+ *
+ * @param number one-based line number in the import
+ * @param productCode product code, or {@code null} for the default product
+ * @param formContent form content, or {@code null} when missing or unreadable
+ * @param problem why the line could not be read, or {@code null} when it was read
+ */
+public record RegistrationFormImportLine(
+    long number, String productCode, FormData formContent, String problem) {
+
+  /**
+   * Creates a line that was read.
+   *
+   * @param number one-based line number
+   * @param productCode product code, or {@code null}
+   * @param formContent form content, or {@code null}
+   * @return import line
+   */
+  public static RegistrationFormImportLine of(
+      long number, String productCode, FormData formContent) {
+    return new RegistrationFormImportLine(number, productCode, formContent, null);
+  }
+
+  /**
+   * Creates a line that could not be read.
+   *
+   * @param number one-based line number
+   * @param problem description of the problem
+   * @return import line rejected on arrival
+   */
+  public static RegistrationFormImportLine malformed(long number, String problem) {
+    return new RegistrationFormImportLine(number, null, null, problem);
+  }
+}
@@ -0,0 +1,44 @@
+package com.onboard.registration.domain.model;
+
+/**
+ * Outcome of one bulk import line.
+ *
+ * @param line one-based line number in the import
+ * @param formId id of the created form, or {@code null} when the line was rejected
+ * @param referenceNo reference number of the created form, or {@code null} when rejected
+ * @param error why the line was rejected, or {@code null} when a form was created
+ */
+public record RegistrationFormImportResult(
+    long line, String formId, String referenceNo, String error) {
+
+  /**
+   * Reports a created form.
+   *
+   * @param line one-based line number
+   * @param form created form
+   * @return successful result
+   */
+  public static RegistrationFormImportResult created(long line, RegistrationForm form) {
+    return new RegistrationFormImportResult(line, form.id(), form.referenceNo(), null);
+  }
+
+  /**
+   * Reports a rejected line.
+   *
+   * @param line one-based line number
+   * @param error description of the problem
+   * @return failed result
+   */
+  public static RegistrationFormImportResult rejected(long line, String error) {
+    return new RegistrationFormImportResult(line, null, null, error);
+  }
+
+  /**
+   * Returns whether the line created a form.
+   *
+   * @return {@code true} when a form was created
+   */
+  public boolean isCreated() {
+    return error == null;
+  }
+}
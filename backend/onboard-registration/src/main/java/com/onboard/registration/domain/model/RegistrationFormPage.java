@@ -1,7 +1,19 @@
 package com.onboard.registration.domain.model;
 
+import java.io.Serializable;
 import java.util.List;
 
-/** Paged response model for registration forms. */
+/**
+ * Paged response model for registration forms.
+ *
+ * <p>{@code totalElements} and {@code totalPages} are {@code null} when the page was read without
+ * counting, and {@code nextCursor} is {@code null} when no further forms match.
+ */
 public record RegistrationFormPage(
-    List<RegistrationForm> items, int page, int size, long totalElements, int totalPages) {}
+    List<RegistrationForm> items,
+    int page,
+    int size,
+    Long totalElements,
+    Integer totalPages,
+    String nextCursor)
+    implements Serializable {}
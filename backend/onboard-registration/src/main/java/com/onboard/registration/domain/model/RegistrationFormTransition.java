@@ -0,0 +1,53 @@
+package com.onboard.registration.domain.model;
+
+import java.time.Instant;
+
+/** Status transitions that can be applied to many registration forms in one operation. */
+public enum RegistrationFormTransition {
+  SUBMIT(RegistrationEventType.SUBMITTED),
+  APPROVE(RegistrationEventType.APPROVED),
+  REJECT(RegistrationEventType.REJECTED),
+  CANCEL(RegistrationEventType.CANCELLED);
+
+  private final RegistrationEventType eventType;
+
+  RegistrationFormTransition(RegistrationEventType eventType) {
+    this.eventType = eventType;
+  }
+
+  /**
+   * Returns the event recorded for each form the transition changes.
+   *
+   * @return event type
+   */
+  public RegistrationEventType eventType() {
+    return eventType;
+  }
+
+  /**
+   * Returns whether the transition decides on a submitted form, which only operators may do.
+   *
+   * @return true for {@link #APPROVE} and {@link #REJECT}
+   */
+  public boolean isDecision() {
+    return this == APPROVE || this == REJECT;
+  }
+
+  /**
+   * Applies the transition to one form.
+   *
+   * @param form current form state
+   * @param note submission note; only used by {@link #SUBMIT}
+   * @param now transition time
+   * @return form after the transition
+   * @throws IllegalStateException when the form's status does not allow the transition
+   */
+  public RegistrationForm apply(RegistrationForm form, String note, Instant now) {
+    return switch (this) {
+      case SUBMIT -> form.submit(note, now);
+      case APPROVE -> form.approve(now);
+      case REJECT -> form.reject(now);
+      case CANCEL -> form.cancel(now);
+    };
+  }
+}
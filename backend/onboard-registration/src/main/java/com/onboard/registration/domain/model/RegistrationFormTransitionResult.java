@@ -0,0 +1,52 @@
+package com.onboard.registration.domain.model;
+
+/**
+ * Outcome of a batch transition for one form id.
+ *
+ * @param formId requested form id
+ * @param outcome what happened to the form
+ * @param form form after the transition, or {@code null} unless it was transitioned
+ * @param error why the form was not transitioned, or {@code null} when it was
+ */
+public record RegistrationFormTransitionResult(
+    String formId, Outcome outcome, RegistrationForm form, String error) {
+
+  /** Per-form result of a batch transition. */
+  public enum Outcome {
+    TRANSITIONED,
+    NOT_FOUND,
+    CONFLICT
+  }
+
+  /**
+   * Reports a transitioned form.
+   *
+   * @param form form after the transition
+   * @return successful result
+   */
+  public static RegistrationFormTransitionResult transitioned(RegistrationForm form) {
+    return new RegistrationFormTransitionResult(form.id(), Outcome.TRANSITIONED, form, null);
+  }
+
+  /**
+   * Reports an id that matches no form.
+   *
+   * @param formId requested form id
+   * @return not-found result
+   */
+  public static RegistrationFormTransitionResult notFound(String formId) {
+    return new RegistrationFormTransitionResult(
+        formId, Outcome.NOT_FOUND, null, "Registration form not found: " + formId);
+  }
+
+  /**
+   * Reports a form whose status does not allow the transition.
+   *
+   * @param formId requested form id
+   * @param error description of the conflict
+   * @return conflict result
+   */
+  public static RegistrationFormTransitionResult conflict(String formId, String error) {
+    return new RegistrationFormTransitionResult(formId, Outcome.CONFLICT, null, error);
+  }
+}
@@ -1,8 +1,117 @@
 package com.onboard.registration.domain.vo;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ObjectNode;
 
-/** Value object representing arbitrary registration form data. */
-public class FormData {
-  private ObjectNode data;
+/**
+ * Value object representing arbitrary registration form data.
+ *
+ * <p>The wrapped JSON object is owned by this instance and never mutated or handed out, so a form
+ * can pass from request body to JSONB column without defensive copies. Jackson reads and writes it
+ * as the raw JSON object, and its JSON text is rendered at most once.
+ */
+public final class FormData implements Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private final ObjectNode data;
+  private transient volatile String json;
+
+  private FormData(ObjectNode data) {
+    this.data = Objects.requireNonNull(data, "data must not be null");
+  }
+
+  /**
+   * Copies a JSON object the caller may keep modifying.
+   *
+   * @param data JSON object
+   * @return form data holding a private copy
+   */
+  public static FormData copyOf(ObjectNode data) {
+    return new FormData(data.deepCopy());
+  }
+
+  /**
+   * Takes ownership of a JSON object nothing else references, such as one just parsed.
+   *
+   * @param data JSON object that must not be modified afterwards
+   * @return form data wrapping the object
+   */
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  public static FormData wrap(ObjectNode data) {
+    return new FormData(data);
+  }
+
+  /**
+   * Returns whether the form has no fields.
+   *
+   * @return {@code true} for an empty object
+   */
+  public boolean isEmpty() {
+    return data.isEmpty();
+  }
+
+  /**
+   * Returns a field value.
+   *
+   * @param field field name
+   * @return the value, copied when it is an object or array, or {@code null} when absent
+   */
+  public JsonNode get(String field) {
+    JsonNode value = data.get(field);
+    return value == null || value.isValueNode() ? value : value.deepCopy();
+  }
+
+  /**
+   * Returns the data for serialization; callers must not modify it.
+   *
+   * @return wrapped JSON object
+   */
+  @JsonValue
+  ObjectNode node() {
+    return data;
+  }
+
+  /**
+   * Returns a modifiable copy of the data.
+   *
+   * @return copy of the JSON object
+   */
+  public ObjectNode toObjectNode() {
+    return data.deepCopy();
+  }
+
+  /**
+   * Returns the JSON text of the data.
+   *
+   * @return compact JSON
+   */
+  public String json() {
+    String rendered = json;
+    if (rendered == null) {
+      rendered = data.toString();
+      json = rendered;
+    }
+    return rendered;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other || other instanceof FormData that && data.equals(that.data);
+  }
+
+  @Override
+  public int hashCode() {
+    return data.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return json();
+  }
 }
@@ -1,11 +1,16 @@
 package com.onboard.registration;
 
+import com.onboard.infrastructure.core.persistence.PartitionAwareRepositoryImpl;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 /** Test-only bootstrap application for onboard-registration integration tests. */
 @SpringBootConfiguration
 @EnableAutoConfiguration
 @ComponentScan(basePackages = "com.onboard.registration")
+@EnableJpaRepositories(
+    basePackages = "com.onboard.registration",
+    repositoryBaseClass = PartitionAwareRepositoryImpl.class)
 public class RegistrationIntegrationTestApplication {}
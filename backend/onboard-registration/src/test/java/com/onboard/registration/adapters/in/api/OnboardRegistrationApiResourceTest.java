@@ -0,0 +1,97 @@
+package com.onboard.registration.adapters.in.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.onboard.registration.application.port.in.OnboardRegistrationImportService;
+import com.onboard.registration.application.port.in.OnboardRegistrationReadService;
+import com.onboard.registration.application.port.in.OnboardRegistrationWriteService;
+import com.onboard.registration.domain.model.RegistrationFormTransition;
+import com.onboard.registration.generated.model.RegistrationFormTransitionDto;
+import com.onboard.registration.generated.model.TransitionRegistrationFormsRequestDto;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.ObjectMapper;
+
+class OnboardRegistrationApiResourceTest {
+
+  private final OnboardRegistrationWriteService writeService =
+      mock(OnboardRegistrationWriteService.class);
+  private final OnboardRegistrationApiResource resource =
+      new OnboardRegistrationApiResource(
+          mock(OnboardRegistrationReadService.class),
+          writeService,
+          mock(OnboardRegistrationImportService.class),
+          new ObjectMapper());
+
+  @AfterEach
+  void clearSecurityContext() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void rejectsDecisionsWithoutDecideScope() {
+    authenticate("SCOPE_registration:write");
+
+    TransitionRegistrationFormsRequestDto approve = request(RegistrationFormTransitionDto.APPROVE);
+    TransitionRegistrationFormsRequestDto reject = request(RegistrationFormTransitionDto.REJECT);
+
+    assertThatThrownBy(() -> resource.transitionRegistrationForms(approve))
+        .isInstanceOf(AccessDeniedException.class);
+    assertThatThrownBy(() -> resource.transitionRegistrationForms(reject))
+        .isInstanceOf(AccessDeniedException.class);
+    verifyNoInteractions(writeService);
+  }
+
+  @Test
+  void appliesDecisionsWithDecideScope() {
+    authenticate(OnboardRegistrationApiResource.DECIDE_AUTHORITY);
+    when(writeService.transitionRegistrationForms(
+            anyList(), eq(RegistrationFormTransition.APPROVE), any()))
+        .thenReturn(List.of());
+
+    assertThat(
+            resource
+                .transitionRegistrationForms(request(RegistrationFormTransitionDto.APPROVE))
+                .getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  void appliesOtherTransitionsWithoutDecideScope() {
+    authenticate("SCOPE_registration:write");
+    when(writeService.transitionRegistrationForms(
+            anyList(), eq(RegistrationFormTransition.SUBMIT), any()))
+        .thenReturn(List.of());
+
+    assertThat(
+            resource
+                .transitionRegistrationForms(request(RegistrationFormTransitionDto.SUBMIT))
+                .getStatusCode())
+        .isEqualTo(HttpStatus.OK);
+  }
+
+  private static void authenticate(String authority) {
+    SecurityContextHolder.getContext()
+        .setAuthentication(new TestingAuthenticationToken("operator", null, authority));
+  }
+
+  private static TransitionRegistrationFormsRequestDto request(
+      RegistrationFormTransitionDto transition) {
+    return TransitionRegistrationFormsRequestDto.builder()
+        .formIds(List.of("0f8fad5b-d9cb-469c-90bf-240ec293665f"))
+        .transition(transition)
+        .build();
+  }
+}
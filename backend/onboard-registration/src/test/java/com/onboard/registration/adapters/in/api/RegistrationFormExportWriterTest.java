@@ -0,0 +1,96 @@
+package com.onboard.registration.adapters.in.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.vo.FormData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+class RegistrationFormExportWriterTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final Instant NOW = Instant.parse("2026-03-01T10:15:30Z");
+
+  @Test
+  void ndjsonTerminatesEveryLine() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    try (RegistrationFormExportWriter writer =
+        RegistrationFormExportWriter.ndjson(
+            out, OBJECT_MAPPER, form -> new Line(form.id(), form.formContent()))) {
+      writer.write(form("RF-1", null));
+      writer.write(form("RF-2", null));
+    }
+
+    assertThat(out.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            "{\"id\":\"RF-1\",\"content\":{\"name\":\"Alice\"}}\n"
+                + "{\"id\":\"RF-2\",\"content\":{\"name\":\"Alice\"}}\n");
+  }
+
+  @Test
+  void ndjsonWritesNothingWithoutForms() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    RegistrationFormExportWriter.ndjson(out, OBJECT_MAPPER, RegistrationForm::id).close();
+
+    assertThat(out.size()).isZero();
+  }
+
+  @Test
+  void csvQuotesFieldsThatNeedIt() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    try (RegistrationFormExportWriter writer = RegistrationFormExportWriter.csv(out)) {
+      writer.write(form("RF-1", "needs \"review\", soon"));
+    }
+
+    assertThat(out.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            RegistrationFormExportWriter.CsvWriter.HEADER
+                + "\r\n"
+                + "RF-1,REF-001,PRD-LOAN,DRAFT,,2026-03-01T10:15:30Z,2026-03-01T10:15:30Z,"
+                + "\"needs \"\"review\"\", soon\",\"{\"\"name\"\":\"\"Alice\"\"}\"\r\n");
+  }
+
+  @Test
+  void csvNeutralizesCellsThatStartAFormula() {
+    assertThat(RegistrationFormExportWriter.CsvWriter.field("=HYPERLINK(\"x\")"))
+        .isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+    assertThat(RegistrationFormExportWriter.CsvWriter.field("+1")).isEqualTo("'+1");
+    assertThat(RegistrationFormExportWriter.CsvWriter.field("-1")).isEqualTo("'-1");
+    assertThat(RegistrationFormExportWriter.CsvWriter.field("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+    assertThat(RegistrationFormExportWriter.CsvWriter.field("a=b")).isEqualTo("a=b");
+  }
+
+  @Test
+  void csvWritesHeaderWithoutForms() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    RegistrationFormExportWriter.csv(out).close();
+
+    assertThat(out.toString(StandardCharsets.UTF_8))
+        .isEqualTo(RegistrationFormExportWriter.CsvWriter.HEADER + "\r\n");
+  }
+
+  record Line(String id, FormData content) {}
+
+  private static RegistrationForm form(String id, String submissionNote) {
+    return new RegistrationForm(
+        id,
+        "REF-001",
+        "PRD-LOAN",
+        FormData.wrap(OBJECT_MAPPER.createObjectNode().put("name", "Alice")),
+        RegistrationFormStatus.DRAFT,
+        null,
+        NOW,
+        NOW,
+        submissionNote);
+  }
+}
@@ -0,0 +1,58 @@
+package com.onboard.registration.adapters.in.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onboard.registration.domain.model.RegistrationFormImportLine;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+
+class RegistrationFormImportReaderTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  void readsOneLinePerFormAndKeepsLineNumbersAcrossBlankLines() {
+    List<RegistrationFormImportLine> lines =
+        read(
+            """
+            {"productCode":"SAVINGS","formContent":{"firstName":"Taylor"}}
+
+            {"formContent":{"firstName":"Jo"}}
+            """);
+
+    assertThat(lines).extracting(RegistrationFormImportLine::number).containsExactly(1L, 3L);
+    assertThat(lines.get(0).productCode()).isEqualTo("SAVINGS");
+    assertThat(lines.get(0).formContent().get("firstName").stringValue()).isEqualTo("Taylor");
+    assertThat(lines.get(1).productCode()).isNull();
+    assertThat(lines.get(1).problem()).isNull();
+  }
+
+  @Test
+  void turnsUnreadableLinesIntoMalformedLines() {
+    List<RegistrationFormImportLine> lines =
+        read(
+            """
+            {"formContent":
+            null
+            {"formContent":{"firstName":"Jo"}}
+            """);
+
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0).problem()).startsWith("line is not a valid form");
+    assertThat(lines.get(1).problem()).isEqualTo("line is not a valid form");
+    assertThat(lines.get(2).problem()).isNull();
+  }
+
+  private static List<RegistrationFormImportLine> read(String body) {
+    RegistrationFormImportReader reader =
+        new RegistrationFormImportReader(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), OBJECT_MAPPER);
+    List<RegistrationFormImportLine> lines = new ArrayList<>();
+    reader.forEachRemaining(lines::add);
+    return lines;
+  }
+}
@@ -0,0 +1,40 @@
+package com.onboard.registration.adapters.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.onboard.infrastructure.core.persistence.PartitionHint;
+import com.onboard.infrastructure.core.persistence.UuidV7;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RegistrationFormRepositoryAdapterTest {
+
+  private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+  @Test
+  void prunesTimeOrderedIdsToAnHourAroundTheirTimestamp() {
+    PartitionHint hint =
+        RegistrationFormRepositoryAdapter.partitionHintFor(UuidV7.generate(CREATED_AT));
+
+    assertThat(hint.getCriteria())
+        .extracting("column", "value1", "value2")
+        .containsExactly(
+            tuple(
+                "createdAt",
+                Instant.parse("2026-03-01T09:15:30Z"),
+                Instant.parse("2026-03-01T11:15:30Z")));
+    assertThat(hint.isAllowFullScan()).isTrue();
+  }
+
+  @Test
+  void looksUpRandomIdsWithoutPruning() {
+    PartitionHint hint =
+        RegistrationFormRepositoryAdapter.partitionHintFor(
+            UUID.fromString("fd4dcdb6-b2f6-4726-a17f-8ea363d2cd3e"));
+
+    assertThat(hint.getCriteria()).isEmpty();
+    assertThat(hint.isAllowFullScan()).isTrue();
+  }
+}
@@ -0,0 +1,218 @@
+package com.onboard.registration.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onboard.registration.application.port.out.RegistrationEventPort;
+import com.onboard.registration.application.port.out.RegistrationFormCommandPort;
+import com.onboard.registration.domain.model.ReferenceNumberBlock;
+import com.onboard.registration.domain.model.RegistrationEventType;
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormImportLine;
+import com.onboard.registration.domain.model.RegistrationFormImportResult;
+import com.onboard.registration.domain.vo.FormData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.node.JsonNodeFactory;
+
+class OnboardRegistrationImportServiceImplTest {
+
+  private final RecordingCommandPort commandPort = new RecordingCommandPort();
+  private final List<String> events = new ArrayList<>();
+  private final AtomicLong nextReference = new AtomicLong(1);
+
+  @Test
+  void reportsOneResultPerLineInInputOrder() {
+    OnboardRegistrationImportServiceImpl service = service(3, 2);
+    List<RegistrationFormImportLine> lines =
+        LongStream.rangeClosed(1, 10)
+            .mapToObj(
+                number ->
+                    number == 4
+                        ? RegistrationFormImportLine.malformed(number, "line is not a valid form")
+                        : RegistrationFormImportLine.of(number, null, content(number)))
+            .toList();
+
+    List<RegistrationFormImportResult> results = new ArrayList<>();
+    service.importRegistrationForms(lines.iterator(), results::add);
+
+    assertThat(results)
+        .extracting(RegistrationFormImportResult::line)
+        .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    assertThat(results.get(3).isCreated()).isFalse();
+    assertThat(results.get(3).error()).isEqualTo("line is not a valid form");
+    assertThat(results).filteredOn(RegistrationFormImportResult::isCreated).hasSize(9);
+    assertThat(results)
+        .filteredOn(RegistrationFormImportResult::isCreated)
+        .extracting(RegistrationFormImportResult::referenceNo)
+        .doesNotHaveDuplicates();
+    assertThat(commandPort.created).hasSize(9);
+    assertThat(events).hasSize(9).containsOnly(RegistrationEventType.CREATED.name());
+  }
+
+  @Test
+  void rejectsEmptyContentWithoutStoringIt() {
+    OnboardRegistrationImportServiceImpl service = service(10, 1);
+
+    List<RegistrationFormImportResult> results = new ArrayList<>();
+    service.importRegistrationForms(
+        List.of(
+                RegistrationFormImportLine.of(1, "SAVINGS", null),
+                RegistrationFormImportLine.of(
+                    2, "SAVINGS", FormData.wrap(JsonNodeFactory.instance.objectNode())))
+            .iterator(),
+        results::add);
+
+    assertThat(results)
+        .extracting(RegistrationFormImportResult::error)
+        .containsOnly("formContent must not be empty");
+    assertThat(commandPort.created).isEmpty();
+  }
+
+  @Test
+  void rejectsOnlyTheLinesOfAFailingChunk() {
+    commandPort.failOnProductCode = "BROKEN";
+    commandPort.failure = new IllegalStateException("connection lost");
+    OnboardRegistrationImportServiceImpl service = service(2, 2);
+
+    List<RegistrationFormImportResult> results = new ArrayList<>();
+    service.importRegistrationForms(
+        List.of(
+                RegistrationFormImportLine.of(1, "SAVINGS", content(1)),
+                RegistrationFormImportLine.of(2, "SAVINGS", content(2)),
+                RegistrationFormImportLine.of(3, "BROKEN", content(3)),
+                RegistrationFormImportLine.of(4, "SAVINGS", content(4)))
+            .iterator(),
+        results::add);
+
+    assertThat(results)
+        .extracting(RegistrationFormImportResult::isCreated)
+        .containsExactly(true, true, false, false);
+  }
+
+  @Test
+  void rejectsOnlyTheRowsTheDatabaseRefuses() {
+    commandPort.failOnProductCode = "BROKEN";
+    OnboardRegistrationImportServiceImpl service = service(500, 1);
+    List<RegistrationFormImportLine> lines =
+        LongStream.rangeClosed(1, 10)
+            .mapToObj(
+                number ->
+                    RegistrationFormImportLine.of(
+                        number, number == 3 || number == 8 ? "BROKEN" : "SAVINGS", content(number)))
+            .toList();
+
+    List<RegistrationFormImportResult> results = new ArrayList<>();
+    service.importRegistrationForms(lines.iterator(), results::add);
+
+    assertThat(results)
+        .extracting(RegistrationFormImportResult::line)
+        .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+    assertThat(results)
+        .filteredOn(result -> !result.isCreated())
+        .extracting(RegistrationFormImportResult::line)
+        .containsExactly(3L, 8L);
+    assertThat(commandPort.created).hasSize(8);
+    assertThat(events).hasSize(8);
+  }
+
+  @Test
+  void rejectsOverlongProductCodeWithoutStoringIt() {
+    OnboardRegistrationImportServiceImpl service = service(10, 1);
+    String productCode = "P".repeat(RegistrationForm.PRODUCT_CODE_MAX_LENGTH + 1);
+
+    List<RegistrationFormImportResult> results = new ArrayList<>();
+    service.importRegistrationForms(
+        List.of(
+                RegistrationFormImportLine.of(1, "SAVINGS", content(1)),
+                RegistrationFormImportLine.of(2, productCode, content(2)))
+            .iterator(),
+        results::add);
+
+    assertThat(results)
+        .extracting(RegistrationFormImportResult::isCreated)
+        .containsExactly(true, false);
+    assertThat(results.get(1).error()).isEqualTo("productCode must not exceed 128 characters");
+    assertThat(commandPort.created).hasSize(1);
+  }
+
+  private OnboardRegistrationImportServiceImpl service(int chunkSize, int parallelism) {
+    RegistrationEventPort eventPort = (type, form) -> recordEvent(type);
+    return new OnboardRegistrationImportServiceImpl(
+        commandPort,
+        new ReferenceNumberAllocator(
+            (year, blockSize) -> {
+              long first = nextReference.getAndAdd(blockSize);
+              return new ReferenceNumberBlock(year, first, first + blockSize);
+            },
+            10),
+        new RegistrationFormCache(
+            new StaticListableBeanFactory().getBeanProvider(CacheManager.class)),
+        eventPort,
+        new NoOpTransactionManager(),
+        chunkSize,
+        parallelism);
+  }
+
+  private synchronized void recordEvent(RegistrationEventType type) {
+    events.add(type.name());
+  }
+
+  private static FormData content(long number) {
+    return FormData.wrap(JsonNodeFactory.instance.objectNode().put("firstName", "Taylor" + number));
+  }
+
+  private static final class RecordingCommandPort implements RegistrationFormCommandPort {
+    private final Set<RegistrationForm> created = ConcurrentHashMap.newKeySet();
+    private String failOnProductCode;
+    private RuntimeException failure = new DataIntegrityViolationException("value too long");
+
+    @Override
+    public RegistrationForm create(RegistrationForm form) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<RegistrationForm> createAll(List<RegistrationForm> forms) {
+      if (forms.stream().anyMatch(form -> form.productCode().equals(failOnProductCode))) {
+        throw failure;
+      }
+      created.addAll(forms);
+      return forms;
+    }
+
+    @Override
+    public Optional<RegistrationForm> update(
+        String formId, UnaryOperator<RegistrationForm> transition) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  /** Runs each chunk callback directly; the ports under test are not transactional. */
+  private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+      return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {}
+
+    @Override
+    public void rollback(TransactionStatus status) {}
+  }
+}
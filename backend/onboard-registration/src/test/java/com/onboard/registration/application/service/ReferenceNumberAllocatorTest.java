@@ -0,0 +1,101 @@
+package com.onboard.registration.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.onboard.registration.application.port.out.ReferenceNumberBlockPort;
+import com.onboard.registration.domain.model.ReferenceNumberBlock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ReferenceNumberAllocatorTest {
+
+  private static final Instant IN_2026 = Instant.parse("2026-06-01T00:00:00Z");
+
+  @Test
+  void allocatesUniqueNumbersAcrossNodesAndVirtualThreads() throws Exception {
+    InMemoryBlockPort blockPort = new InMemoryBlockPort(1);
+    List<ReferenceNumberAllocator> nodes = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      nodes.add(new ReferenceNumberAllocator(blockPort, 25));
+    }
+    int allocationsPerNode = 2_500;
+
+    List<Future<String>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (ReferenceNumberAllocator node : nodes) {
+        for (int i = 0; i < allocationsPerNode; i++) {
+          futures.add(executor.submit(() -> node.next(IN_2026)));
+        }
+      }
+    }
+
+    Set<String> referenceNumbers = ConcurrentHashMap.newKeySet();
+    for (Future<String> future : futures) {
+      referenceNumbers.add(future.get());
+    }
+    assertThat(referenceNumbers).hasSize(nodes.size() * allocationsPerNode);
+    assertThat(referenceNumbers).allMatch(number -> number.matches("REG-2026-\\d{5,}"));
+    // One database round trip per block, not per form.
+    assertThat(blockPort.leases.get()).isLessThanOrEqualTo(nodes.size() * allocationsPerNode / 25);
+  }
+
+  @Test
+  void restartsSequenceForNewYear() {
+    ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(new InMemoryBlockPort(1), 10);
+
+    assertThat(allocator.next(IN_2026)).isEqualTo("REG-2026-00001");
+    assertThat(allocator.next(IN_2026)).isEqualTo("REG-2026-00002");
+    assertThat(allocator.next(Instant.parse("2027-01-01T00:00:00Z"))).isEqualTo("REG-2027-00001");
+  }
+
+  @Test
+  void widensPastFiveDigitsInsteadOfOverflowing() {
+    ReferenceNumberAllocator allocator =
+        new ReferenceNumberAllocator(new InMemoryBlockPort(99_999), 10);
+
+    assertThat(allocator.next(IN_2026)).isEqualTo("REG-2026-99999");
+    assertThat(allocator.next(IN_2026)).isEqualTo("REG-2026-100000");
+  }
+
+  @Test
+  void allocatesBatchFromOneDedicatedLease() {
+    InMemoryBlockPort blockPort = new InMemoryBlockPort(1);
+    ReferenceNumberAllocator allocator = new ReferenceNumberAllocator(blockPort, 10);
+
+    assertThat(allocator.next(IN_2026)).isEqualTo("REG-2026-00001");
+    assertThat(allocator.nextBatch(IN_2026, 3))
+        .containsExactly("REG-2026-00011", "REG-2026-00012", "REG-2026-00013");
+    // The shared block is left untouched by the batch.
+    assertThat(allocator.next(IN_2026)).isEqualTo("REG-2026-00002");
+    assertThat(blockPort.leases.get()).isEqualTo(2);
+  }
+
+  /** Stands in for the shared database counter that all nodes lease from. */
+  private static final class InMemoryBlockPort implements ReferenceNumberBlockPort {
+    private final long firstValue;
+    private final Map<Integer, AtomicLong> nextValues = new ConcurrentHashMap<>();
+    private final AtomicInteger leases = new AtomicInteger();
+
+    private InMemoryBlockPort(long firstValue) {
+      this.firstValue = firstValue;
+    }
+
+    @Override
+    public ReferenceNumberBlock leaseBlock(int year, int blockSize) {
+      leases.incrementAndGet();
+      long first =
+          nextValues.computeIfAbsent(year, y -> new AtomicLong(firstValue)).getAndAdd(blockSize);
+      return new ReferenceNumberBlock(year, first, first + blockSize);
+    }
+  }
+}
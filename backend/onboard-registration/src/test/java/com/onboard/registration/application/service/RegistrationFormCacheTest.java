@@ -0,0 +1,215 @@
+package com.onboard.registration.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.onboard.infrastructure.core.persistence.ReadFreshness;
+import com.onboard.registration.application.exception.RegistrationFormNotFoundException;
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormPage;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.vo.FormData;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import tools.jackson.databind.node.JsonNodeFactory;
+
+class RegistrationFormCacheTest {
+
+  private final RegistrationFormCache cache =
+      new RegistrationFormCache(
+          new StaticListableBeanFactory(Map.of("cacheManager", new ConcurrentMapCacheManager()))
+              .getBeanProvider(CacheManager.class));
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void servesRepeatedDetailReadsFromCache() {
+    RegistrationForm form = form("form-1");
+
+    cache.getDetail("form-1", () -> load(form));
+    RegistrationForm cached = cache.getDetail("form-1", () -> load(form("other")));
+
+    assertThat(cached).isEqualTo(form);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void sharesListPagesAcrossEquivalentKeywords() {
+    loadPage(" Taylor ");
+    loadPage("taylor");
+
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void writeInvalidatesAllListPagesAndRefreshesDetail() {
+    loadPage("taylor");
+    loadPage(null);
+    RegistrationForm changed = form("form-1");
+
+    cache.formChanged(changed);
+    loadPage("taylor");
+    loadPage(null);
+
+    assertThat(loads).hasValue(4);
+    assertThat(cache.getDetail("form-1", () -> load(form("other")))).isEqualTo(changed);
+  }
+
+  @Test
+  void doesNotCacheAListReadFromAReplicaBehindTheLastWrite() {
+    cache.formChanged(form("form-1"));
+
+    // The routing datasource flags a read served by a replica that lags the write.
+    cache.getPage(
+        RegistrationFormStatus.DRAFT,
+        null,
+        0,
+        20,
+        null,
+        true,
+        () -> {
+          ReadFreshness.markPossiblyStale();
+          return load(page(0L));
+        });
+    RegistrationFormPage caughtUp =
+        cache.getPage(
+            RegistrationFormStatus.DRAFT, null, 0, 20, null, true, () -> load(page(1L)));
+
+    assertThat(caughtUp.totalElements()).isEqualTo(1L);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void bypassesListCacheWhenTheRequestMustSeeItsWrites() {
+    loadPage(null);
+
+    ReadFreshness.requirePosition(true);
+    try {
+      loadPage(null);
+    } finally {
+      ReadFreshness.requirePosition(false);
+    }
+    loadPage(null);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void loaderExceptionReachesCallerUnwrappedWithoutCacheManager() {
+    RegistrationFormCache passThrough =
+        new RegistrationFormCache(
+            new StaticListableBeanFactory().getBeanProvider(CacheManager.class));
+
+    assertThatThrownBy(
+            () ->
+                passThrough.getDetail(
+                    "form-1",
+                    () -> {
+                      loads.incrementAndGet();
+                      throw new RegistrationFormNotFoundException("form-1");
+                    }))
+        .isInstanceOf(RegistrationFormNotFoundException.class);
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void failingCacheStoreIsBypassed() {
+    RegistrationFormCache failing =
+        new RegistrationFormCache(
+            new StaticListableBeanFactory(
+                    Map.of(
+                        "cacheManager",
+                        new ConcurrentMapCacheManager() {
+                          @Override
+                          protected Cache createConcurrentMapCache(String name) {
+                            return new FailingCache(name);
+                          }
+                        }))
+                .getBeanProvider(CacheManager.class));
+    RegistrationForm form = form("form-1");
+
+    assertThat(failing.getDetail("form-1", () -> load(form))).isEqualTo(form);
+    failing.getPage(
+        RegistrationFormStatus.DRAFT,
+        null,
+        0,
+        20,
+        null,
+        true,
+        () -> load(new RegistrationFormPage(List.of(), 0, 20, 0L, 0, null)));
+    assertThatCode(() -> failing.formChanged(form)).doesNotThrowAnyException();
+    assertThatCode(failing::formsAdded).doesNotThrowAnyException();
+    assertThat(loads).hasValue(2);
+  }
+
+  private void loadPage(String keyword) {
+    cache.getPage(
+        RegistrationFormStatus.DRAFT,
+        keyword,
+        0,
+        20,
+        null,
+        true,
+        () -> load(page(0L)));
+  }
+
+  private static RegistrationFormPage page(long totalElements) {
+    return new RegistrationFormPage(List.of(), 0, 20, totalElements, 0, null);
+  }
+
+  private <T> T load(T value) {
+    loads.incrementAndGet();
+    return value;
+  }
+
+  /** Cache whose store is unreachable. */
+  private static final class FailingCache extends ConcurrentMapCache {
+
+    private FailingCache(String name) {
+      super(name);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+      throw new IllegalStateException("cache down");
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+      throw new IllegalStateException("cache down");
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+      throw new IllegalStateException("cache down");
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+      throw new IllegalStateException("cache down");
+    }
+  }
+
+  private static RegistrationForm form(String id) {
+    Instant now = Instant.parse("2026-02-11T00:00:00Z");
+    return new RegistrationForm(
+        id,
+        "REG-2026-00001",
+        "SAVINGS",
+        FormData.wrap(JsonNodeFactory.instance.objectNode().put("firstName", "Taylor")),
+        RegistrationFormStatus.DRAFT,
+        null,
+        now,
+        now,
+        null);
+  }
+}
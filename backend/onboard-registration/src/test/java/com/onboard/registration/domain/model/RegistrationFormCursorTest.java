@@ -0,0 +1,45 @@
+package com.onboard.registration.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RegistrationFormCursorTest {
+
+  @Test
+  void encodedCursorDecodesToSameKeysetPosition() {
+    RegistrationFormCursor cursor =
+        new RegistrationFormCursor(
+            Instant.parse("2026-02-10T10:15:30.123456Z"),
+            UUID.fromString("0f8fad5b-d9cb-469c-90bf-240ec293665f"));
+
+    String token = cursor.encode();
+
+    assertThat(token).doesNotContain("=", "+", "/");
+    assertThat(RegistrationFormCursor.decode(token)).isEqualTo(cursor);
+  }
+
+  @Test
+  void decodeRejectsMalformedToken() {
+    assertThatThrownBy(() -> RegistrationFormCursor.decode("not-a-cursor"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void decodeRejectsTimestampOutOfRange() {
+    String token =
+        Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(
+                (Long.MAX_VALUE + ".0:0f8fad5b-d9cb-469c-90bf-240ec293665f")
+                    .getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> RegistrationFormCursor.decode(token))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -1,7 +1,9 @@
 package com.onboard.registration.domain.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.onboard.registration.domain.vo.FormData;
 import java.time.Instant;
 import org.junit.jupiter.api.Test;
 import tools.jackson.databind.ObjectMapper;
@@ -43,10 +45,76 @@ class RegistrationFormTest {
     assertThat(a.hashCode()).isEqualTo(b.hashCode());
   }
 
-  private static ObjectNode createFormContent(String name, int age) {
+  @Test
+  void decidesSubmittedForms() {
+    Instant now = Instant.parse("2026-02-10T10:15:30Z");
+    Instant later = now.plusSeconds(60);
+    RegistrationForm submitted = draft(now).submit("ready", now);
+
+    RegistrationForm approved = submitted.approve(later);
+    RegistrationForm rejected = submitted.reject(later);
+
+    assertThat(approved.status()).isEqualTo(RegistrationFormStatus.APPROVED);
+    assertThat(rejected.status()).isEqualTo(RegistrationFormStatus.REJECTED);
+    assertThat(approved.updatedAt()).isEqualTo(later);
+    assertThat(approved.submittedAt()).isEqualTo(now);
+    assertThat(approved.submissionNote()).isEqualTo("ready");
+  }
+
+  @Test
+  void cancelsDraftAndSubmittedForms() {
+    Instant now = Instant.parse("2026-02-10T10:15:30Z");
+
+    assertThat(draft(now).cancel(now).status()).isEqualTo(RegistrationFormStatus.CANCELLED);
+    assertThat(draft(now).submit(null, now).cancel(now).status())
+        .isEqualTo(RegistrationFormStatus.CANCELLED);
+  }
+
+  @Test
+  void rejectsTransitionsTheStatusDoesNotAllow() {
+    Instant now = Instant.parse("2026-02-10T10:15:30Z");
+    RegistrationForm approved = draft(now).submit(null, now).approve(now);
+
+    assertThatThrownBy(() -> draft(now).approve(now))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("cannot approve when status is DRAFT");
+    assertThatThrownBy(() -> draft(now).reject(now)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> approved.cancel(now)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> approved.submit(null, now))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void transitionAppliesMatchingDomainRule() {
+    Instant now = Instant.parse("2026-02-10T10:15:30Z");
+
+    RegistrationForm submitted = RegistrationFormTransition.SUBMIT.apply(draft(now), "ready", now);
+
+    assertThat(submitted.status()).isEqualTo(RegistrationFormStatus.SUBMITTED);
+    assertThat(submitted.submissionNote()).isEqualTo("ready");
+    assertThat(RegistrationFormTransition.APPROVE.apply(submitted, "ignored", now).status())
+        .isEqualTo(RegistrationFormStatus.APPROVED);
+    assertThat(RegistrationFormTransition.CANCEL.eventType())
+        .isEqualTo(RegistrationEventType.CANCELLED);
+  }
+
+  private static RegistrationForm draft(Instant now) {
+    return new RegistrationForm(
+        "RF-1",
+        "REF-001",
+        "PRD-LOAN",
+        createFormContent("Alice", 30),
+        RegistrationFormStatus.DRAFT,
+        null,
+        now,
+        now,
+        null);
+  }
+
+  private static FormData createFormContent(String name, int age) {
     ObjectNode formContent = OBJECT_MAPPER.createObjectNode();
     formContent.put("name", name);
     formContent.put("age", age);
-    return formContent;
+    return FormData.wrap(formContent);
   }
 }
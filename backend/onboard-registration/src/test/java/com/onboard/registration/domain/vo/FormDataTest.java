@@ -0,0 +1,46 @@
+package com.onboard.registration.domain.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+class FormDataTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  @Test
+  void readsAndWritesAsRawJsonObject() {
+    String json = "{\"name\":\"Alice\",\"income\":{\"amount\":2000,\"currency\":\"USD\"}}";
+
+    FormData formData = OBJECT_MAPPER.readValue(json, FormData.class);
+
+    assertThat(formData.get("name").stringValue()).isEqualTo("Alice");
+    assertThat(OBJECT_MAPPER.writeValueAsString(formData)).isEqualTo(json);
+    assertThat(formData.json()).isEqualTo(json);
+  }
+
+  @Test
+  void copyOfIsolatesFromLaterChangesToTheSource() {
+    ObjectNode source = OBJECT_MAPPER.createObjectNode().put("name", "Alice");
+
+    FormData formData = FormData.copyOf(source);
+    source.put("name", "Bob");
+
+    assertThat(formData.get("name").stringValue()).isEqualTo("Alice");
+  }
+
+  @Test
+  void nestedValuesAreHandedOutAsCopies() {
+    ObjectNode source = OBJECT_MAPPER.createObjectNode();
+    source.putObject("income").put("amount", 2000);
+    FormData formData = FormData.wrap(source);
+
+    ((ObjectNode) formData.get("income")).put("amount", 9999);
+    formData.toObjectNode().put("name", "Bob");
+
+    assertThat(formData.get("income").get("amount").intValue()).isEqualTo(2000);
+    assertThat(formData.get("name")).isNull();
+  }
+}
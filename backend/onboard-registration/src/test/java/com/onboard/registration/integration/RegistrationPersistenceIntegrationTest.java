@@ -2,11 +2,18 @@ package com.onboard.registration.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.onboard.infrastructure.core.persistence.UuidV7;
 import com.onboard.registration.RegistrationIntegrationTestApplication;
 import com.onboard.registration.adapters.out.persistence.RegistrationFormRepositoryAdapter;
+import com.onboard.registration.application.port.in.OnboardRegistrationReadService;
 import com.onboard.registration.domain.model.RegistrationForm;
 import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.vo.FormData;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -18,6 +25,7 @@ import tools.jackson.databind.node.ObjectNode;
 class RegistrationPersistenceIntegrationTest extends AbstractPostgresIntegrationTest {
 
   @Autowired private RegistrationFormRepositoryAdapter repositoryAdapter;
+  @Autowired private OnboardRegistrationReadService readService;
 
   @Test
   void savesAndReadsRegistrationFormFromPostgres() {
@@ -36,7 +44,7 @@ class RegistrationPersistenceIntegrationTest extends AbstractPostgresIntegration
             now,
             null);
 
-    repositoryAdapter.save(form);
+    repositoryAdapter.create(form);
 
     RegistrationForm saved = repositoryAdapter.findById(formId).orElseThrow();
 
@@ -46,11 +54,63 @@ class RegistrationPersistenceIntegrationTest extends AbstractPostgresIntegration
     assertThat(saved.status()).isEqualTo(RegistrationFormStatus.DRAFT);
   }
 
-  private static ObjectNode createFormContent() {
+  @Test
+  void findsTimeOrderedIdCreatedOutsideItsPartitionWindow() {
+    Instant now = Instant.now();
+    String formId = UuidV7.generate(now.minus(Duration.ofHours(3))).toString();
+    repositoryAdapter.create(
+        new RegistrationForm(
+            formId,
+            "REG-2026-SKEWED",
+            "SAVINGS",
+            createFormContent(),
+            RegistrationFormStatus.DRAFT,
+            null,
+            now,
+            now,
+            null));
+
+    assertThat(repositoryAdapter.findById(formId)).map(RegistrationForm::id).contains(formId);
+  }
+
+  @Test
+  void exportStreamsFormsUpdatedInRangeOldestFirst() {
+    Instant from = Instant.now();
+    RegistrationForm first = repositoryAdapter.create(draft("REG-2026-EXPORT-1"));
+    RegistrationForm second = repositoryAdapter.create(draft("REG-2026-EXPORT-2"));
+
+    List<String> exportedIds = new ArrayList<>();
+    readService.exportRegistrationForms(
+        RegistrationFormStatus.DRAFT, from, null, form -> exportedIds.add(form.id()));
+
+    assertThat(exportedIds).containsSubsequence(first.id(), second.id());
+
+    List<String> submittedIds = new ArrayList<>();
+    readService.exportRegistrationForms(
+        RegistrationFormStatus.SUBMITTED, from, null, form -> submittedIds.add(form.id()));
+
+    assertThat(submittedIds).doesNotContain(first.id(), second.id());
+  }
+
+  private static RegistrationForm draft(String referenceNo) {
+    Instant now = Instant.now();
+    return new RegistrationForm(
+        UUID.randomUUID().toString(),
+        referenceNo,
+        "SAVINGS",
+        createFormContent(),
+        RegistrationFormStatus.DRAFT,
+        null,
+        now,
+        now,
+        null);
+  }
+
+  private static FormData createFormContent() {
     ObjectNode content = JsonNodeFactory.instance.objectNode();
     content.put("firstName", "Taylor");
     content.put("lastName", "Nguyen");
     content.put("email", "taylor@example.com");
-    return content;
+    return FormData.wrap(content);
   }
 }
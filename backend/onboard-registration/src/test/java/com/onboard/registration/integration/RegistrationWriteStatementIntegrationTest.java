@@ -0,0 +1,134 @@
+package com.onboard.registration.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.onboard.registration.RegistrationIntegrationTestApplication;
+import com.onboard.registration.adapters.out.persistence.RegistrationFormJpaEntity;
+import com.onboard.registration.adapters.out.persistence.RegistrationOutboxJpaEntity;
+import com.onboard.registration.application.port.in.OnboardRegistrationWriteService;
+import com.onboard.registration.domain.model.RegistrationForm;
+import com.onboard.registration.domain.model.RegistrationFormStatus;
+import com.onboard.registration.domain.model.RegistrationFormTransition;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult;
+import com.onboard.registration.domain.model.RegistrationFormTransitionResult.Outcome;
+import com.onboard.registration.domain.vo.FormData;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Verifies that write use cases load a registration form once, update it in place and record their
+ * event with a single outbox insert.
+ */
+@SpringBootTest(
+    classes = RegistrationIntegrationTestApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RegistrationWriteStatementIntegrationTest extends AbstractPostgresIntegrationTest {
+
+  @Autowired private OnboardRegistrationWriteService writeService;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void resetStatistics() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  void createInsertsWithoutSelectingFirst() {
+    writeService.createRegistrationForm("SAVINGS", formContent("Taylor"));
+
+    // Reference number block leases touch their own table, so count form statements only.
+    EntityStatistics formStatistics =
+        statistics.getEntityStatistics(RegistrationFormJpaEntity.class.getName());
+    assertThat(formStatistics.getLoadCount()).isZero();
+    assertThat(formStatistics.getInsertCount()).isEqualTo(1);
+    assertOutboxInsertedWithoutSelect();
+  }
+
+  @Test
+  void updateIssuesOneSelectAndOneUpdateAndOneOutboxInsert() {
+    RegistrationForm created =
+        writeService.createRegistrationForm("SAVINGS", formContent("Taylor"));
+    statistics.clear();
+
+    RegistrationForm updated = writeService.updateRegistrationForm(created.id(), formContent("Jo"));
+
+    assertThat(updated.formContent().get("firstName").stringValue()).isEqualTo("Jo");
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertOutboxInsertedWithoutSelect();
+  }
+
+  @Test
+  void submitIssuesOneSelectAndOneUpdateAndOneOutboxInsert() {
+    RegistrationForm created =
+        writeService.createRegistrationForm("SAVINGS", formContent("Taylor"));
+    statistics.clear();
+
+    RegistrationForm submitted = writeService.submitRegistrationForm(created.id(), "ready");
+
+    assertThat(submitted.status()).isEqualTo(RegistrationFormStatus.SUBMITTED);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    assertOutboxInsertedWithoutSelect();
+  }
+
+  @Test
+  void batchTransitionLocksFormsWithOneSelectAndReportsEachId() {
+    RegistrationForm submitted =
+        writeService.submitRegistrationForm(
+            writeService.createRegistrationForm("SAVINGS", formContent("Taylor")).id(), null);
+    RegistrationForm draft = writeService.createRegistrationForm("SAVINGS", formContent("Jo"));
+    String missingId = UUID.randomUUID().toString();
+    statistics.clear();
+
+    List<RegistrationFormTransitionResult> results =
+        writeService.transitionRegistrationForms(
+            List.of(submitted.id(), draft.id(), missingId, "not-a-uuid"),
+            RegistrationFormTransition.APPROVE,
+            null);
+
+    assertThat(results)
+        .extracting(
+            RegistrationFormTransitionResult::formId, RegistrationFormTransitionResult::outcome)
+        .containsExactly(
+            tuple(submitted.id(), Outcome.TRANSITIONED),
+            tuple(draft.id(), Outcome.CONFLICT),
+            tuple(missingId, Outcome.NOT_FOUND),
+            tuple("not-a-uuid", Outcome.NOT_FOUND));
+    assertThat(results.getFirst().form().status()).isEqualTo(RegistrationFormStatus.APPROVED);
+    assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    assertThat(statistics.getEntityLoadCount()).isEqualTo(2);
+    assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    assertOutboxInsertedWithoutSelect();
+  }
+
+  private void assertOutboxInsertedWithoutSelect() {
+    EntityStatistics outboxStatistics =
+        statistics.getEntityStatistics(RegistrationOutboxJpaEntity.class.getName());
+    assertThat(outboxStatistics.getLoadCount()).isZero();
+    assertThat(outboxStatistics.getInsertCount()).isEqualTo(1);
+  }
+
+  private static FormData formContent(String firstName) {
+    ObjectNode content = JsonNodeFactory.instance.objectNode();
+    content.put("firstName", firstName);
+    content.put("email", "taylor@example.com");
+    return FormData.wrap(content);
+  }
+}
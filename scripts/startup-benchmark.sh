@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request of onboard-provider with the plain boot jar and with the AppCDS
+# archive produced by `./gradlew :backend:onboard-provider:cdsArchive` (add -Paot for AOT).
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+# Environment: PORT (default 18080), AOT (true when built with -Paot), AOT_PROFILES (the
+# -PaotProfiles of that build), PROFILES (default AOT_PROFILES with AOT, h2 otherwise).
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+AOT="${AOT:-false}"
+if [ "$AOT" = "true" ]; then
+  # An AOT build only runs with the profiles it was processed for.
+  PROFILES="${PROFILES:-${AOT_PROFILES:?AOT=true requires AOT_PROFILES}}"
+else
+  PROFILES="${PROFILES:-h2}"
+fi
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+BUILD_DIR="$ROOT/backend/onboard-provider/build"
+BOOT_JAR="$BUILD_DIR/libs/app.jar"
+CDS_DIR="$BUILD_DIR/cds"
+MAIN_CLASS="com.onboard.provider.Application"
+
+for required in "$BOOT_JAR" "$CDS_DIR/app.jar" "$CDS_DIR/application.jsa"; do
+  if [[ ! -f "$required" ]]; then
+    echo "Missing $required; run ./gradlew :backend:onboard-provider:cdsArchive first" >&2
+    exit 1
+  fi
+done
+
+now_ms() {
+  date +%s%3N
+}
+
+# Starts the command, waits for the first HTTP response of any status and prints the elapsed ms.
+time_to_first_request() {
+  local start pid elapsed
+  start="$(now_ms)"
+  "$@" --server.port="$PORT" --spring.profiles.active="$PROFILES" >/dev/null 2>&1 &
+  pid=$!
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/")" != "000" ]]; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Application exited before serving a request" >&2
+      return 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(($(now_ms) - start))
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed"
+}
+
+median() {
+  sort -n | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+
+benchmark() {
+  local label="$1"
+  shift
+  local samples=()
+  for ((i = 1; i <= RUNS; i++)); do
+    samples+=("$(time_to_first_request "$@")")
+  done
+  printf '%-10s median %6s ms  runs: %s\n' \
+    "$label" "$(printf '%s\n' "${samples[@]}" | median)" "${samples[*]}"
+}
+
+benchmark "baseline" java -jar "$BOOT_JAR"
+# Same absolute classpath as the training run, otherwise the JVM refuses the archive.
+benchmark "cds" java -XX:SharedArchiveFile="$CDS_DIR/application.jsa" \
+  -Dspring.aot.enabled="$AOT" -cp "$CDS_DIR/app.jar" "$MAIN_CLASS"
@@ -58,4 +58,5 @@ include(
     ":backend:onboard-loan-origination",
     ":backend:onboard-registration",
     ":backend:onboard-core",
+    ":backend:onboard-benchmarks",
 )